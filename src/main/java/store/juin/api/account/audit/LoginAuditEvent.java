@@ -0,0 +1,18 @@
+package store.juin.api.account.audit;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+@Getter
+@ToString
+@AllArgsConstructor
+public class LoginAuditEvent {
+    private final String identification;
+
+    private final LocalDateTime loggedInAt;
+
+    private final String remoteAddress;
+}
@@ -0,0 +1,143 @@
+package store.juin.api.account.audit;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import store.juin.api.account.model.response.LoginAuditStatsResponse;
+import store.juin.api.account.repository.jpa.AccountRepository;
+import store.juin.api.common.handler.CommandTransactional;
+
+import javax.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 로그인 시각(account.last_login)과 로그인 기록(login_history)을 로그인 요청 밖에서 모아서 쓴다.
+ * <p>
+ * 로그인은 큐에 넣기만 하고 바로 돌아간다. 큐가 가득 차면 기다리지 않고 버린다. (버린 수는 droppedCount)
+ * login-audit.flush-interval(ms)마다 큐를 비우면서 같은 계정의 기록을 하나로 묶고, 배치 UPDATE / INSERT 한 번씩으로 반영한다.
+ * 서버가 죽으면 큐에 남은 기록은 잃는다. 로그인 자체에는 영향이 없는 기록이므로 받아들인다.
+ */
+@Slf4j
+@Component
+public class LoginAuditPipeline {
+    private final CommandTransactional commandTransactional;
+
+    private final AccountRepository accountRepository;
+
+    private final int queueCapacity;
+
+    private final int batchSize;
+
+    private final long flushInterval;
+
+    private final BlockingQueue<LoginAuditEvent> queue;
+
+    private final AtomicLong recordedCount = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final AtomicLong flushedCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+
+    private ScheduledExecutorService flushExecutor;
+
+    public LoginAuditPipeline(CommandTransactional commandTransactional,
+                              AccountRepository accountRepository,
+                              @Value("${login-audit.queue-capacity:10000}") int queueCapacity,
+                              @Value("${login-audit.batch-size:500}") int batchSize,
+                              @Value("${login-audit.flush-interval:1000}") long flushInterval) {
+        this.commandTransactional = commandTransactional;
+        this.accountRepository = accountRepository;
+        this.queueCapacity = queueCapacity;
+        this.batchSize = batchSize;
+        this.flushInterval = flushInterval;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        flushExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "login-audit-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flushExecutor.scheduleWithFixedDelay(this::flushQuietly, flushInterval, flushInterval, TimeUnit.MILLISECONDS);
+    }
+
+    // 로그인 요청 스레드에서 부른다. 막히지 않는다.
+    public void record(String identification, String remoteAddress) {
+        final LoginAuditEvent event = new LoginAuditEvent(identification, LocalDateTime.now(), remoteAddress);
+
+        if (queue.offer(event)) {
+            recordedCount.incrementAndGet();
+        } else {
+            droppedCount.incrementAndGet();
+        }
+    }
+
+    // 큐가 빌 때까지 batchSize씩 꺼내서 반영한다.
+    public void flush() {
+        final List<LoginAuditEvent> eventList = new ArrayList<>(batchSize);
+
+        while (queue.drainTo(eventList, batchSize) > 0) {
+            final List<LoginAuditSummary> summaryList = coalesce(eventList);
+
+            try {
+                commandTransactional.execute(() -> {
+                    accountRepository.updateLastLogin(summaryList);
+                    accountRepository.saveAllLoginHistory(summaryList);
+                });
+                flushedCount.addAndGet(eventList.size());
+            } catch (RuntimeException e) {
+                failedCount.addAndGet(eventList.size());
+                log.error("[P1][SERV][ACNT][AUDT]: 로그인 기록 반영 실패. events=({}), message=({})", eventList.size(), e.getMessage());
+            }
+
+            eventList.clear();
+        }
+    }
+
+    public LoginAuditStatsResponse readStats() {
+        return new LoginAuditStatsResponse()
+                .setQueueDepth(queue.size())
+                .setQueueCapacity(queueCapacity)
+                .setRecordedCount(recordedCount.get())
+                .setDroppedCount(droppedCount.get())
+                .setFlushedCount(flushedCount.get())
+                .setFailedCount(failedCount.get());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (flushExecutor != null) {
+            flushExecutor.shutdown();
+        }
+        flushQuietly();
+    }
+
+    private List<LoginAuditSummary> coalesce(List<LoginAuditEvent> eventList) {
+        final Map<String, LoginAuditSummary> summaryMap = new LinkedHashMap<>();
+        for (LoginAuditEvent event : eventList) {
+            summaryMap.computeIfAbsent(event.getIdentification(), LoginAuditSummary::new).add(event);
+        }
+        return new ArrayList<>(summaryMap.values());
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.error("[P1][SERV][ACNT][AUDT]: 로그인 기록 반영 중 알 수 없는 예외. message=({})", e.getMessage());
+        }
+    }
+}
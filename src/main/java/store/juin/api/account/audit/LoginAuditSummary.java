@@ -0,0 +1,33 @@
+package store.juin.api.account.audit;
+
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * 한 번 DB에 반영할 때 계정별로 묶은 로그인 기록. 마지막 로그인 시각, 주소와 횟수만 남긴다.
+ */
+@Getter
+@ToString
+public class LoginAuditSummary {
+    private final String identification;
+
+    private LocalDateTime lastLoginAt;
+
+    private String lastRemoteAddress;
+
+    private int loginCount;
+
+    public LoginAuditSummary(String identification) {
+        this.identification = identification;
+    }
+
+    public void add(LoginAuditEvent event) {
+        loginCount++;
+        if (lastLoginAt == null || !event.getLoggedInAt().isBefore(lastLoginAt)) {
+            lastLoginAt = event.getLoggedInAt();
+            lastRemoteAddress = event.getRemoteAddress();
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package store.juin.api.account.controller;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import store.juin.api.account.audit.LoginAuditPipeline;
+import store.juin.api.account.guard.BoundedPasswordEncoder;
+import store.juin.api.account.guard.LoginThrottle;
+import store.juin.api.account.model.response.LoginAuditStatsResponse;
+import store.juin.api.account.model.response.PasswordHashingStatsResponse;
+import store.juin.api.common.model.response.JUINResponse;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/admin/accounts")
+@RequiredArgsConstructor
+public class AccountAdminApiController {
+    private final LoginAuditPipeline loginAuditPipeline;
+
+    private final LoginThrottle loginThrottle;
+    private final BoundedPasswordEncoder boundedPasswordEncoder;
+
+    @GetMapping("/login-audit")
+    public JUINResponse<LoginAuditStatsResponse> retrieveLoginAuditStats() {
+        log.info("[P9][CTRL][ACNT][AUDT]: GET /api/admin/accounts/login-audit");
+
+        var response = loginAuditPipeline.readStats();
+        return new JUINResponse<>(HttpStatus.OK, response);
+    }
+
+    @GetMapping("/password-hashing")
+    public JUINResponse<PasswordHashingStatsResponse> retrievePasswordHashingStats() {
+        log.info("[P9][CTRL][ACNT][HASH]: GET /api/admin/accounts/password-hashing");
+
+        var response = boundedPasswordEncoder.readStats()
+                .setThrottledCount(loginThrottle.getThrottledCount());
+        return new JUINResponse<>(HttpStatus.OK, response);
+    }
+}
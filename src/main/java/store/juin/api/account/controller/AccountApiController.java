@@ -12,6 +12,9 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.logout.SecurityContextLogoutHandler;
 import org.springframework.web.bind.annotation.*;
+import store.juin.api.account.audit.LoginAuditPipeline;
+import store.juin.api.account.exception.LoginThrottledException;
+import store.juin.api.account.guard.LoginThrottle;
 import store.juin.api.account.model.entity.Account;
 import store.juin.api.account.model.request.*;
 import store.juin.api.account.model.response.*;
@@ -19,10 +22,9 @@ import store.juin.api.account.service.command.AccountCommandService;
 import store.juin.api.account.service.query.AccountQueryService;
 import store.juin.api.common.model.response.JUINResponse;
 import store.juin.api.principal.service.query.PrincipalQueryService;
+import store.juin.api.ses.email.exception.EmailQueueFullException;
 import store.juin.api.token.jwt.TokenMessage;
-import store.juin.api.token.model.entity.Token;
 import store.juin.api.token.service.TokenCommandService;
-import store.juin.api.token.service.TokenQueryService;
 
 import javax.persistence.EntityExistsException;
 import javax.persistence.EntityNotFoundException;
@@ -40,13 +42,15 @@ import static org.springframework.http.HttpHeaders.SET_COOKIE;
 public class AccountApiController {
     private final AuthenticationManager authenticationManager;
 
-    private final TokenQueryService tokenQueryService;
     private final AccountQueryService accountQueryService;
     private final PrincipalQueryService principalQueryService;
 
     private final TokenCommandService tokenCommandService;
     private final AccountCommandService accountCommandService;
 
+    private final LoginAuditPipeline loginAuditPipeline;
+    private final LoginThrottle loginThrottle;
+
     @Value("${front.cookie.domain}")
     private String cookieDomain;
 
@@ -77,10 +81,14 @@ public class AccountApiController {
 
     @PostMapping("/sign-in")
     public JUINResponse<AccountSignInResponse> signIn(@RequestBody AccountSignInRequest request
+                                                   , HttpServletRequest httpServletRequest
                                                    , HttpServletResponse httpServletResponse) {
         log.info("[P9][CTRL][ACNT][LOIN]: POST /api/accounts/sign-in, request=({})", request);
 
         try {
+            // 비밀번호 해시 전에 아이디/IP별 시도 횟수를 먼저 본다.
+            loginThrottle.acquire(request.getIdentification(), httpServletRequest.getRemoteAddr());
+
             // 이 시점에 １번　쿼리 나감.
             final Authentication authentication =
                     authenticationManager.authenticate(
@@ -91,6 +99,9 @@ public class AccountApiController {
             final String accessToken = tokenCommandService.addAccessToken(identification);
             final String refreshToken = tokenCommandService.upsertRefreshToken(identification);
 
+            // 마지막 로그인 시각, 로그인 기록은 모아서 나중에 쓴다.
+            loginAuditPipeline.record(identification, httpServletRequest.getRemoteAddr());
+
             ResponseCookie cookie = ResponseCookie.from(TokenMessage.REFRESH_TOKEN, refreshToken)
                     .domain(cookieDomain)
                     .path("/")
@@ -105,6 +116,9 @@ public class AccountApiController {
         } catch (EntityNotFoundException | BadCredentialsException e) {
             log.warn("[P5][CTRL][ACNT][LOIN]: 회원 정보가 없습니다. request=({})", request);
             return new JUINResponse<>(HttpStatus.NOT_FOUND);
+        } catch (LoginThrottledException e) {
+            log.warn("[P5][CTRL][ACNT][LOIN]: 로그인 요청이 너무 많습니다. identification=({})", request.getIdentification());
+            return new JUINResponse<>(HttpStatus.TOO_MANY_REQUESTS);
         }
     }
 
@@ -134,8 +148,7 @@ public class AccountApiController {
             }
         }
 
-        Token token = tokenQueryService.readByIdentification(identification);
-        tokenCommandService.modifyRefreshToken(token, "");
+        tokenCommandService.revokeRefreshToken(identification);
 
         return new JUINResponse<>(HttpStatus.OK, "로그아웃 되었습니다.");
     }
@@ -208,8 +221,13 @@ public class AccountApiController {
 
     @GetMapping(value = "/mail")
     public JUINResponse<String> sendEmail(@ModelAttribute AccountSendEmailRequest request) {
-        var response = accountCommandService.sendEmail(request);
-        return new JUINResponse<>(HttpStatus.OK, response);
+        try {
+            var response = accountCommandService.sendEmail(request);
+            return new JUINResponse<>(HttpStatus.OK, response);
+        } catch (EmailQueueFullException e) {
+            log.warn("[P5][CTRL][ACNT][MAIL]: message=({})", e.getMessage());
+            return new JUINResponse<>(HttpStatus.SERVICE_UNAVAILABLE);
+        }
     }
 
     @PutMapping("/password")
@@ -0,0 +1,16 @@
+package store.juin.api.account.exception;
+
+public class LoginThrottledException extends RuntimeException{
+    public LoginThrottledException(){
+        super();
+    }
+    public LoginThrottledException(String message){
+        super(message);
+    }
+    public LoginThrottledException(String message, Throwable cause){
+        super(message,cause);
+    }
+    public LoginThrottledException(Throwable cause){
+        super(cause);
+    }
+}
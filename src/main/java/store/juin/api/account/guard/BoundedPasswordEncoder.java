@@ -0,0 +1,138 @@
+package store.juin.api.account.guard;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import store.juin.api.account.exception.LoginThrottledException;
+import store.juin.api.account.model.response.PasswordHashingStatsResponse;
+import store.juin.api.common.exception.Msg;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+
+/**
+ * BCrypt 해시/검증을 전용 스레드 풀에서만 돌린다.
+ * <p>
+ * 로그인이 몰려도 BCrypt는 threadCount개까지만 동시에 CPU를 쓰고, 나머지 요청 스레드(상품 조회 등)는 영향을 덜 받는다.
+ * 대기열(queueCapacity)이 가득 차거나 timeout(ms) 안에 끝나지 않으면 기다리지 않고 LoginThrottledException을 던진다.
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder {
+    private final PasswordEncoder delegate;
+
+    private final ThreadPoolExecutor executor;
+
+    private final int queueCapacity;
+
+    private final long timeout;
+
+    private final AtomicLong completedCount = new AtomicLong();
+    private final AtomicLong rejectedCount = new AtomicLong();
+    private final AtomicLong timeoutCount = new AtomicLong();
+    private final AtomicLong totalQueueWaitNanos = new AtomicLong();
+    private final AtomicLong totalHashNanos = new AtomicLong();
+    private final LongAccumulator maxQueueWaitNanos = new LongAccumulator(Math::max, 0);
+
+    public BoundedPasswordEncoder(int threadCount, int queueCapacity, long timeout) {
+        this(new BCryptPasswordEncoder(), threadCount, queueCapacity, timeout);
+    }
+
+    BoundedPasswordEncoder(PasswordEncoder delegate, int threadCount, int queueCapacity, long timeout) {
+        final AtomicInteger threadNumber = new AtomicInteger();
+
+        this.delegate = delegate;
+        this.queueCapacity = queueCapacity;
+        this.timeout = timeout;
+        this.executor = new ThreadPoolExecutor(
+                threadCount, threadCount, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    final Thread thread = new Thread(runnable, "password-hash-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return execute(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return execute(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    public PasswordHashingStatsResponse readStats() {
+        final long completed = completedCount.get();
+
+        return new PasswordHashingStatsResponse()
+                .setThreadCount(executor.getMaximumPoolSize())
+                .setActiveCount(executor.getActiveCount())
+                .setQueueDepth(executor.getQueue().size())
+                .setQueueCapacity(queueCapacity)
+                .setCompletedCount(completed)
+                .setRejectedCount(rejectedCount.get())
+                .setTimeoutCount(timeoutCount.get())
+                .setAverageQueueWaitMillis(completed == 0 ? 0 : toMillis(totalQueueWaitNanos.get() / completed))
+                .setMaxQueueWaitMillis(toMillis(maxQueueWaitNanos.get()))
+                .setAverageHashMillis(completed == 0 ? 0 : toMillis(totalHashNanos.get() / completed));
+    }
+
+    // @Bean destroy 메서드로 추론된다.
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private <T> T execute(Callable<T> task) {
+        final long submittedAt = System.nanoTime();
+
+        final Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                final long startedAt = System.nanoTime();
+                final long queueWait = startedAt - submittedAt;
+                totalQueueWaitNanos.addAndGet(queueWait);
+                maxQueueWaitNanos.accumulate(queueWait);
+                try {
+                    return task.call();
+                } finally {
+                    totalHashNanos.addAndGet(System.nanoTime() - startedAt);
+                    completedCount.incrementAndGet();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedCount.incrementAndGet();
+            throw new LoginThrottledException(Msg.LOGIN_TOO_MANY_REQUESTS);
+        }
+
+        try {
+            return future.get(timeout, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            timeoutCount.incrementAndGet();
+            throw new LoginThrottledException(Msg.LOGIN_TOO_MANY_REQUESTS);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new LoginThrottledException(Msg.LOGIN_TOO_MANY_REQUESTS, e);
+        } catch (ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000d;
+    }
+}
@@ -0,0 +1,66 @@
+package store.juin.api.account.guard;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import store.juin.api.account.exception.LoginThrottledException;
+import store.juin.api.common.exception.Msg;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 로그인 시도를 아이디별, IP별 토큰 버킷으로 제한한다. 비밀번호 해시 전에 걸러서 CPU를 쓰지 않고 바로 거절한다.
+ * 버킷은 서버 메모리에만 있으므로 서버마다 따로 센다. 한동안 안 쓴 버킷은 지운다.
+ */
+@Component
+public class LoginThrottle {
+    private static final int MAXIMUM_BUCKET_COUNT = 100_000;
+    private static final long IDLE_MINUTES = 10;
+
+    private final int identificationCapacity;
+    private final int identificationRefillPerMinute;
+    private final int ipCapacity;
+    private final int ipRefillPerMinute;
+
+    private final Cache<String, TokenBucket> identificationBucketCache = newBucketCache();
+    private final Cache<String, TokenBucket> ipBucketCache = newBucketCache();
+
+    private final AtomicLong throttledCount = new AtomicLong();
+
+    public LoginThrottle(@Value("${login-throttle.identification-capacity:5}") int identificationCapacity,
+                         @Value("${login-throttle.identification-refill-per-minute:5}") int identificationRefillPerMinute,
+                         @Value("${login-throttle.ip-capacity:20}") int ipCapacity,
+                         @Value("${login-throttle.ip-refill-per-minute:60}") int ipRefillPerMinute) {
+        this.identificationCapacity = identificationCapacity;
+        this.identificationRefillPerMinute = identificationRefillPerMinute;
+        this.ipCapacity = ipCapacity;
+        this.ipRefillPerMinute = ipRefillPerMinute;
+    }
+
+    public void acquire(String identification, String remoteAddress) {
+        final long now = System.nanoTime();
+
+        final TokenBucket ipBucket = ipBucketCache.get(String.valueOf(remoteAddress),
+                key -> new TokenBucket(ipCapacity, ipRefillPerMinute, now));
+        final TokenBucket identificationBucket = identificationBucketCache.get(String.valueOf(identification),
+                key -> new TokenBucket(identificationCapacity, identificationRefillPerMinute, now));
+
+        if (!ipBucket.tryConsume(now) || !identificationBucket.tryConsume(now)) {
+            throttledCount.incrementAndGet();
+            throw new LoginThrottledException(Msg.LOGIN_TOO_MANY_REQUESTS);
+        }
+    }
+
+    public long getThrottledCount() {
+        return throttledCount.get();
+    }
+
+    private static Cache<String, TokenBucket> newBucketCache() {
+        return Caffeine.newBuilder()
+                .maximumSize(MAXIMUM_BUCKET_COUNT)
+                .expireAfterAccess(IDLE_MINUTES, TimeUnit.MINUTES)
+                .build();
+    }
+}
@@ -0,0 +1,36 @@
+package store.juin.api.account.guard;
+
+/**
+ * 토큰 버킷. capacity만큼 몰아서 쓸 수 있고, 이후에는 refillPerMinute 속도로만 채워진다.
+ * 시각(nanoTime)은 호출하는 쪽에서 넘긴다.
+ */
+public class TokenBucket {
+    private static final double NANOS_PER_MINUTE = 60_000_000_000d;
+
+    private final double capacity;
+
+    private final double refillPerNano;
+
+    private double tokens;
+
+    private long lastRefillNanos;
+
+    public TokenBucket(int capacity, int refillPerMinute, long nowNanos) {
+        this.capacity = capacity;
+        this.refillPerNano = refillPerMinute / NANOS_PER_MINUTE;
+        this.tokens = capacity;
+        this.lastRefillNanos = nowNanos;
+    }
+
+    public synchronized boolean tryConsume(long nowNanos) {
+        if (nowNanos > lastRefillNanos) {
+            tokens = Math.min(capacity, tokens + (nowNanos - lastRefillNanos) * refillPerNano);
+            lastRefillNanos = nowNanos;
+        }
+
+        if (tokens < 1) return false;
+
+        tokens -= 1;
+        return true;
+    }
+}
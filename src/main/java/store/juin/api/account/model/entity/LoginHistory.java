@@ -0,0 +1,42 @@
+package store.juin.api.account.model.entity;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+import store.juin.api.common.model.entity.BaseEntity;
+
+import javax.persistence.*;
+import javax.validation.constraints.NotNull;
+import java.time.LocalDateTime;
+
+/**
+ * 로그인 기록. LoginAuditPipeline이 모아서 JDBC 배치로 넣는다. (테이블 생성용 매핑)
+ * 한 행은 한 번 반영할 때 같은 계정의 로그인을 묶은 것이다.
+ */
+@Getter
+@Entity
+@SuperBuilder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "login_history", indexes = {
+        @Index(name = "login_history__identification", columnList = "identification")
+})
+public class LoginHistory extends BaseEntity {
+    @Id
+    @Column(name = "login_history_id")
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @NotNull
+    @Column(length = 25)
+    private String identification;
+
+    @NotNull
+    private Integer loginCount;
+
+    @NotNull
+    private LocalDateTime lastLoginAt;
+
+    @Column(length = 45)
+    private String remoteAddress;
+}
@@ -5,7 +5,6 @@ import lombok.experimental.Accessors;
 import store.juin.api.account.enumeration.AccountRole;
 import store.juin.api.account.model.entity.Account;
 import store.juin.api.address.model.request.AddressCreateRequest;
-import store.juin.api.util.PasswordUtil;
 
 import javax.persistence.EnumType;
 import javax.persistence.Enumerated;
@@ -31,11 +30,11 @@ public class AccountSignUpRequest {
 
     private AddressCreateRequest address;
 
-    public Account toAccount() {
+    public Account toAccount(String passwordHash) {
         return Account.builder()
                 .identification(this.identification)
                 .email(this.email)
-                .passwordHash(PasswordUtil.makePasswordHash(this.passwordHash))
+                .passwordHash(passwordHash)
                 .name(this.name)
                 .phoneNumber(this.phoneNumber)
                 .accountRole(this.accountRole)
@@ -4,7 +4,6 @@ import lombok.Data;
 import lombok.experimental.Accessors;
 import store.juin.api.account.enumeration.AccountRole;
 import store.juin.api.account.model.entity.Account;
-import store.juin.api.util.PasswordUtil;
 
 import javax.persistence.EnumType;
 import javax.persistence.Enumerated;
@@ -21,13 +20,13 @@ public class AccountUpdateRequest {
     @Enumerated(EnumType.STRING)
     private AccountRole accountRole;
 
-    public Account toAccount(Long id, String email) {
+    public Account toAccount(Long id, String email, String passwordHash) {
         return Account.builder()
                 .id(id)
                 .email(email)
                 .name(this.name)
                 .phoneNumber(this.phoneNumber)
-                .passwordHash(PasswordUtil.makePasswordHash(this.passwordHash))
+                .passwordHash(passwordHash)
                 .accountRole(this.accountRole)
                 .build();
     }
@@ -0,0 +1,32 @@
+package store.juin.api.account.model.response;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import store.juin.api.account.enumeration.AccountRole;
+import store.juin.api.account.model.entity.Account;
+
+/**
+ * 로그인한 계정 캐시에 들어가는 스냅샷. 여러 요청이 같이 보기 때문에 만든 뒤에는 바꾸지 않는다.
+ * 비밀번호 해시는 담지 않는다.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class AccountSnapshot {
+    private final Long id;
+
+    private final String identification;
+
+    private final String email;
+
+    private final AccountRole accountRole;
+
+    public static AccountSnapshot from(Account account) {
+        return new AccountSnapshot(
+                  account.getId()
+                , account.getIdentification()
+                , account.getEmail()
+                , account.getAccountRole()
+        );
+    }
+}
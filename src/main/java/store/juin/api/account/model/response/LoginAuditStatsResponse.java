@@ -0,0 +1,20 @@
+package store.juin.api.account.model.response;
+
+import lombok.Data;
+import lombok.experimental.Accessors;
+
+@Data
+@Accessors(chain = true)
+public class LoginAuditStatsResponse {
+    private int queueDepth;         // 아직 DB에 반영하지 않은 로그인 기록 수
+
+    private int queueCapacity;
+
+    private long recordedCount;     // 큐에 넣은 수
+
+    private long droppedCount;      // 큐가 가득 차서 버린 수
+
+    private long flushedCount;      // DB에 반영한 수
+
+    private long failedCount;       // DB 반영에 실패해서 잃은 수
+}
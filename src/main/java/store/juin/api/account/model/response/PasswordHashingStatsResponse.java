@@ -0,0 +1,30 @@
+package store.juin.api.account.model.response;
+
+import lombok.Data;
+import lombok.experimental.Accessors;
+
+@Data
+@Accessors(chain = true)
+public class PasswordHashingStatsResponse {
+    private int threadCount;                // BCrypt 전용 스레드 수
+
+    private int activeCount;                // 지금 해시 중인 스레드 수
+
+    private int queueDepth;
+
+    private int queueCapacity;
+
+    private long completedCount;
+
+    private long rejectedCount;             // 대기열이 가득 차서 바로 거절한 수
+
+    private long timeoutCount;              // 대기 시간 초과로 거절한 수
+
+    private long throttledCount;            // 아이디/IP 토큰 버킷에서 거절한 수
+
+    private double averageQueueWaitMillis;
+
+    private double maxQueueWaitMillis;
+
+    private double averageHashMillis;
+}
@@ -0,0 +1,12 @@
+package store.juin.api.account.repository.jdbc;
+
+import store.juin.api.account.audit.LoginAuditSummary;
+
+import java.util.List;
+
+public interface JdbcAccountAuditRepository {
+    // 더 최근 로그인 시각으로만 바꾼다.
+    void updateLastLogin(List<LoginAuditSummary> summaryList);
+
+    void saveAllLoginHistory(List<LoginAuditSummary> summaryList);
+}
@@ -0,0 +1,56 @@
+package store.juin.api.account.repository.jdbc.impl;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import store.juin.api.account.audit.LoginAuditSummary;
+import store.juin.api.account.repository.jdbc.JdbcAccountAuditRepository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 로그인 기록을 계정별로 묶어서 JDBC 배치로 쓴다.
+ * AccountRepository의 fragment라서 LoginAuditPipeline은 AccountRepository 하나만 쓴다.
+ */
+@RequiredArgsConstructor
+public class JdbcAccountAuditRepositoryImpl implements JdbcAccountAuditRepository {
+    // 늦게 반영된 기록이 더 최근 로그인 시각을 덮어쓰지 않게 한다.
+    private static final String UPDATE_LAST_LOGIN_SQL =
+            "UPDATE account SET last_login = ? " +
+            "WHERE identification = ? AND (last_login IS NULL OR last_login < ?)";
+
+    private static final String INSERT_LOGIN_HISTORY_SQL =
+            "INSERT INTO login_history (identification, login_count, last_login_at, remote_address, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void updateLastLogin(List<LoginAuditSummary> summaryList) {
+        if (summaryList.isEmpty()) return;
+
+        jdbcTemplate.batchUpdate(UPDATE_LAST_LOGIN_SQL, summaryList, summaryList.size(), (ps, summary) -> {
+            final Timestamp lastLoginAt = Timestamp.valueOf(summary.getLastLoginAt());
+            ps.setTimestamp(1, lastLoginAt);
+            ps.setString(2, summary.getIdentification());
+            ps.setTimestamp(3, lastLoginAt);
+        });
+    }
+
+    @Override
+    public void saveAllLoginHistory(List<LoginAuditSummary> summaryList) {
+        if (summaryList.isEmpty()) return;
+
+        final Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.batchUpdate(INSERT_LOGIN_HISTORY_SQL, summaryList, summaryList.size(), (ps, summary) -> {
+            ps.setString(1, summary.getIdentification());
+            ps.setInt(2, summary.getLoginCount());
+            ps.setTimestamp(3, Timestamp.valueOf(summary.getLastLoginAt()));
+            ps.setString(4, summary.getLastRemoteAddress());
+            ps.setTimestamp(5, now);
+            ps.setTimestamp(6, now);
+        });
+    }
+}
@@ -3,11 +3,12 @@ package store.juin.api.account.repository.jpa;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 import store.juin.api.account.model.entity.Account;
+import store.juin.api.account.repository.jdbc.JdbcAccountAuditRepository;
 
 import java.util.Optional;
 
 @Repository
-public interface AccountRepository extends JpaRepository<Account, Long> {
+public interface AccountRepository extends JpaRepository<Account, Long>, JdbcAccountAuditRepository {
     Optional<Account> findByIdentification(String identification);
 
     Optional<Account> findByEmail(String email);
@@ -2,6 +2,7 @@ package store.juin.api.account.service.command;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import store.juin.api.account.model.entity.Account;
 import store.juin.api.account.model.request.AccountChangePasswordRequest;
@@ -9,6 +10,7 @@ import store.juin.api.account.model.request.AccountSendEmailRequest;
 import store.juin.api.account.model.request.AccountSignUpRequest;
 import store.juin.api.account.model.request.AccountUpdateRequest;
 import store.juin.api.account.repository.jpa.AccountRepository;
+import store.juin.api.account.service.query.AccountSnapshotCacheService;
 import store.juin.api.address.model.entity.Address;
 import store.juin.api.address.service.command.AddressCommandService;
 import store.juin.api.address.service.query.AddressQueryService;
@@ -19,9 +21,11 @@ import store.juin.api.common.handler.CommandTransactional;
 import store.juin.api.delivery.service.DeliveryCommandService;
 import store.juin.api.order.model.response.OrderDeleteResponse;
 import store.juin.api.order.service.command.OrderCommandService;
-import store.juin.api.ses.authorize.service.AuthorizeCacheService;
+import store.juin.api.ses.authorize.store.VerificationCodeStore;
+import store.juin.api.ses.email.dispatch.EmailDispatcher;
 import store.juin.api.ses.email.model.request.EmailRequest;
 import store.juin.api.ses.email.service.EmailService;
+import store.juin.api.token.service.TokenCommandService;
 import store.juin.api.util.AuthNumberUtil;
 
 import javax.persistence.EntityExistsException;
@@ -38,22 +42,28 @@ public class AccountCommandService {
 
     private final AccountRepository accountRepository;
 
+    // BCrypt는 BoundedPasswordEncoder의 전용 스레드 풀에서만 돈다.
+    private final PasswordEncoder passwordEncoder;
+
     private final AddressQueryService addressQueryService;
 
     private final EmailService emailService;
+    private final EmailDispatcher emailDispatcher;
     private final CartCommandService cartCommandService;
     private final OrderCommandService orderCommandService;
     private final AddressCommandService addressCommandService;
     private final CartItemCommandService cartItemCommandService;
     private final DeliveryCommandService deliveryCommandService;
+    private final TokenCommandService tokenCommandService;
 
-    private final AuthorizeCacheService authorizeCacheService;
+    private final VerificationCodeStore verificationCodeStore;
+    private final AccountSnapshotCacheService accountSnapshotCacheService;
 
     public Account add(AccountSignUpRequest request) {
         // 이메일 중복 검사
         checkDuplicatedEmail(request);
 
-        final Account account = request.toAccount();
+        final Account account = request.toAccount(passwordEncoder.encode(request.getPasswordHash()));
         final Address address = request.getAddress().toAddress(account);
 
         commandTransactional.execute(() -> {
@@ -74,11 +84,13 @@ public class AccountCommandService {
     }
 
     public Account modify(Account account, AccountUpdateRequest request) {
-        Account newAccount = request.toAccount(account.getId(), account.getEmail());
+        final String passwordHash = passwordEncoder.encode(request.getPasswordHash());
+        Account newAccount = request.toAccount(account.getId(), account.getEmail(), passwordHash);
 
         commandTransactional.execute(() ->
                 account.updateAccount(newAccount)
         );
+        accountSnapshotCacheService.evict(account.getIdentification());
 
         return newAccount;
     }
@@ -96,6 +108,7 @@ public class AccountCommandService {
         final long cartDeletedCount = cartCommandService.removeByAccountId(account.getId());
 
         accountRepository.delete(account);  // account 삭제
+        accountSnapshotCacheService.evict(account.getIdentification());
 
         log.info("[P9][SERV][ACNT][REMV]: " +
                         "account 삭제 개수:({}), " +
@@ -122,21 +135,27 @@ public class AccountCommandService {
                 .orElseThrow(() -> new EntityNotFoundException(Msg.ACCOUNT_NOT_FOUND));
 
         final String authNumber = AuthNumberUtil.makeAuthNumber();
-        authorizeCacheService.putAuthorizeNumber(account.getEmail(), authNumber);
+        verificationCodeStore.save(account.getEmail(), authNumber);
 
         EmailRequest emailRequest = new EmailRequest()
                 .setToEmail(account.getEmail()).setTitle("[JUIN.STORE] 비밀번호 변경 메일")
                 .setContent(makeMailContent(authNumber));
-        return emailService.send(emailRequest);
+        // 발송 job id, 실제 발송은 EmailDispatcher가 요청 밖에서 한다.
+        return emailDispatcher.send(emailRequest);
     }
 
     public Account changePassword(AccountChangePasswordRequest request) {
-        return commandTransactional.execute(() -> {
-            final Account account = accountRepository.findByEmail(request.getEmail()).orElseThrow(() -> new EntityNotFoundException(Msg.ACCOUNT_NOT_FOUND));
-            account.updatePasswordHash(request.makeEncryptedPassword());
-            return account;
+        final String passwordHash = passwordEncoder.encode(request.getPasswordHash());
+
+        final Account account = commandTransactional.execute(() -> {
+            final Account target = accountRepository.findByEmail(request.getEmail()).orElseThrow(() -> new EntityNotFoundException(Msg.ACCOUNT_NOT_FOUND));
+            target.updatePasswordHash(passwordHash);
+            return target;
         });
+        accountSnapshotCacheService.evict(account.getIdentification());
+        tokenCommandService.revokeRefreshToken(account.getIdentification());
 
+        return account;
     }
 
     public boolean isConfirmed(String email) {
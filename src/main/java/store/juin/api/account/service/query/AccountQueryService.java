@@ -29,6 +29,11 @@ public class AccountQueryService {
         );
     }
 
+    // 조회 없이 프록시만 만든다. 존재 여부는 AccountSnapshotCacheService로 먼저 확인한다.
+    public Account readReferenceById(Long id) {
+        return accountRepository.getOne(id);
+    }
+
     public Account readByIdentification(String identification) {
         return queryTransactional.execute(() -> accountRepository.findByIdentification(identification)
                 .orElseThrow(() -> new EntityNotFoundException(Msg.WRONG_ID_PASSWORD))
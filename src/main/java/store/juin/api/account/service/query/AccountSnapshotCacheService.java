@@ -0,0 +1,45 @@
+package store.juin.api.account.service.query;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import store.juin.api.account.model.response.AccountSnapshot;
+import store.juin.api.account.repository.jpa.AccountRepository;
+import store.juin.api.common.enumeration.CacheType;
+import store.juin.api.common.exception.Msg;
+import store.juin.api.common.handler.QueryTransactional;
+
+import javax.persistence.EntityNotFoundException;
+
+/**
+ * identification -> 계정 스냅샷 read-through 캐시. 로그인한 요청마다 PrincipalQueryService가 계정을 찾는다.
+ * 계정이 바뀌거나 삭제되면 (AccountCommandService.modify, remove, changePassword) 호출한 쪽에서 evict 한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class AccountSnapshotCacheService {
+    private final QueryTransactional queryTransactional;
+
+    private final CacheManager cacheManager;
+
+    private final AccountRepository accountRepository;
+
+    // 없는 계정은 예외가 나서 캐시에 들어가지 않는다.
+    @Cacheable(value = "AccountSnapshot", key = "#identification")
+    public AccountSnapshot readByIdentification(String identification) {
+        return queryTransactional.execute(() ->
+                accountRepository.findByIdentification(identification)
+                        .map(AccountSnapshot::from)
+                        .orElseThrow(() -> new EntityNotFoundException(Msg.WRONG_ID_PASSWORD))
+        );
+    }
+
+    public void evict(String identification) {
+        final Cache cache = cacheManager.getCache(CacheType.ACCOUNT_SNAPSHOT.getCacheName());
+        if (cache == null || identification == null) return;
+
+        cache.evict(identification);
+    }
+}
@@ -0,0 +1,29 @@
+package store.juin.api.cache.controller;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import store.juin.api.cache.model.response.CacheStatsResponse;
+import store.juin.api.cache.service.query.CacheStatsQueryService;
+import store.juin.api.common.model.response.JUINResponse;
+
+import java.util.List;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/admin/caches")
+@RequiredArgsConstructor
+public class CacheAdminApiController {
+    private final CacheStatsQueryService cacheStatsQueryService;
+
+    @GetMapping
+    public JUINResponse<List<CacheStatsResponse>> retrieveAll() {
+        log.info("[P9][CTRL][CACH][RALL]: GET /api/admin/caches");
+
+        var response = cacheStatsQueryService.readAll();
+        return new JUINResponse<>(HttpStatus.OK, response);
+    }
+}
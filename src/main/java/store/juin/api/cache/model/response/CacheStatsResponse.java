@@ -0,0 +1,31 @@
+package store.juin.api.cache.model.response;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.Data;
+import lombok.experimental.Accessors;
+
+@Data
+@Accessors(chain = true)
+public class CacheStatsResponse {
+    private String cacheName;
+
+    private long size;              // 현재 들어 있는 엔트리 수 (근사값)
+
+    private long hitCount;
+
+    private long missCount;
+
+    private double hitRate;
+
+    private long evictionCount;     // 용량 초과나 만료로 빠진 수
+
+    public static CacheStatsResponse of(String cacheName, long size, CacheStats stats) {
+        return new CacheStatsResponse()
+                .setCacheName(cacheName)
+                .setSize(size)
+                .setHitCount(stats.hitCount())
+                .setMissCount(stats.missCount())
+                .setHitRate(stats.hitRate())
+                .setEvictionCount(stats.evictionCount());
+    }
+}
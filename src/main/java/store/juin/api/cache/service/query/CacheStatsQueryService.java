@@ -0,0 +1,36 @@
+package store.juin.api.cache.service.query;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.stereotype.Service;
+import store.juin.api.cache.model.response.CacheStatsResponse;
+import store.juin.api.common.enumeration.CacheType;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * CacheConfig에서 recordStats()로 모으는 캐시별 hit/miss 통계를 읽는다.
+ */
+@Service
+@RequiredArgsConstructor
+public class CacheStatsQueryService {
+    private final CacheManager cacheManager;
+
+    public List<CacheStatsResponse> readAll() {
+        return Arrays.stream(CacheType.values())
+                .map(cacheType -> cacheManager.getCache(cacheType.getCacheName()))
+                .filter(CaffeineCache.class::isInstance)
+                .map(CaffeineCache.class::cast)
+                .map(this::toCacheStatsResponse)
+                .collect(Collectors.toList());
+    }
+
+    private CacheStatsResponse toCacheStatsResponse(CaffeineCache cache) {
+        final Cache<Object, Object> nativeCache = cache.getNativeCache();
+        return CacheStatsResponse.of(cache.getName(), nativeCache.estimatedSize(), nativeCache.stats());
+    }
+}
@@ -34,9 +34,10 @@ public class CartItemCommandService {
     public int add(Account account, CartItemAddRequest request) {
         final Cart cart = cartQueryService.readByAccountId(account.getId());
 
-        final Item item = itemQueryService.readById(request.getItemId());
+        itemQueryService.readSnapshotById(request.getItemId());
 
         return commandTransactional.execute(() -> {
+            final Item item = itemQueryService.readReferenceById(request.getItemId());
             CartItem cartItem = cartItemQueryService.readByCartIdAndItemId(cart.getId(), item.getId());
             if (cartItem == null) {
                 // 카트에 처음 넣는 제품이라면 새로 생성
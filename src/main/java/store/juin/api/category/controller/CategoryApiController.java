@@ -1,16 +1,20 @@
 package store.juin.api.category.controller;
 
+import com.fasterxml.jackson.databind.util.RawValue;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
-import store.juin.api.cart.model.response.CategoryRetrieveResponse;
+import org.springframework.web.context.request.WebRequest;
+import store.juin.api.category.model.response.CategoryTreeSnapshot;
 import store.juin.api.category.service.query.CategoryQueryService;
 import store.juin.api.common.model.response.JUINResponse;
 
-import java.util.List;
+import javax.servlet.http.HttpServletResponse;
 
 @Slf4j
 @RestController
@@ -20,11 +24,17 @@ public class CategoryApiController {
     private final CategoryQueryService categoryQueryService;
 
     // https://bestinu.tistory.com/52
+    // 미리 직렬화된 트리를 그대로 내려주고, If-None-Match가 ETag와 같으면 본문 없이 304를 준다.
     @GetMapping
-    public JUINResponse<List<CategoryRetrieveResponse>> retrieveAll() {
+    public JUINResponse<RawValue> retrieveAll(WebRequest webRequest, HttpServletResponse httpServletResponse) {
         log.info("[P9][CTRL][CTGR][ALL_]: GET /api/categories");
 
-        var response = categoryQueryService.readAll();
-        return new JUINResponse<>(HttpStatus.OK, response);
+        final CategoryTreeSnapshot snapshot = categoryQueryService.readTreeSnapshot();
+
+        // 캐시는 하되 매번 ETag로 재검증하게 한다.
+        httpServletResponse.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().getHeaderValue());
+        if (webRequest.checkNotModified(snapshot.getETag())) return null;
+
+        return new JUINResponse<>(HttpStatus.OK, snapshot.getJson());
     }
 }
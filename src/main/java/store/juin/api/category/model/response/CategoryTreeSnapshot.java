@@ -0,0 +1,63 @@
+package store.juin.api.category.model.response;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.RawValue;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.util.DigestUtils;
+import store.juin.api.cart.model.response.CategoryRetrieveResponse;
+import store.juin.api.common.exception.JUINIOException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 카테고리 트리 스냅샷. 만든 뒤에는 바꾸지 않고, 카테고리가 바뀌면 새 스냅샷으로 통째로 교체한다.
+ * 트리는 미리 JSON으로 직렬화해 두고 요청마다 그대로 내려준다.
+ * ETag는 JSON 내용의 해시라서 서버가 재시작되거나 여러 대여도 트리가 같으면 값이 같다.
+ * 카테고리별 하위 카테고리 id 집합(자기 자신 포함)도 같이 만들어 두고 상품 검색에서 IN 조건으로 쓴다.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class CategoryTreeSnapshot {
+    private final long version;
+
+    private final List<CategoryRetrieveResponse> categoryList;
+
+    private final RawValue json;
+
+    private final String eTag;
+
+    // categoryId -> 자기 자신 + 모든 하위 카테고리 id
+    private final Map<Long, Set<Long>> subtreeIdSetMap;
+
+    public static CategoryTreeSnapshot of(long version,
+                                          List<CategoryRetrieveResponse> categoryList,
+                                          Map<Long, Set<Long>> subtreeIdSetMap,
+                                          ObjectMapper objectMapper) {
+        final String json;
+        try {
+            json = objectMapper.writeValueAsString(categoryList);
+        } catch (JsonProcessingException e) {
+            throw new JUINIOException(e.getMessage(), e);
+        }
+
+        final String eTag = "\"" + DigestUtils.md5DigestAsHex(json.getBytes(StandardCharsets.UTF_8)) + "\"";
+
+        return new CategoryTreeSnapshot(version,
+                Collections.unmodifiableList(categoryList),
+                new RawValue(json),
+                eTag,
+                Collections.unmodifiableMap(subtreeIdSetMap));
+    }
+
+    // 없는 카테고리면 자기 자신만 돌려줘서 기존처럼 일치하는 상품이 없게 한다.
+    public Set<Long> getSubtreeIdSet(Long categoryId) {
+        return subtreeIdSetMap.getOrDefault(categoryId, Set.of(categoryId));
+    }
+}
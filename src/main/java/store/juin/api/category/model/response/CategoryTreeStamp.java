@@ -0,0 +1,24 @@
+package store.juin.api.category.model.response;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * 카테고리 테이블이 바뀌었는지 보는 값. 추가/삭제는 개수와 최대 id로, 수정은 최대 updated_at으로 알아챈다.
+ * 트리 전체를 읽지 않고 집계 쿼리 한 번으로 스냅샷을 다시 만들지 정한다.
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+@AllArgsConstructor
+public class CategoryTreeStamp {
+    private final Long count;
+
+    private final Long maxId;
+
+    private final LocalDateTime maxUpdatedAt;
+}
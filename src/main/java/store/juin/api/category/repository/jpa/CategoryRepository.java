@@ -1,8 +1,10 @@
 package store.juin.api.category.repository.jpa;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import store.juin.api.category.model.entity.Category;
+import store.juin.api.category.model.response.CategoryTreeStamp;
 import store.juin.api.category.repository.querydsl.QuerydslCategoryRepository;
 
 import java.util.Optional;
@@ -10,4 +12,8 @@ import java.util.Optional;
 @Repository
 public interface CategoryRepository extends JpaRepository<Category, Long>, QuerydslCategoryRepository {
     Optional<Category> findById(Long categoryId);
+
+    @Query("SELECT new store.juin.api.category.model.response.CategoryTreeStamp(COUNT(c), MAX(c.id), MAX(c.updatedAt))" +
+            " FROM Category c")
+    CategoryTreeStamp findTreeStamp();
 }
@@ -31,10 +31,15 @@ public class CategoryCommandService {
 
         final Category category = request.toCategory(parent);
 
-        return commandTransactional.execute(() -> {
+        final Long categoryId = commandTransactional.execute(() -> {
             Category save = categoryRepository.save(category);
 
             return save.getId();
         });
+
+        // 커밋된 뒤에 트리 스냅샷을 새로 만든다.
+        categoryQueryService.refreshTreeSnapshot();
+
+        return categoryId;
     }
 }
@@ -1,17 +1,28 @@
 package store.juin.api.category.service.query;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import store.juin.api.cart.model.response.CategoryRetrieveResponse;
 import store.juin.api.category.model.entity.Category;
+import store.juin.api.category.model.response.CategoryTreeSnapshot;
+import store.juin.api.category.model.response.CategoryTreeStamp;
 import store.juin.api.category.repository.jpa.CategoryRepository;
 import store.juin.api.common.exception.Msg;
 import store.juin.api.common.handler.QueryTransactional;
 
 import javax.persistence.EntityNotFoundException;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -19,8 +30,18 @@ import java.util.List;
 public class CategoryQueryService {
     private final QueryTransactional queryTransactional;
 
+    private final ObjectMapper objectMapper;
+
     private final CategoryRepository categoryRepository;
 
+    // 카테고리가 바뀔 때만 새로 만든다. 읽기는 락 없이 현재 스냅샷을 가져간다.
+    private final AtomicReference<CategoryTreeSnapshot> treeSnapshot = new AtomicReference<>();
+
+    private long treeVersion = 0L;
+
+    // 현재 스냅샷을 만들 때 본 DB 상태
+    private volatile CategoryTreeStamp treeStamp;
+
     public Category readById(Long categoryId) {
         return queryTransactional.execute(() ->
                 categoryRepository.findById(categoryId)
@@ -29,16 +50,47 @@ public class CategoryQueryService {
     }
 
     public List<CategoryRetrieveResponse> readAll() {
-        final List<Category> categoryList = readAllByParentIdIsNull();
-        final List<CategoryRetrieveResponse> response = new ArrayList<>();
+        return this.readTreeSnapshot().getCategoryList();
+    }
 
-        for (Category category : categoryList) {
-            final List<CategoryRetrieveResponse.RetrieveChildList> childListResponse =
-                    CategoryRetrieveResponse.RetrieveChildList.from(category.getChildList());
-            response.add(CategoryRetrieveResponse.from(category, childListResponse));
-        }
+    public CategoryTreeSnapshot readTreeSnapshot() {
+        final CategoryTreeSnapshot snapshot = treeSnapshot.get();
+        if (snapshot != null) return snapshot;
 
-        return response;
+        return this.refreshTreeSnapshot();
+    }
+
+    // 상품 검색용. categoryId와 모든 하위 카테고리 id
+    public Set<Long> readSubtreeIdSet(Long categoryId) {
+        return this.readTreeSnapshot().getSubtreeIdSet(categoryId);
+    }
+
+    // 동시에 여러 번 호출돼도 마지막에 만든 스냅샷이 최신 DB 상태가 되도록 한 번에 하나만 만든다.
+    public synchronized CategoryTreeSnapshot refreshTreeSnapshot() {
+        final CategoryTreeSnapshot snapshot = queryTransactional.execute(() -> {
+            // 트리보다 먼저 읽는다. 그 사이에 바뀐 것은 다음 비교에서 다시 잡힌다.
+            treeStamp = categoryRepository.findTreeStamp();
+            return this.makeTreeSnapshot(++treeVersion);
+        });
+
+        treeSnapshot.set(snapshot);
+        log.info("[P9][SERV][CTGR][SNAP]: 카테고리 트리 스냅샷 갱신. version=({}), eTag=({})", snapshot.getVersion(), snapshot.getETag());
+
+        return snapshot;
+    }
+
+    /**
+     * 다른 서버에서 카테고리를 바꾸면 이 서버의 스냅샷은 모른다. CategoryTreeRefresher가 주기적으로 불러서
+     * DB의 stamp가 스냅샷을 만들 때와 다를 때만 다시 만든다. 아직 스냅샷이 없으면 첫 조회 때 만들므로 넘어간다.
+     */
+    public boolean refreshTreeSnapshotIfChanged() {
+        if (treeSnapshot.get() == null) return false;
+
+        final CategoryTreeStamp stamp = queryTransactional.execute(() -> categoryRepository.findTreeStamp());
+        if (stamp.equals(treeStamp)) return false;
+
+        this.refreshTreeSnapshot();
+        return true;
     }
 
     public List<Category> readAllByParentIdIsNull() {
@@ -47,4 +99,58 @@ public class CategoryQueryService {
                 categoryRepository.findAllByParentIsNull().orElse(new ArrayList<>())
         );
     }
+
+    /**
+     * 카테고리 전체를 한 번에 읽어서 메모리에서 트리와 하위 카테고리 id 집합을 만든다.
+     * category.getChildList()를 따라가면 노드마다 lazy loading 쿼리가 나간다.
+     */
+    private CategoryTreeSnapshot makeTreeSnapshot(long version) {
+        final List<Category> categoryList = categoryRepository.findAll();
+
+        // 부모도 같은 영속성 컨텍스트에 올라와 있어서 getParent()로 쿼리가 나가지 않는다.
+        final Map<Long, List<Category>> childListMap = categoryList.stream()
+                .filter(category -> category.getParent() != null)
+                .sorted(Comparator.comparing(Category::getId))
+                .collect(Collectors.groupingBy(category -> category.getParent().getId()));
+
+        final List<CategoryRetrieveResponse> categoryTree = categoryList.stream()
+                .filter(category -> category.getParent() == null)
+                .sorted(Comparator.comparing(Category::getId))
+                .map(category -> CategoryRetrieveResponse.from(category, this.makeChildList(category.getId(), childListMap)))
+                .collect(Collectors.toList());
+
+        final Map<Long, Set<Long>> subtreeIdSetMap = new HashMap<>();
+        for (Category category : categoryList) {
+            final Set<Long> subtreeIdSet = new HashSet<>();
+            this.collectSubtreeId(category.getId(), childListMap, subtreeIdSet);
+            subtreeIdSetMap.put(category.getId(), Collections.unmodifiableSet(subtreeIdSet));
+        }
+
+        return CategoryTreeSnapshot.of(version, categoryTree, subtreeIdSetMap, objectMapper);
+    }
+
+    private void collectSubtreeId(Long categoryId, Map<Long, List<Category>> childListMap, Set<Long> subtreeIdSet) {
+        // parent가 꼬여서 순환이 생겨도 무한 루프에 빠지지 않게 한다.
+        if (!subtreeIdSet.add(categoryId)) return;
+
+        for (Category child : childListMap.getOrDefault(categoryId, Collections.emptyList())) {
+            this.collectSubtreeId(child.getId(), childListMap, subtreeIdSet);
+        }
+    }
+
+    private List<CategoryRetrieveResponse.RetrieveChildList> makeChildList(Long parentId, Map<Long, List<Category>> childListMap) {
+        final List<CategoryRetrieveResponse.RetrieveChildList> response = new ArrayList<>();
+
+        for (Category category : childListMap.getOrDefault(parentId, new ArrayList<>())) {
+            response.add(
+                    new CategoryRetrieveResponse.RetrieveChildList()
+                            .setId(category.getId())
+                            .setCategoryName(category.getCategoryName())
+                            .setDepth(category.getDepth())
+                            .setChildList(this.makeChildList(category.getId(), childListMap))
+            );
+        }
+
+        return response;
+    }
 }
@@ -0,0 +1,59 @@
+package store.juin.api.category.snapshot;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import store.juin.api.category.service.query.CategoryQueryService;
+
+import javax.annotation.PreDestroy;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 카테고리 트리 스냅샷은 같은 서버의 CategoryCommandService.add에서만 다시 만든다.
+ * 서버가 여러 대이거나 DB를 직접 고치면 category.tree-refresh-interval(ms)마다 집계 쿼리 한 번으로 바뀌었는지 보고 다시 만든다.
+ * 상품 검색의 하위 카테고리 id 집합도 같은 스냅샷에서 나오므로 같이 맞춰진다.
+ */
+@Slf4j
+@Component
+public class CategoryTreeRefresher {
+    private final CategoryQueryService categoryQueryService;
+
+    private final long refreshInterval;
+
+    private ScheduledExecutorService refreshExecutor;
+
+    public CategoryTreeRefresher(CategoryQueryService categoryQueryService,
+                                 @Value("${category.tree-refresh-interval:10000}") long refreshInterval) {
+        this.categoryQueryService = categoryQueryService;
+        this.refreshInterval = refreshInterval;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if (refreshInterval <= 0) return;
+
+        refreshExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "category-tree-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+        refreshExecutor.scheduleWithFixedDelay(this::refreshQuietly, refreshInterval, refreshInterval, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (refreshExecutor != null) refreshExecutor.shutdownNow();
+    }
+
+    private void refreshQuietly() {
+        try {
+            categoryQueryService.refreshTreeSnapshotIfChanged();
+        } catch (Exception e) {
+            log.error("[P1][SERV][CTGR][SNAP]: 카테고리 트리 스냅샷 확인 중 알 수 없는 예외. message=({})", e.getMessage());
+        }
+    }
+}
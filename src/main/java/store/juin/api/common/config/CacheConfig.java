@@ -20,7 +20,7 @@ public class CacheConfig {
     public CacheManager cacheManager() {
         List<CaffeineCache> caches = Arrays.stream(CacheType.values())
                 .map(cache -> new CaffeineCache(cache.getCacheName(), Caffeine.newBuilder().recordStats()
-                                .expireAfterWrite(cache.getExpireAfterWrite(), TimeUnit.SECONDS)
+                                .expireAfterWrite(cache.getExpireAfterWrite(), TimeUnit.MILLISECONDS)
                                 .maximumSize(cache.getMaximumSize())
                                 .build()
                         )
@@ -13,14 +13,14 @@ import org.springframework.security.config.annotation.web.configuration.EnableWe
 import org.springframework.security.config.annotation.web.configuration.WebSecurityConfigurerAdapter;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.core.userdetails.UserDetailsService;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 import store.juin.api.account.enumeration.AccountRole;
+import store.juin.api.account.guard.BoundedPasswordEncoder;
 import store.juin.api.token.jwt.ForbiddenHandler;
+import store.juin.api.token.jwt.PublicRouteTable;
 import store.juin.api.token.jwt.TokenAuthenticationEntryPoint;
 import store.juin.api.token.jwt.TokenRequestFilter;
 
@@ -34,6 +34,7 @@ import store.juin.api.token.jwt.TokenRequestFilter;
 public class SecurityConfig extends WebSecurityConfigurerAdapter {
     private final UserDetailsService userDetailsService;
     private final TokenRequestFilter tokenRequestFilter;
+    private final PublicRouteTable publicRouteTable;
     private final TokenAuthenticationEntryPoint tokenAuthenticationEntryPoint;
 
     private final ForbiddenHandler forbiddenHandler;
@@ -41,14 +42,28 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
     @Value("${front.url}")
     private String frontUrl;
 
+    // 0이면 CPU 코어 수의 절반
+    @Value("${password-hashing.thread-count:0}")
+    private int passwordHashingThreadCount;
+
+    @Value("${password-hashing.queue-capacity:32}")
+    private int passwordHashingQueueCapacity;
+
+    @Value("${password-hashing.timeout:3000}")
+    private long passwordHashingTimeout;
+
     /**
-     * 비밀번호 해시
+     * 비밀번호 해시, BCrypt는 전용 스레드 풀에서만 돈다.
      *
      * @return
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public BoundedPasswordEncoder passwordEncoder() {
+        final int threadCount = passwordHashingThreadCount > 0
+                ? passwordHashingThreadCount
+                : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+
+        return new BoundedPasswordEncoder(threadCount, passwordHashingQueueCapacity, passwordHashingTimeout);
     }
 
 
@@ -120,6 +135,9 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
         httpSecurity
                 .authorizeRequests()
 
+                // 공개 조회 경로는 트라이 판정 한 번으로 끝낸다.
+                .requestMatchers(publicRouteTable).permitAll()
+
                 // role이 admin만 해당 엔드포인트 접근 가능
                 .antMatchers("/api/admin/**").hasRole(AccountRole.ADMIN.name()) // admin만 허용
 
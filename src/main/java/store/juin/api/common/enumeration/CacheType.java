@@ -3,12 +3,28 @@ package store.juin.api.common.enumeration;
 import lombok.Getter;
 
 import static store.juin.api.util.TimeUtil.ONE_MINUTE;
+import static store.juin.api.util.TimeUtil.ONE_SECOND;
 
 @Getter
 public enum CacheType {
-    AUTH_NUMBER(
-            "AuthNumber",
-            5 * ONE_MINUTE,
+    ITEM_COUNT(
+            "ItemCount",
+            30 * ONE_SECOND,
+            10000
+    ),
+    ORDER_COUNT(
+            "OrderCount",
+            30 * ONE_SECOND,
+            10000
+    ),
+    ITEM_SNAPSHOT(
+            "ItemSnapshot",
+            10 * ONE_MINUTE,
+            1000
+    ),
+    ACCOUNT_SNAPSHOT(
+            "AccountSnapshot",
+            ONE_MINUTE,
             10000
     );
 
@@ -19,7 +35,7 @@ public enum CacheType {
     }
 
     private final String cacheName;
-    private final long expireAfterWrite;
+    private final long expireAfterWrite; // ms
     private final long maximumSize;
 
 }
@@ -1,6 +1,12 @@
 package store.juin.api.common.exception;
 
 public class Msg {
+    // pagination
+    public static final String INVALID_CURSOR = "cursor 값이 올바르지 않습니다.";
+    public static final String INVALID_CURSOR_SIZE = "size는 1 이상 100 이하여야 합니다.";
+    public static final String CURSOR_SORT_NOT_SUPPORTED = "cursor와 sort는 같이 쓸 수 없습니다.";
+    public static final String INVALID_SORT_PROPERTY = "정렬할 수 없는 항목입니다.";
+
     // JWT
     public static final String INVALID_REFRESH_TOKEN = "Refresh Token 정보가 올바르지 않습니다.";
 
@@ -10,6 +16,7 @@ public class Msg {
     public static final String ACCOUNT_NOT_FOUND = "존재하지 않는 계정입니다.";
     public static final String DUPLICATED_ACCOUNT = "이미 존재하는 계정입니다.";
     public static final String DUPLICATED_IDENTIFICATION = "이미 사용 중인 아이디입니다.";
+    public static final String LOGIN_TOO_MANY_REQUESTS = "로그인 요청이 너무 많습니다. 잠시 후 다시 시도해 주세요.";
 
     // address
     public static final String ADDRESS_NOT_FOUND = "주소를 찾을 수 없습니다.";
@@ -19,6 +26,7 @@ public class Msg {
 
     // item
     public static final String ITEM_NOT_FOUND = "존재하지 않는 상품입니다.";
+    public static final String ITEM_NOT_ENOUGH_STOCK = "재고가 부족한 상품이 있습니다.";
 
     // cart
     public static final String CART_NOT_FOUND = "장바구니를 찾을 수 없습니다.";
@@ -33,6 +41,7 @@ public class Msg {
     public static final String ITEM_THUMBNAIL_NOT_FOUND = "썸네일 이미지를 찾을 수 없습니다.";
     public static final String ITEM_THUMBNAIL_REQUIRED = "상품 썸네일 이미지는 필수입니다.";
     public static final String ITEM_IMAGE_NOT_FOUND = "상품 이미지를 찾을 수 없습니다.";
+    public static final String ITEM_IMAGE_UPLOAD_FAILED = "상품 이미지를 저장하지 못했습니다.";
 
     public static final String ILLEGAL_ITEM_IMAGE_FILE_NAME = "파일 이름에 문제가 있습니다.";
 
@@ -40,6 +49,7 @@ public class Msg {
     public static final String ORDER_DELIVERY_RECEIVER_REQUIRED = "받는 사람은 필수입니다.";
     public static final String ORDER_NOT_FOUND = "존재하지 않는 주문 정보입니다.";
     public static final String ORDER_ALREADY_DELIVERY = "이미 배송된 상품은 취소가 불가능합니다";
+    public static final String ORDER_INVALID_COUNT = "주문 수량은 1개 이상이어야 합니다.";
 
     public static final String ORDER_ITEM_NOT_FOUND = "존재하지 않는 주문 제품입니다.";
 
@@ -47,4 +57,7 @@ public class Msg {
 
     public static final String DELIVERY_INVALID_REQUEST = "올바르지 않는 배송 정보 조회 요청입니다.";
     public static final String REVIEW_NOT_FOUND = "존재하지 않는 리뷰입니다.";
+
+    // email
+    public static final String EMAIL_QUEUE_FULL = "메일 발송 요청이 많습니다. 잠시 후 다시 시도해 주세요.";
 }
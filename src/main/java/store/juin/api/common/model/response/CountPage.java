@@ -0,0 +1,42 @@
+package store.juin.api.common.model.response;
+
+import lombok.Getter;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.function.LongSupplier;
+
+/**
+ * count 쿼리를 최대한 피하는 Page.
+ * approximateCap보다 결과가 많으면 정확한 값 대신 cap을 totalElements로 내려주고 approximate=true로 표시한다. (프론트에서 "10,000+")
+ */
+@Getter
+public class CountPage<T> extends PageImpl<T> {
+    private final boolean approximate;
+
+    public CountPage(List<T> content, Pageable pageable, long total, boolean approximate) {
+        super(content, pageable, total);
+        this.approximate = approximate;
+    }
+
+    /**
+     * @param countSupplier  count가 꼭 필요할 때만 호출한다.
+     * @param approximateCap 0이면 항상 정확한 count
+     */
+    public static <T> CountPage<T> of(List<T> content, Pageable pageable, LongSupplier countSupplier, long approximateCap) {
+        // 첫 페이지가 다 안 찼거나 마지막 페이지면 count 없이 total을 알 수 있다.
+        if (pageable.getOffset() == 0 && content.size() < pageable.getPageSize()) {
+            return new CountPage<>(content, pageable, content.size(), false);
+        }
+
+        if (!content.isEmpty() && content.size() < pageable.getPageSize()) {
+            return new CountPage<>(content, pageable, pageable.getOffset() + content.size(), false);
+        }
+
+        final long count = countSupplier.getAsLong();
+        final boolean approximate = approximateCap > 0 && count > approximateCap;
+
+        return new CountPage<>(content, pageable, approximate ? approximateCap : count, approximate);
+    }
+}
@@ -0,0 +1,35 @@
+package store.juin.api.common.model.response;
+
+import lombok.Data;
+import lombok.experimental.Accessors;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서 페이지네이션 응답. count 쿼리를 하지 않기 때문에 전체 개수 없이 다음 페이지 cursor만 내려준다.
+ */
+@Data
+@Accessors(chain = true)
+public class CursorPage<T> {
+    private List<T> content;
+
+    private int size;
+
+    // 다음 페이지가 없으면 null
+    private String nextCursor;
+
+    /**
+     * @param fetchedList  size + 1개까지 조회한 결과. 한 개가 더 있으면 다음 페이지가 있다.
+     * @param cursorMaker 현재 페이지 마지막 row로 cursor를 만든다.
+     */
+    public static <T> CursorPage<T> of(List<T> fetchedList, int size, Function<T, String> cursorMaker) {
+        final boolean hasNext = fetchedList.size() > size;
+        final List<T> content = hasNext ? fetchedList.subList(0, size) : fetchedList;
+
+        return new CursorPage<T>()
+                .setContent(content)
+                .setSize(size)
+                .setNextCursor(hasNext ? cursorMaker.apply(content.get(content.size() - 1)) : null);
+    }
+}
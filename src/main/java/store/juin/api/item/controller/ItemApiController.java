@@ -4,16 +4,19 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
 import store.juin.api.account.enumeration.PersonalColor;
+import store.juin.api.common.model.response.CursorPage;
 import store.juin.api.common.model.response.JUINResponse;
-import store.juin.api.item.model.entity.Item;
 import store.juin.api.item.model.response.ItemRetrieveResponse;
 import store.juin.api.item.service.query.ItemQueryService;
+import store.juin.api.util.CursorUtil;
 
 import javax.persistence.EntityNotFoundException;
+import java.security.InvalidParameterException;
 
 @Slf4j
 @RestController
@@ -27,9 +30,7 @@ public class ItemApiController {
         log.info("[P9][CTRL][ITEM][RONE]: GET /api/items/{}", itemId);
 
         try {
-            final Item item = itemQueryService.readById(itemId);
-
-            var response = ItemRetrieveResponse.from(item);
+            var response = itemQueryService.readSnapshotById(itemId).toItemRetrieveResponse();
             return new JUINResponse<>(HttpStatus.OK, response);
         } catch (EntityNotFoundException e) {
             log.warn("[P5][CTRL][ITEM][RONE]: ({})", e.getMessage());
@@ -45,12 +46,30 @@ public class ItemApiController {
 
             var response = itemQueryService.display(pageable);
             return new JUINResponse<>(HttpStatus.OK, response);
-        } catch (EntityNotFoundException e) {
+        } catch (EntityNotFoundException | InvalidParameterException e) {
             log.warn("[P5][CTRL][ITEM][RALL]: ({})", e.getMessage());
             return new JUINResponse<>(HttpStatus.BAD_REQUEST, null);
         }
     }
 
+    // cursor 파라미터가 있으면 (빈 값이면 첫 페이지) 커서 페이지네이션으로 응답한다.
+    @GetMapping(params = "cursor")
+    public JUINResponse<CursorPage<ItemRetrieveResponse>> retrieveAllByCursor(@RequestParam(required = false) String cursor,
+                                                                             @RequestParam(defaultValue = "10") int size,
+                                                                             Sort sort) {
+        log.info("[P9][CTRL][ITEM][RALC]: GET /api/items cursor=({}), size=({}), sort=({})", cursor, size, sort);
+
+        try {
+            CursorUtil.validSort(sort);
+
+            var response = itemQueryService.displayByCursor(cursor, size);
+            return new JUINResponse<>(HttpStatus.OK, response);
+        } catch (InvalidParameterException e) {
+            log.warn("[P5][CTRL][ITEM][RALC]: ({}), cursor=({}), size=({}), sort=({})", e.getMessage(), cursor, size, sort);
+            return new JUINResponse<>(HttpStatus.BAD_REQUEST, null);
+        }
+    }
+
     @GetMapping("/search")
     public JUINResponse<Page<ItemRetrieveResponse>> search(@PageableDefault(size = 10) Pageable pageable,
                                                            @RequestParam(required = false) Long categoryId,
@@ -63,7 +82,7 @@ public class ItemApiController {
 
             var response = itemQueryService.search(pageable, searchTitle, categoryId, personalColor);
             return new JUINResponse<>(HttpStatus.OK, response);
-        } catch (EntityNotFoundException e) {
+        } catch (EntityNotFoundException | InvalidParameterException e) {
             log.warn("[P5][CTRL][ITEM][SARH]: ({}), pageable=({}), categoryId=({}), searchTitle=({}), personalColor=({})",
                     e.getMessage(), pageable, categoryId, searchTitle, personalColor);
             return new JUINResponse<>(HttpStatus.BAD_REQUEST, null);
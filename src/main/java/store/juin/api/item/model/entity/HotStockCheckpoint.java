@@ -0,0 +1,39 @@
+package store.juin.api.item.model.entity;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+import store.juin.api.common.model.entity.BaseEntity;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+/**
+ * 핫 재고 저널을 어디까지 DB에 반영했는지 남기는 한 줄짜리 테이블.
+ * 재고 UPDATE와 같은 트랜잭션에서 갱신하므로, 세그먼트를 지우기 전에 죽어도 다음 기동 때 같은 세그먼트를 다시 반영하지 않는다.
+ */
+@Getter
+@Entity
+@SuperBuilder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class HotStockCheckpoint extends BaseEntity {
+    public static final Long SINGLE_ID = 1L;
+
+    @Id @Column(name = "hot_stock_checkpoint_id")
+    private Long id;
+
+    private long segmentNo;     // DB에 반영을 마친 마지막 저널 세그먼트 번호
+
+    public static HotStockCheckpoint empty() {
+        return HotStockCheckpoint.builder()
+                .id(SINGLE_ID)
+                .segmentNo(0)
+                .build();
+    }
+
+    public void advance(long segmentNo) {
+        this.segmentNo = Math.max(this.segmentNo, segmentNo);
+    }
+}
@@ -5,12 +5,12 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.DynamicUpdate;
 import org.springframework.data.domain.Page;
 import store.juin.api.account.enumeration.PersonalColor;
 import store.juin.api.category.model.entity.Category;
 import store.juin.api.common.model.entity.BaseEntity;
 import store.juin.api.item.enumeration.ItemStatus;
-import store.juin.api.item.enumeration.NotEnoughStockException;
 import store.juin.api.itemimage.model.entity.ItemImage;
 import store.juin.api.orderitem.model.entity.OrderItem;
 
@@ -23,6 +23,7 @@ import java.util.stream.Collectors;
 @Getter
 @Entity
 @SuperBuilder
+@DynamicUpdate // 재고는 ItemRepository의 조건부 UPDATE로만 바꾼다. 변경 감지가 예전 재고로 덮어쓰지 않도록 바뀐 컬럼만 UPDATE 한다.
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Item extends BaseEntity {
     @Id @Column(name = "item_id")
@@ -77,23 +78,8 @@ public class Item extends BaseEntity {
         }
     }
 
-    // 재고 증가
-    public void addQuantity(Integer quantity){
-        this.quantity += quantity;
-        this.soldCount -= quantity;
-    }
-    
-    // 재고 삭제
-    public void removeQuantity(Integer quantity){
-        int restQuantity = this.quantity - quantity;
-
-        if(restQuantity < 0){
-            throw new NotEnoughStockException("Need More Stock. Current Stock: " + restQuantity);
-        }
-        this.quantity = restQuantity;
-        this.soldCount += quantity;
-    }
-
+    // 재고(ItemCommandService.removeQuantity, restoreQuantity)나 상태를 바꾸면
+    // 커밋 뒤에 ItemSnapshotCacheService.evict로 상품 상세 캐시를 비워야 한다.
     public void updateStatus(ItemStatus itemStatus) {
         this.itemStatus = itemStatus;
     }
@@ -0,0 +1,38 @@
+package store.juin.api.item.model.request;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.springframework.util.StringUtils;
+import store.juin.api.account.enumeration.PersonalColor;
+
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 상품 count 캐시 키. 같은 조건이 같은 키가 되도록 검색어는 normalizeName을 거친 값을 받는다.
+ * 페이지 쿼리에도 같은 값을 넘겨야 count와 목록의 조건이 어긋나지 않는다.
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class ItemCountCondition {
+    private final String name;
+
+    private final Set<Long> categoryIdSet;
+
+    private final PersonalColor personalColor;
+
+    // name은 normalizeName을 거친 값
+    public static ItemCountCondition of(String name, Set<Long> categoryIdSet, PersonalColor personalColor) {
+        return new ItemCountCondition(name, categoryIdSet, personalColor);
+    }
+
+    // 앞뒤 공백을 자르고 소문자로 맞춘다. (MySQL 기본 collation은 대소문자를 구분하지 않아 결과는 같다)
+    public static String normalizeName(String name) {
+        return StringUtils.hasText(name) ? name.trim().toLowerCase(Locale.ROOT) : null;
+    }
+}
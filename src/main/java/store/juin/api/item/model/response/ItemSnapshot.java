@@ -0,0 +1,75 @@
+package store.juin.api.item.model.response;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import store.juin.api.item.enumeration.ItemStatus;
+import store.juin.api.itemcategory.model.response.ItemImageRetrieveResponse;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 상품 상세 캐시에 들어가는 스냅샷. 캐시에 있는 값을 여러 요청이 같이 보기 때문에 만든 뒤에는 바꾸지 않는다.
+ * 응답이 필요하면 toItemRetrieveResponse()로 매번 새 응답 객체를 만들어 쓴다.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class ItemSnapshot {
+    private final Long id;
+
+    private final String name;
+
+    private final Integer price;
+
+    private final Integer quantity;
+
+    private final Integer soldCount;
+
+    private final String description;
+
+    private final ItemStatus itemStatus;
+
+    private final List<ItemImageRetrieveResponse> itemImageList;
+
+    public static ItemSnapshot from(ItemRetrieveResponse response) {
+        final List<ItemImageRetrieveResponse> itemImageList = response.getItemImageList().stream()
+                .map(ItemSnapshot::copy)
+                .collect(Collectors.toList());
+
+        return new ItemSnapshot(response.getId(),
+                response.getName(),
+                response.getPrice(),
+                response.getQuantity(),
+                response.getSoldCount(),
+                response.getDescription(),
+                response.getItemStatus(),
+                Collections.unmodifiableList(itemImageList));
+    }
+
+    public ItemRetrieveResponse toItemRetrieveResponse() {
+        return new ItemRetrieveResponse()
+                .setId(id)
+                .setName(name)
+                .setPrice(price)
+                .setQuantity(quantity)
+                .setSoldCount(soldCount)
+                .setDescription(description)
+                .setItemStatus(itemStatus)
+                .setItemImageList(itemImageList.stream()
+                        .map(ItemSnapshot::copy)
+                        .collect(Collectors.toList()));
+    }
+
+    // 이미지 응답은 setter가 열려 있어서 넣을 때와 꺼낼 때 모두 복사한다.
+    private static ItemImageRetrieveResponse copy(ItemImageRetrieveResponse itemImage) {
+        return new ItemImageRetrieveResponse()
+                .setImageName(itemImage.getImageName())
+                .setOriginName(itemImage.getOriginName())
+                .setImageUrl(itemImage.getImageUrl())
+                .setSrcset(itemImage.getSrcset())
+                .setThumbnail(itemImage.getThumbnail())
+                .setRepresentative(itemImage.getRepresentative());
+    }
+}
@@ -0,0 +1,9 @@
+package store.juin.api.item.repository.jpa;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import store.juin.api.item.model.entity.HotStockCheckpoint;
+
+@Repository
+public interface HotStockCheckpointRepository extends JpaRepository<HotStockCheckpoint, Long> {
+}
@@ -3,10 +3,15 @@ package store.juin.api.item.repository.jpa;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import store.juin.api.account.enumeration.PersonalColor;
 import store.juin.api.item.model.entity.Item;
 
+import java.util.List;
+
 @Repository
 public interface ItemRepository extends JpaRepository<Item, Long>, QuerydslItemRepository {
     Page<Item> findAll(Pageable pageable);
@@ -18,4 +23,31 @@ public interface ItemRepository extends JpaRepository<Item, Long>, QuerydslItemR
     Long countByNameContaining(String name);
 
     Page<Item> findAllByPersonalColor(Pageable pageable, PersonalColor personalColor);
+
+    // 재고가 count 이상인 상품만 한 번의 UPDATE로 차감한다. 갱신된 행 수가 상품 수보다 적으면 재고가 모자란 상품이 있다.
+    // 영속성 컨텍스트에 남은 상품이 예전 재고로 덮어쓰지 않도록 실행 전후로 flush/clear 한다.
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Item i " +
+            "SET i.quantity = i.quantity - :count, " +
+            "i.soldCount = COALESCE(i.soldCount, 0) + :count, " +
+            "i.updatedAt = CURRENT_TIMESTAMP " +
+            "WHERE i.id IN :itemIdList AND i.quantity >= :count")
+    int decreaseQuantity(@Param("itemIdList") List<Long> itemIdList, @Param("count") int count);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Item i " +
+            "SET i.quantity = i.quantity + :count, " +
+            "i.soldCount = COALESCE(i.soldCount, 0) - :count, " +
+            "i.updatedAt = CURRENT_TIMESTAMP " +
+            "WHERE i.id = :itemId")
+    int increaseQuantity(@Param("itemId") Long itemId, @Param("count") int count);
+
+    // HotStockLedger가 메모리에서 이미 검사한 판매량(취소는 음수)을 모아서 반영한다.
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Item i " +
+            "SET i.quantity = i.quantity - :delta, " +
+            "i.soldCount = COALESCE(i.soldCount, 0) + :delta, " +
+            "i.updatedAt = CURRENT_TIMESTAMP " +
+            "WHERE i.id = :itemId")
+    int applySoldDelta(@Param("itemId") Long itemId, @Param("delta") int delta);
 }
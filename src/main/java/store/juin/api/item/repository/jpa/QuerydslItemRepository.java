@@ -3,14 +3,33 @@ package store.juin.api.item.repository.jpa;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
+import store.juin.api.account.enumeration.PersonalColor;
 import store.juin.api.item.model.entity.Item;
+import store.juin.api.item.model.response.ItemRetrieveResponse;
+import store.juin.api.item.search.ItemSearchDocument;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Repository
 public interface QuerydslItemRepository {
     Optional<List<Item>> findAllByIdIn(List<Long> itemIdList);
 
     Optional<Page<Item>> findByNameContainingAndCategoryId(Pageable pageable, String name, Long categoryId);
+
+    List<ItemRetrieveResponse> findAllJoinItemImage(Pageable pageable,
+                                                    String name,
+                                                    Set<Long> categoryIdSet,
+                                                    PersonalColor personalColor);
+
+    long countItem(String name, Set<Long> categoryIdSet, PersonalColor personalColor);
+
+    long countItemUpTo(String name, Set<Long> categoryIdSet, PersonalColor personalColor, long limit);
+
+    List<ItemRetrieveResponse> findAllJoinItemImageByCursor(Long lastItemId, int limit);
+
+    List<ItemRetrieveResponse> findAllJoinItemImageByIdIn(List<Long> itemIdList);
+
+    List<ItemSearchDocument> findAllItemSearchDocument();
 }
@@ -1,24 +1,51 @@
 package store.juin.api.item.repository.querydsl.impl;
 
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Order;
+import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.ComparableExpressionBase;
+import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.util.StringUtils;
+import store.juin.api.account.enumeration.PersonalColor;
+import store.juin.api.common.exception.Msg;
 import store.juin.api.item.model.entity.Item;
+import store.juin.api.item.model.response.ItemRetrieveResponse;
 import store.juin.api.item.repository.jpa.QuerydslItemRepository;
+import store.juin.api.item.search.ItemSearchDocument;
+import store.juin.api.itemimage.model.entity.ItemImage;
 
+import java.security.InvalidParameterException;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import static com.querydsl.core.types.dsl.Wildcard.count;
 import static store.juin.api.item.model.entity.QItem.item;
+import static store.juin.api.itemimage.model.entity.QItemImage.itemImage;
 
 
 @RequiredArgsConstructor
 public class QuerydslItemRepositoryImpl implements QuerydslItemRepository {
+    // 정렬할 수 있는 property. 그 밖의 값(연관 경로, 없는 property 등)은 거절한다.
+    private static final Map<String, ComparableExpressionBase<?>> SORTABLE_PROPERTY_MAP = Map.of(
+            "id", item.id,
+            "name", item.name,
+            "price", item.price,
+            "soldCount", item.soldCount,
+            "createdAt", item.createdAt
+    );
+
     private final JPAQueryFactory queryFactory;
 
     @Override
@@ -45,21 +72,172 @@ public class QuerydslItemRepositoryImpl implements QuerydslItemRepository {
                         .limit(pageable.getPageSize())
                         .fetch();
 
-        return Optional.of(new PageImpl<>(itemList, pageable, countItem(name, categoryId)));
+        return Optional.of(new PageImpl<>(itemList, pageable, countItem(name, categoryId == null ? null : Set.of(categoryId), null)));
+    }
+
+    /**
+     * 상품 목록 + 상품 이미지를 페이지 크기와 상관없이 고정된 쿼리 수(상품, 이미지)로 조회한다.
+     * item.getItemImageList()를 상품마다 호출하면 lazy loading 쿼리가 상품 수만큼 나가기 때문에
+     * 이미지는 item_id IN (...)으로 한 번에 읽어서 메모리에서 묶는다.
+     * 전체 개수는 countItem으로 따로 구한다. (ItemCountCacheService에서 캐시)
+     */
+    @Override
+    public List<ItemRetrieveResponse> findAllJoinItemImage(Pageable pageable,
+                                                           String name,
+                                                           Set<Long> categoryIdSet,
+                                                           PersonalColor personalColor) {
+        final List<Item> itemList =
+                queryFactory
+                        .select(item)
+                        .from(item)
+                        .where(orderNameContains(name), categoryIdIn(categoryIdSet), personalColorEq(personalColor))
+                        .orderBy(makeOrderSpecifiers(pageable.getSort()))
+                        .offset(pageable.getOffset())
+                        .limit(pageable.getPageSize())
+                        .fetch();
+
+        final Map<Long, List<ItemImage>> itemImageMap = findItemImageMapByItemIdIn(
+                itemList.stream().map(Item::getId).collect(Collectors.toList())
+        );
+
+        return itemList.stream()
+                .map(it -> ItemRetrieveResponse.of(it, itemImageMap.getOrDefault(it.getId(), Collections.emptyList())))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 커서 페이지네이션. OFFSET 대신 마지막으로 읽은 id 다음부터 PK 인덱스로 바로 찾아가고 count 쿼리는 하지 않는다.
+     */
+    @Override
+    public List<ItemRetrieveResponse> findAllJoinItemImageByCursor(Long lastItemId, int limit) {
+        final List<Item> itemList =
+                queryFactory
+                        .select(item)
+                        .from(item)
+                        .where(itemIdLt(lastItemId))
+                        .orderBy(item.id.desc())
+                        .limit(limit)
+                        .fetch();
+
+        final Map<Long, List<ItemImage>> itemImageMap = findItemImageMapByItemIdIn(
+                itemList.stream().map(Item::getId).collect(Collectors.toList())
+        );
+
+        return itemList.stream()
+                .map(it -> ItemRetrieveResponse.of(it, itemImageMap.getOrDefault(it.getId(), Collections.emptyList())))
+                .collect(Collectors.toList());
     }
 
-    private Long countItem(String name, Long categoryId) {
+    /**
+     * 검색 인덱스가 찾은 id 중 현재 페이지에 해당하는 상품만 읽는다. 결과는 itemIdList 순서를 따른다.
+     */
+    @Override
+    public List<ItemRetrieveResponse> findAllJoinItemImageByIdIn(List<Long> itemIdList) {
+        if (itemIdList.isEmpty()) return Collections.emptyList();
+
+        final Map<Long, Item> itemMap =
+                queryFactory
+                        .select(item)
+                        .from(item)
+                        .where(item.id.in(itemIdList))
+                        .fetch()
+                        .stream()
+                        .collect(Collectors.toMap(Item::getId, it -> it));
+
+        final Map<Long, List<ItemImage>> itemImageMap = findItemImageMapByItemIdIn(new ArrayList<>(itemMap.keySet()));
+
+        return itemIdList.stream()
+                .filter(itemMap::containsKey)
+                .map(itemId -> ItemRetrieveResponse.of(itemMap.get(itemId), itemImageMap.getOrDefault(itemId, Collections.emptyList())))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<ItemSearchDocument> findAllItemSearchDocument() {
+        return queryFactory
+                .select(Projections.fields(ItemSearchDocument.class,
+                        item.id,
+                        item.name,
+                        item.category.id.as("categoryId")))
+                .from(item)
+                .fetch();
+    }
+
+    private Map<Long, List<ItemImage>> findItemImageMapByItemIdIn(List<Long> itemIdList) {
+        if (itemIdList.isEmpty()) return Collections.emptyMap();
+
+        // itemImage.getItem().getId()는 프록시 초기화가 일어날 수 있어서 FK를 같이 조회한다.
+        final List<Tuple> tupleList =
+                queryFactory
+                        .select(itemImage, itemImage.item.id)
+                        .from(itemImage)
+                        .where(itemImage.item.id.in(itemIdList))
+                        .orderBy(itemImage.id.asc())
+                        .fetch();
+
+        return tupleList.stream()
+                .collect(Collectors.groupingBy(
+                        tuple -> tuple.get(itemImage.item.id),
+                        Collectors.mapping(tuple -> tuple.get(itemImage), Collectors.toList())
+                ));
+    }
+
+    @Override
+    public long countItem(String name, Set<Long> categoryIdSet, PersonalColor personalColor) {
         return queryFactory.select(count)
                 .from(item)
-                .where(orderNameContains(name), categoryIdEq(categoryId))
+                .where(orderNameContains(name), categoryIdIn(categoryIdSet), personalColorEq(personalColor))
                 .fetchOne();
     }
 
+    // 결과가 아주 많을 때 전체를 세지 않는다. limit번째 행이 있는지만 한 행으로 확인하고, 없으면 limit개 미만이라 정확히 센다.
+    @Override
+    public long countItemUpTo(String name, Set<Long> categoryIdSet, PersonalColor personalColor, long limit) {
+        final Long probe = queryFactory.select(item.id)
+                .from(item)
+                .where(orderNameContains(name), categoryIdIn(categoryIdSet), personalColorEq(personalColor))
+                .offset(limit - 1)
+                .fetchFirst();
+        if (probe != null) return limit;
+
+        return countItem(name, categoryIdSet, personalColor);
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private OrderSpecifier<?>[] makeOrderSpecifiers(Sort sort) {
+        final List<OrderSpecifier<?>> orderSpecifierList = new ArrayList<>();
+
+        for (Sort.Order order : sort) {
+            final ComparableExpressionBase<?> expression = SORTABLE_PROPERTY_MAP.get(order.getProperty());
+            if (expression == null) throw new InvalidParameterException(Msg.INVALID_SORT_PROPERTY);
+
+            orderSpecifierList.add(new OrderSpecifier(
+                    order.isAscending() ? Order.ASC : Order.DESC,
+                    expression
+            ));
+        }
+
+        return orderSpecifierList.toArray(new OrderSpecifier[0]);
+    }
+
     private BooleanExpression orderNameContains(String name) {
         return StringUtils.hasText(name) ? item.name.contains(name) : null;
     }
 
+    private BooleanExpression itemIdLt(Long lastItemId) {
+        return lastItemId != null ? item.id.lt(lastItemId) : null;
+    }
+
     private BooleanExpression categoryIdEq(Long categoryId) {
         return categoryId != null ? item.category.id.eq(categoryId) : null;
     }
-}
\ No newline at end of file
+
+    // 하위 카테고리까지 포함한 id 집합 (CategoryTreeSnapshot에서 미리 계산)
+    private BooleanExpression categoryIdIn(Set<Long> categoryIdSet) {
+        return categoryIdSet != null ? item.category.id.in(categoryIdSet) : null;
+    }
+
+    private BooleanExpression personalColorEq(PersonalColor personalColor) {
+        return personalColor != null ? item.personalColor.eq(personalColor) : null;
+    }
+}
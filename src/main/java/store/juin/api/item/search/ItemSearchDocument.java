@@ -0,0 +1,22 @@
+package store.juin.api.item.search;
+
+import lombok.Data;
+import lombok.experimental.Accessors;
+import store.juin.api.item.model.entity.Item;
+
+@Data
+@Accessors(chain = true)
+public class ItemSearchDocument {
+    private Long id;
+
+    private String name;
+
+    private Long categoryId;
+
+    public static ItemSearchDocument from(Item item) {
+        return new ItemSearchDocument()
+                .setId(item.getId())
+                .setName(item.getName())
+                .setCategoryId(item.getCategory().getId());
+    }
+}
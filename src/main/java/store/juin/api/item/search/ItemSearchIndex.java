@@ -0,0 +1,19 @@
+package store.juin.api.item.search;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 상품명 검색용 인덱스.
+ * LIKE '%...%' 검색 대신 인덱스에서 상품 id만 찾고, 실제 데이터는 현재 페이지만 DB에서 읽는다.
+ */
+public interface ItemSearchIndex {
+    void rebuild(List<ItemSearchDocument> documentList);
+
+    void add(ItemSearchDocument document);
+
+    void remove(Long itemId);
+
+    // 검색어가 포함된 상품 id 목록 (id 오름차순), categoryIdSet이 null이면 전체 카테고리
+    List<Long> search(String keyword, Set<Long> categoryIdSet);
+}
@@ -0,0 +1,31 @@
+package store.juin.api.item.search;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import store.juin.api.item.service.query.ItemQueryService;
+
+import java.util.List;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ItemSearchIndexInitializer {
+    private final ItemSearchIndex itemSearchIndex;
+
+    private final ItemQueryService itemQueryService;
+
+    // 서버가 뜨면 item 테이블 전체로 인덱스를 만든다. 이후에는 ItemCommandService에서 증분 반영한다.
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        final long start = System.currentTimeMillis();
+        final List<ItemSearchDocument> documentList = itemQueryService.readAllSearchDocument();
+
+        itemSearchIndex.rebuild(documentList);
+
+        log.info("[P9][COM][ITSI][INIT]: 상품 검색 인덱스 생성 완료. count=({}), elapsed=({}ms)",
+                documentList.size(), System.currentTimeMillis() - start);
+    }
+}
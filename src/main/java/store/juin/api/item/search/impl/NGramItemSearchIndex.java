@@ -0,0 +1,126 @@
+package store.juin.api.item.search.impl;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import store.juin.api.item.search.ItemSearchDocument;
+import store.juin.api.item.search.ItemSearchIndex;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 상품명을 2-gram으로 잘라서 만든 메모리 역색인.
+ * 형태소 분석 없이 글자 단위로 자르기 때문에 한글 상품명도 부분 검색이 된다.
+ * n-gram 교집합은 후보일 뿐이라 마지막에 실제 포함 여부를 한 번 더 확인한다. (LIKE '%...%'와 같은 결과)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(value = "item-search.index", havingValue = "ngram", matchIfMissing = true) // ${item-search.index} == ngram이거나 없을 때 빈 등록.
+public class NGramItemSearchIndex implements ItemSearchIndex {
+    private static final int GRAM_SIZE = 2;
+
+    // itemId -> 정규화된 상품명을 가진 문서
+    private final Map<Long, ItemSearchDocument> documentMap = new ConcurrentHashMap<>();
+
+    // gram -> itemId 목록
+    private final Map<String, Set<Long>> postingMap = new ConcurrentHashMap<>();
+
+    @Override
+    public void rebuild(List<ItemSearchDocument> documentList) {
+        documentMap.clear();
+        postingMap.clear();
+
+        documentList.forEach(this::add);
+    }
+
+    @Override
+    public void add(ItemSearchDocument document) {
+        if (document.getId() == null || !StringUtils.hasText(document.getName())) return;
+
+        this.remove(document.getId());
+
+        final ItemSearchDocument normalized = new ItemSearchDocument()
+                .setId(document.getId())
+                .setName(normalize(document.getName()))
+                .setCategoryId(document.getCategoryId());
+
+        documentMap.put(normalized.getId(), normalized);
+
+        for (String gram : makeGramSet(normalized.getName())) {
+            postingMap.compute(gram, (key, posting) -> {
+                final Set<Long> result = posting == null ? ConcurrentHashMap.newKeySet() : posting;
+                result.add(normalized.getId());
+                return result;
+            });
+        }
+    }
+
+    @Override
+    public void remove(Long itemId) {
+        final ItemSearchDocument document = documentMap.remove(itemId);
+        if (document == null) return;
+
+        for (String gram : makeGramSet(document.getName())) {
+            postingMap.computeIfPresent(gram, (key, posting) -> {
+                posting.remove(itemId);
+                return posting.isEmpty() ? null : posting;
+            });
+        }
+    }
+
+    @Override
+    public List<Long> search(String keyword, Set<Long> categoryIdSet) {
+        if (!StringUtils.hasText(keyword)) return Collections.emptyList();
+
+        final String normalizedKeyword = normalize(keyword);
+
+        return this.findCandidateList(normalizedKeyword).stream()
+                .map(documentMap::get)
+                .filter(Objects::nonNull)
+                .filter(document -> categoryIdSet == null || categoryIdSet.contains(document.getCategoryId()))
+                .filter(document -> document.getName().contains(normalizedKeyword))
+                .map(ItemSearchDocument::getId)
+                .sorted()
+                .collect(Collectors.toList());
+    }
+
+    private Collection<Long> findCandidateList(String normalizedKeyword) {
+        // gram보다 짧은 검색어는 색인을 쓸 수 없어서 전체 문서에서 찾는다.
+        if (normalizedKeyword.length() < GRAM_SIZE) return new ArrayList<>(documentMap.keySet());
+
+        // 작은 posting부터 교집합을 구해야 중간 결과가 작다.
+        final List<Set<Long>> postingList = new ArrayList<>();
+        for (String gram : makeGramSet(normalizedKeyword)) {
+            final Set<Long> posting = postingMap.get(gram);
+            if (posting == null) return Collections.emptyList();
+
+            postingList.add(posting);
+        }
+        postingList.sort(Comparator.comparingInt(Set::size));
+
+        final Set<Long> candidateSet = new HashSet<>(postingList.get(0));
+        for (int i = 1; i < postingList.size() && !candidateSet.isEmpty(); i++) {
+            candidateSet.retainAll(postingList.get(i));
+        }
+
+        return candidateSet;
+    }
+
+    private Set<String> makeGramSet(String text) {
+        final Set<String> gramSet = new HashSet<>();
+
+        for (int i = 0; i + GRAM_SIZE <= text.length(); i++) {
+            gramSet.add(text.substring(i, i + GRAM_SIZE));
+        }
+
+        return gramSet;
+    }
+
+    // MySQL 기본 collation처럼 대소문자를 구분하지 않는다.
+    private String normalize(String text) {
+        return text.toLowerCase(Locale.ROOT);
+    }
+}
@@ -12,16 +12,28 @@ import store.juin.api.category.service.query.CategoryQueryService;
 import store.juin.api.common.exception.Msg;
 import store.juin.api.common.handler.CommandTransactional;
 import store.juin.api.item.enumeration.ItemStatus;
+import store.juin.api.item.enumeration.NotEnoughStockException;
 import store.juin.api.item.model.entity.Item;
 import store.juin.api.item.model.request.ItemCreateRequest;
 import store.juin.api.item.repository.jpa.ItemRepository;
+import store.juin.api.item.search.ItemSearchDocument;
+import store.juin.api.item.search.ItemSearchIndex;
+import store.juin.api.item.service.query.ItemCountCacheService;
 import store.juin.api.item.service.query.ItemQueryService;
+import store.juin.api.item.service.query.ItemSnapshotCacheService;
+import store.juin.api.item.stock.HotStockLedger;
 import store.juin.api.itemcategory.model.request.ItemImageCreateRequest;
 import store.juin.api.itemcategory.service.command.ItemCategoryCommandService;
+import store.juin.api.itemimage.model.entity.ItemImage;
 import store.juin.api.itemimage.service.ItemImageCommandService;
+import store.juin.api.itemimage.thumbnail.ThumbnailWorker;
+import store.juin.api.itemimage.upload.ItemImageUpload;
+import store.juin.api.itemimage.upload.ItemImageUploader;
 
 import java.security.InvalidParameterException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -31,7 +43,17 @@ public class ItemCommandService {
 
     private final ItemRepository itemRepository;
 
+    private final ItemSearchIndex itemSearchIndex;
+
+    private final HotStockLedger hotStockLedger;
+
+    private final ThumbnailWorker thumbnailWorker;
+
+    private final ItemImageUploader itemImageUploader;
+
     private final ItemQueryService itemQueryService;
+    private final ItemCountCacheService itemCountCacheService;
+    private final ItemSnapshotCacheService itemSnapshotCacheService;
     private final CategoryQueryService categoryQueryService;
 
     private final ItemImageCommandService itemImageCommandService;
@@ -44,43 +66,75 @@ public class ItemCommandService {
         final Category category = categoryQueryService.readById(request.getCategoryId());
         final Item item = request.toItem(category);
 
-        return commandTransactional.execute(() -> {
+        // 저장소 쓰기는 트랜잭션 밖에서 동시에 하고, DB에는 다 올라간 뒤 한 번에 저장한다.
+        // 저장이 롤백돼 남은 원본은 OrphanImageSweeper가 정리한다. (다른 등록이 같은 내용으로 쓰고 있을 수 있어 바로 지우지 않는다.)
+        final List<ItemImageUpload> uploadList = toUploadList(request, representativeFile, itemImageFileList);
+        final List<ItemImage> originalList = itemImageUploader.upload(uploadList, item);
+
+        final Long itemId = commandTransactional.execute(() -> {
             itemRepository.save(item);
             itemCategoryCommandService.add(item, category);
+            itemImageCommandService.addAll(originalList);
 
-            // 대표 이미지
-            final String originFileName = representativeFile.getOriginalFilename();
-            validOriginalFilename(originFileName);
-            itemImageCommandService.add(new ItemImageCreateRequest(originFileName, true), representativeFile, item);
-
-            final Long itemId = item.getId();
-
-            // 썸네일 외 이미지 없으면 리턴
-            if (Collections.isEmpty(itemImageFileList)) return itemId;
-
-            // 썸네일 외 상세 이미지 등록
-            for (MultipartFile itemImageFile : itemImageFileList) {
-                if (itemImageFile == null) {
-                    log.warn("[P1][SERV][ICM][IIF_]: 요청에 null인 이미지가 포함되어 있습니다. request=({})", request);
-                    continue;
-                }
+            return item.getId();
+        });
 
-                final String originalFilename = itemImageFile.getOriginalFilename();
-                validOriginalFilename(originalFilename);
-                itemImageCommandService.add(new ItemImageCreateRequest(originalFilename, false), itemImageFile, item);
-            }
+        // 커밋된 상품만 검색 인덱스에 반영한다.
+        itemSearchIndex.add(ItemSearchDocument.from(item));
+        itemCountCacheService.evictAll();
+        thumbnailWorker.wakeUp();
 
-            return itemId;
-        });
+        return itemId;
     }
 
     public Long remove(Long itemId) {
-        return commandTransactional.execute(() -> {
+        final Long removedItemId = commandTransactional.execute(() -> {
             final Item item = itemQueryService.readById(itemId);
             item.updateStatus(ItemStatus.SOLD_OUT);
 
             return item.getId();
         });
+
+        // 품절 상품도 목록에 나오므로 검색 인덱스에는 남겨 둔다. (키워드 유무와 상관없이 같은 결과)
+        itemCountCacheService.evictAll();
+        itemSnapshotCacheService.evict(List.of(removedItemId));
+
+        return removedItemId;
+    }
+
+    // 재고가 충분할 때만 조건부 UPDATE 한 번으로 차감한다. (엔티티를 읽어서 빼면 동시 주문에서 초과 판매된다)
+    // 모자란 상품이 하나라도 있으면 예외를 던져 호출한 주문 트랜잭션 전체를 롤백한다.
+    public void removeQuantity(List<Long> itemIdList, int count) {
+        if (count <= 0) throw new InvalidParameterException(Msg.ORDER_INVALID_COUNT);
+
+        // 핫 재고 상품은 메모리 원장에서 차감하고, 나머지만 DB에서 차감한다.
+        final List<Long> hotItemIdList = itemIdList.stream().filter(hotStockLedger::isHot).distinct().collect(Collectors.toList());
+        final List<Long> coldItemIdList = itemIdList.stream().filter(itemId -> !hotStockLedger.isHot(itemId)).collect(Collectors.toList());
+        final long distinctItemCount = coldItemIdList.stream().distinct().count();
+
+        commandTransactional.execute(() -> {
+            // 모자라면 예외가 나고, 앞에서 가져간 핫 재고는 롤백될 때 원장으로 돌아간다.
+            hotItemIdList.forEach(itemId -> hotStockLedger.reserve(itemId, count));
+
+            if (coldItemIdList.isEmpty()) return;
+
+            final int updatedCount = itemRepository.decreaseQuantity(coldItemIdList, count);
+            if (updatedCount < distinctItemCount) {
+                log.warn("[P5][SERV][ITEM][RMQT]: 재고 부족, itemIdList=({}), count=({}), updatedCount=({})", coldItemIdList, count, updatedCount);
+                throw new NotEnoughStockException(Msg.ITEM_NOT_ENOUGH_STOCK);
+            }
+        });
+    }
+
+    public void restoreQuantity(Long itemId, int count) {
+        if (hotStockLedger.isHot(itemId)) {
+            hotStockLedger.restore(itemId, count);
+            return;
+        }
+
+        commandTransactional.execute(() ->
+                itemRepository.increaseQuantity(itemId, count)
+        );
     }
 
     public void validOriginalFilename(String originalFilename) {
@@ -88,4 +142,29 @@ public class ItemCommandService {
             throw new InvalidFileNameException(originalFilename, Msg.ILLEGAL_ITEM_IMAGE_FILE_NAME);
         }
     }
-}
\ No newline at end of file
+
+    // 대표 이미지가 먼저, 상세 이미지는 받은 순서대로. 파일명은 업로드 전에 모두 검사한다.
+    private List<ItemImageUpload> toUploadList(ItemCreateRequest request, MultipartFile representativeFile, List<MultipartFile> itemImageFileList) {
+        final List<ItemImageUpload> uploadList = new ArrayList<>();
+
+        final String originFileName = representativeFile.getOriginalFilename();
+        validOriginalFilename(originFileName);
+        uploadList.add(new ItemImageUpload(new ItemImageCreateRequest(originFileName, true), representativeFile));
+
+        // 썸네일 외 이미지 없으면 리턴
+        if (Collections.isEmpty(itemImageFileList)) return uploadList;
+
+        for (MultipartFile itemImageFile : itemImageFileList) {
+            if (itemImageFile == null) {
+                log.warn("[P1][SERV][ICM][IIF_]: 요청에 null인 이미지가 포함되어 있습니다. request=({})", request);
+                continue;
+            }
+
+            final String originalFilename = itemImageFile.getOriginalFilename();
+            validOriginalFilename(originalFilename);
+            uploadList.add(new ItemImageUpload(new ItemImageCreateRequest(originalFilename, false), itemImageFile));
+        }
+
+        return uploadList;
+    }
+}
@@ -0,0 +1,41 @@
+package store.juin.api.item.service.query;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import store.juin.api.item.model.request.ItemCountCondition;
+import store.juin.api.item.repository.jpa.ItemRepository;
+
+/**
+ * 상품 목록 count(*) 캐시. 페이지를 넘길 때마다 같은 조건으로 count 쿼리가 나가는 것을 막는다.
+ * 상품이 추가/삭제되면 ItemCommandService에서 전부 비운다.
+ */
+@Service
+@RequiredArgsConstructor
+public class ItemCountCacheService {
+    private final ItemRepository itemRepository;
+
+    // 0이면 정확한 count, 양수면 cap + 1개까지만 센다.
+    @Getter
+    @Value("${count.approximate-cap:0}")
+    private long approximateCap;
+
+    // 호출하는 쪽에서 트랜잭션을 연다.
+    @Cacheable(value = "ItemCount", key = "#condition")
+    public long count(ItemCountCondition condition) {
+        if (approximateCap > 0) {
+            return itemRepository.countItemUpTo(
+                    condition.getName(), condition.getCategoryIdSet(), condition.getPersonalColor(), approximateCap + 1
+            );
+        }
+
+        return itemRepository.countItem(condition.getName(), condition.getCategoryIdSet(), condition.getPersonalColor());
+    }
+
+    @CacheEvict(value = "ItemCount", allEntries = true)
+    public void evictAll() {
+    }
+}
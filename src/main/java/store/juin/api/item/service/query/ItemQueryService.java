@@ -6,16 +6,26 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
 import store.juin.api.account.enumeration.PersonalColor;
+import store.juin.api.category.service.query.CategoryQueryService;
 import store.juin.api.common.exception.Msg;
 import store.juin.api.common.handler.QueryTransactional;
+import store.juin.api.common.model.response.CountPage;
+import store.juin.api.common.model.response.CursorPage;
 import store.juin.api.item.model.entity.Item;
+import store.juin.api.item.model.request.ItemCountCondition;
 import store.juin.api.item.model.response.ItemRetrieveResponse;
+import store.juin.api.item.model.response.ItemSnapshot;
 import store.juin.api.item.repository.jpa.ItemRepository;
+import store.juin.api.item.search.ItemSearchDocument;
+import store.juin.api.item.search.ItemSearchIndex;
+import store.juin.api.util.CursorUtil;
 
 import javax.persistence.EntityNotFoundException;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 @Slf4j
 @Service
@@ -25,6 +35,14 @@ public class ItemQueryService {
 
     private final ItemRepository itemRepository;
 
+    private final ItemSearchIndex itemSearchIndex;
+
+    private final ItemCountCacheService itemCountCacheService;
+
+    private final CategoryQueryService categoryQueryService;
+
+    private final ItemSnapshotCacheService itemSnapshotCacheService;
+
     public Item readById(Long itemId) {
         return queryTransactional.execute(() ->
                 itemRepository.findById(itemId)
@@ -32,6 +50,16 @@ public class ItemQueryService {
         );
     }
 
+    // 읽기 전용 조회는 캐시된 스냅샷을 쓴다. 엔티티를 고쳐야 하면 readById를 쓴다.
+    public ItemSnapshot readSnapshotById(Long itemId) {
+        return itemSnapshotCacheService.readById(itemId);
+    }
+
+    // 연관관계만 걸 때 쓴다. 존재 여부는 readSnapshotById로 먼저 확인한다.
+    public Item readReferenceById(Long itemId) {
+        return itemRepository.getOne(itemId);
+    }
+
     public List<Item> readAllByIdList(List<Long> itemIdList) {
         return queryTransactional.execute(() ->
                 itemRepository.findAllByIdIn(itemIdList)
@@ -59,23 +87,76 @@ public class ItemQueryService {
 
     public Page<ItemRetrieveResponse> search(Pageable pageable, String searchTitle, Long categoryId, PersonalColor personalColor) {
         return queryTransactional.execute(() -> {
-            Page<Item> itemList;
-
+            // personalColor 검색은 다른 조건을 보지 않는다.
             if (personalColor != null) {
-                itemList = readAllByPersonalColor(pageable, personalColor);
-            } else {
-                itemList = itemRepository
-                        .findByNameContainingAndCategoryId(pageable, searchTitle, categoryId)
-                        .orElse(new PageImpl<>(Collections.emptyList()));
+                return this.readAllJoinItemImage(pageable, null, null, personalColor);
+            }
+
+            // 상위 카테고리로 검색하면 하위 카테고리 상품까지 보여준다.
+            final Set<Long> categoryIdSet = categoryId == null ? null : categoryQueryService.readSubtreeIdSet(categoryId);
+
+            // 상품명 검색은 LIKE '%...%' 대신 검색 인덱스에서 id를 찾는다.
+            // 인덱스는 id 오름차순만 알아서, 정렬을 지정하면 DB에서 정렬해 읽는다.
+            if (StringUtils.hasText(searchTitle)) {
+                return pageable.getSort().isSorted()
+                        ? this.readAllJoinItemImage(pageable, searchTitle, categoryIdSet, null)
+                        : this.readAllBySearchIndex(pageable, searchTitle, categoryIdSet);
             }
 
-            return itemList.map(item -> ItemRetrieveResponse.of(item, item.getItemImageList()));
+            return this.readAllJoinItemImage(pageable, null, categoryIdSet, null);
+        });
+    }
+
+    // 최신 상품부터 (id 내림차순) 커서로 읽는다. cursor가 비어 있으면 첫 페이지.
+    public CursorPage<ItemRetrieveResponse> displayByCursor(String cursor, int size) {
+        CursorUtil.validSize(size);
+        final List<Long> keyList = CursorUtil.decode(cursor, 1);
+        final Long lastItemId = keyList.isEmpty() ? null : keyList.get(0);
+
+        return queryTransactional.execute(() -> {
+            final List<ItemRetrieveResponse> itemList = itemRepository.findAllJoinItemImageByCursor(lastItemId, size + 1);
+            return CursorPage.of(itemList, size, it -> CursorUtil.encode(it.getId()));
         });
     }
 
+    public List<ItemSearchDocument> readAllSearchDocument() {
+        return queryTransactional.execute(() ->
+                itemRepository.findAllItemSearchDocument()
+        );
+    }
+
     public Page<ItemRetrieveResponse> display(Pageable pageable) {
-        final Page<Item> itemList = readAll(pageable);
+        return queryTransactional.execute(() ->
+                this.readAllJoinItemImage(pageable, null, null, null)
+        );
+    }
+
+    private Page<ItemRetrieveResponse> readAllJoinItemImage(Pageable pageable,
+                                                           String name,
+                                                           Set<Long> categoryIdSet,
+                                                           PersonalColor personalColor) {
+        // 목록과 count가 같은 검색어로 나가야 캐시된 count가 목록과 맞는다.
+        final String normalizedName = ItemCountCondition.normalizeName(name);
+        final List<ItemRetrieveResponse> content = itemRepository.findAllJoinItemImage(pageable, normalizedName, categoryIdSet, personalColor);
+
+        return CountPage.of(content,
+                pageable,
+                () -> itemCountCacheService.count(ItemCountCondition.of(normalizedName, categoryIdSet, personalColor)),
+                itemCountCacheService.getApproximateCap());
+    }
+
+    // 전체 결과 id는 인덱스가 갖고 있으니 count 쿼리 없이 현재 페이지만 DB에서 읽는다.
+    private Page<ItemRetrieveResponse> readAllBySearchIndex(Pageable pageable, String searchTitle, Set<Long> categoryIdSet) {
+        final List<Long> itemIdList = itemSearchIndex.search(searchTitle, categoryIdSet);
+
+        final int start = (int) Math.min(pageable.getOffset(), itemIdList.size());
+        final int end = Math.min(start + pageable.getPageSize(), itemIdList.size());
+        final List<Long> pageItemIdList = itemIdList.subList(start, end);
+
+        final List<ItemRetrieveResponse> content = pageItemIdList.isEmpty()
+                ? Collections.emptyList()
+                : itemRepository.findAllJoinItemImageByIdIn(pageItemIdList);
 
-        return itemList.map(item -> ItemRetrieveResponse.of(item, item.getItemImageList()));
+        return new PageImpl<>(content, pageable, itemIdList.size());
     }
 }
\ No newline at end of file
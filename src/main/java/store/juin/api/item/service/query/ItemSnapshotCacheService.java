@@ -0,0 +1,52 @@
+package store.juin.api.item.service.query;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import store.juin.api.common.enumeration.CacheType;
+import store.juin.api.common.exception.Msg;
+import store.juin.api.common.handler.QueryTransactional;
+import store.juin.api.item.model.response.ItemRetrieveResponse;
+import store.juin.api.item.model.response.ItemSnapshot;
+import store.juin.api.item.repository.jpa.ItemRepository;
+
+import javax.persistence.EntityNotFoundException;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 상품 상세 read-through 캐시. 상세 조회, 장바구니 담기, 리뷰 작성이 같은 인기 상품을 반복해서 읽는다.
+ * 재고나 상태가 바뀌면 (ItemCommandService.removeQuantity, restoreQuantity, Item.updateStatus) 커밋 뒤에 호출한 쪽에서 evict 한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class ItemSnapshotCacheService {
+    private final QueryTransactional queryTransactional;
+
+    private final CacheManager cacheManager;
+
+    private final ItemRepository itemRepository;
+
+    // 없는 상품은 예외가 나서 캐시에 들어가지 않는다.
+    @Cacheable(value = "ItemSnapshot", key = "#itemId")
+    public ItemSnapshot readById(Long itemId) {
+        final List<ItemRetrieveResponse> itemList = queryTransactional.execute(() ->
+                itemRepository.findAllJoinItemImageByIdIn(List.of(itemId))
+        );
+
+        if (itemList.isEmpty()) {
+            throw new EntityNotFoundException(Msg.ITEM_NOT_FOUND);
+        }
+
+        return ItemSnapshot.from(itemList.get(0));
+    }
+
+    public void evict(Collection<Long> itemIdCollection) {
+        final Cache cache = cacheManager.getCache(CacheType.ITEM_SNAPSHOT.getCacheName());
+        if (cache == null) return;
+
+        itemIdCollection.forEach(cache::evict);
+    }
+}
@@ -0,0 +1,72 @@
+package store.juin.api.item.stock;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 상품 하나의 남은 재고를 여러 칸(shard)에 나눠 담은 카운터.
+ * 주문 스레드는 임의의 칸부터 CAS로 차감하므로 한 행(row)이나 한 변수에 몰리지 않는다.
+ * 칸은 음수가 되지 않으므로 합계가 모자라면 차감되지 않는다. (초과 판매 없음)
+ */
+public class HotStock {
+    private final AtomicLong[] shardList;
+
+    public HotStock(long quantity, int shardCount) {
+        this.shardList = new AtomicLong[shardCount];
+
+        final long base = quantity / shardCount;
+        final long rest = quantity % shardCount;
+        for (int i = 0; i < shardCount; i++) {
+            shardList[i] = new AtomicLong(base + (i < rest ? 1 : 0));
+        }
+    }
+
+    public long available() {
+        long sum = 0;
+        for (AtomicLong shard : shardList) {
+            sum += shard.get();
+        }
+        return sum;
+    }
+
+    public boolean tryTake(int count) {
+        final int start = ThreadLocalRandom.current().nextInt(shardList.length);
+
+        // 한 칸에서 다 가져갈 수 있으면 락 없이 끝난다.
+        for (int i = 0; i < shardList.length; i++) {
+            if (this.tryTakeFromShard(shardList[(start + i) % shardList.length], count)) return true;
+        }
+
+        return this.takeAcrossShard(count);
+    }
+
+    public void put(int count) {
+        shardList[ThreadLocalRandom.current().nextInt(shardList.length)].addAndGet(count);
+    }
+
+    private boolean tryTakeFromShard(AtomicLong shard, int count) {
+        long current;
+        do {
+            current = shard.get();
+            if (current < count) return false;
+        } while (!shard.compareAndSet(current, current - count));
+
+        return true;
+    }
+
+    // 재고가 여러 칸에 흩어져 있을 때만 들어온다. 모으는 중에 다른 스레드가 같이 모으면 서로 모자라다고 판단할 수 있어 한 번에 하나씩 모은다.
+    private synchronized boolean takeAcrossShard(int count) {
+        long collected = 0;
+        for (AtomicLong shard : shardList) {
+            final long need = count - collected;
+            final long taken = shard.getAndUpdate(current -> current - Math.min(current, need));
+            collected += Math.min(taken, need);
+
+            if (collected == count) return true;
+        }
+
+        // 모자라면 모은 만큼 되돌려 놓는다.
+        if (collected > 0) shardList[0].addAndGet(collected);
+        return false;
+    }
+}
@@ -0,0 +1,279 @@
+package store.juin.api.item.stock;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import store.juin.api.common.exception.Msg;
+import store.juin.api.common.handler.CommandTransactional;
+import store.juin.api.item.enumeration.NotEnoughStockException;
+import store.juin.api.item.model.entity.HotStockCheckpoint;
+import store.juin.api.item.model.entity.Item;
+import store.juin.api.item.repository.jpa.HotStockCheckpointRepository;
+import store.juin.api.item.repository.jpa.ItemRepository;
+import store.juin.api.item.service.query.ItemSnapshotCacheService;
+
+import javax.annotation.PreDestroy;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 인기 상품(hot-stock.item-id-list)의 재고를 메모리에서 관리한다. hot-stock.enabled가 true일 때만 동작한다.
+ * <p>
+ * 주문은 HotStock에서 락 없이 재고를 가져가고, 저널에 먼저 남긴 뒤 커밋되면 DB 반영 대기 목록에 쌓는다.
+ * 대기 중인 변경은 hot-stock.flush-interval(ms)마다 상품별로 묶어 item.quantity / sold_count에 반영한다.
+ * 서버가 죽으면 다음 기동 때 저널에 남은 변경을 DB에 반영한 뒤 DB 재고로 다시 시작한다.
+ * 어느 세그먼트까지 반영했는지는 재고 UPDATE와 같은 트랜잭션에서 hot_stock_checkpoint에 남기므로, 반영 뒤 세그먼트를 지우기 전에 죽어도 두 번 반영하지 않는다.
+ * <p>
+ * 재고를 서버 메모리에 들고 있으므로 서버가 여러 대면 쓰면 안 된다.
+ * 판매는 커밋 전에, 취소로 돌아온 재고는 커밋 뒤에 저널에 남기므로 장애 시에는 덜 파는 쪽으로만 어긋난다.
+ */
+@Slf4j
+@Component
+public class HotStockLedger {
+    private final CommandTransactional commandTransactional;
+
+    private final ItemRepository itemRepository;
+
+    private final HotStockCheckpointRepository hotStockCheckpointRepository;
+
+    private final ItemSnapshotCacheService itemSnapshotCacheService;
+
+    private final boolean enabled;
+
+    private final List<Long> hotItemIdList;
+
+    private final int shardCount;
+
+    private final long flushInterval;
+
+    private final Path journalPath;
+
+    private final Map<Long, HotStock> stockMap = new ConcurrentHashMap<>();
+
+    private final AtomicLong tokenSequence = new AtomicLong();
+
+    // 아래 상태는 lock을 잡고 바꾼다. 저널 세그먼트를 넘길 때 진행 중인 변경과 DB 반영 대기 목록이 어긋나지 않게 하기 위함이다.
+    private final Object lock = new Object();
+    private final Map<Long, StockJournalRecord> inFlightRecordMap = new HashMap<>();
+    private final Map<Long, Long> pendingDeltaMap = new HashMap<>();
+    private final List<Path> unflushedSegmentList = new ArrayList<>();
+
+    private StockJournal journal;
+
+    private ScheduledExecutorService flushExecutor;
+
+    public HotStockLedger(CommandTransactional commandTransactional,
+                          ItemRepository itemRepository,
+                          HotStockCheckpointRepository hotStockCheckpointRepository,
+                          ItemSnapshotCacheService itemSnapshotCacheService,
+                          @Value("${hot-stock.enabled:false}") boolean enabled,
+                          @Value("${hot-stock.item-id-list:}") List<Long> hotItemIdList,
+                          @Value("${hot-stock.shard-count:16}") int shardCount,
+                          @Value("${hot-stock.flush-interval:1000}") long flushInterval,
+                          @Value("${hot-stock.journal-path:./stock-journal}") String journalPath) {
+        this.commandTransactional = commandTransactional;
+        this.itemRepository = itemRepository;
+        this.hotStockCheckpointRepository = hotStockCheckpointRepository;
+        this.itemSnapshotCacheService = itemSnapshotCacheService;
+        this.enabled = enabled;
+        this.hotItemIdList = hotItemIdList;
+        this.shardCount = shardCount;
+        this.flushInterval = flushInterval;
+        this.journalPath = Paths.get(journalPath);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if (!enabled || hotItemIdList.isEmpty()) return;
+
+        final long checkpointSegmentNo = commandTransactional.execute(() ->
+                hotStockCheckpointRepository.findById(HotStockCheckpoint.SINGLE_ID)
+                        .orElseGet(HotStockCheckpoint::empty)
+                        .getSegmentNo()
+        );
+        journal = new StockJournal(journalPath, checkpointSegmentNo);
+
+        // 1. 지난번에 DB에 반영하지 못한 변경부터 반영한다. 반영은 했지만 지우지 못한 세그먼트는 건너뛴다.
+        final List<Path> previousSegmentList = journal.readPreviousSegmentList();
+        final Map<Long, Long> recoveredDeltaMap = StockJournal.recover(previousSegmentList, checkpointSegmentNo);
+        this.applyToDatabase(recoveredDeltaMap, previousSegmentList);
+        journal.delete(previousSegmentList);
+
+        // 2. DB 재고로 메모리 재고를 만든다.
+        commandTransactional.execute(() -> {
+            for (Item item : itemRepository.findAllById(hotItemIdList)) {
+                stockMap.put(item.getId(), new HotStock(item.getQuantity(), shardCount));
+            }
+        });
+
+        flushExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "hot-stock-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flushExecutor.scheduleWithFixedDelay(this::flushQuietly, flushInterval, flushInterval, TimeUnit.MILLISECONDS);
+
+        log.info("[P9][SERV][ITEM][HOTS]: 핫 재고 시작. itemIdList=({}), recovered=({})", stockMap.keySet(), recoveredDeltaMap);
+    }
+
+    public boolean isHot(Long itemId) {
+        return enabled && stockMap.containsKey(itemId);
+    }
+
+    // 재고를 바로 가져간다. 트랜잭션이 롤백되면 돌려놓는다.
+    public void reserve(Long itemId, int count) {
+        final HotStock stock = stockMap.get(itemId);
+        if (!stock.tryTake(count)) throw new NotEnoughStockException(Msg.ITEM_NOT_ENOUGH_STOCK);
+
+        final StockJournalRecord record = new StockJournalRecord(tokenSequence.incrementAndGet(), itemId, count);
+        try {
+            final long sequence;
+            synchronized (lock) {
+                sequence = journal.appendBegin(record);
+                inFlightRecordMap.put(record.getToken(), record);
+            }
+            // fsync는 lock 밖에서 기다린다. 동시에 들어온 주문은 한 번의 fsync로 같이 남는다.
+            journal.sync(sequence);
+        } catch (RuntimeException e) {
+            synchronized (lock) {
+                inFlightRecordMap.remove(record.getToken());
+            }
+            stock.put(count);
+            throw e;
+        }
+
+        this.afterCompletion(committed -> {
+            final long sequence;
+            synchronized (lock) {
+                inFlightRecordMap.remove(record.getToken());
+
+                if (committed) {
+                    pendingDeltaMap.merge(itemId, (long) count, Long::sum);
+                    return;
+                }
+                sequence = journal.appendAbort(record.getToken());
+            }
+            stock.put(count);
+            journal.sync(sequence);
+        });
+    }
+
+    // 취소 트랜잭션이 롤백될 수도 있어서 커밋된 뒤에 재고를 돌려준다.
+    public void restore(Long itemId, int count) {
+        this.afterCompletion(committed -> {
+            if (!committed) return;
+
+            final long sequence;
+            synchronized (lock) {
+                sequence = journal.appendBegin(new StockJournalRecord(tokenSequence.incrementAndGet(), itemId, -count));
+                pendingDeltaMap.merge(itemId, (long) -count, Long::sum);
+            }
+            stockMap.get(itemId).put(count);
+            journal.sync(sequence);
+        });
+    }
+
+    public void flush() {
+        if (journal == null) return;
+
+        final Map<Long, Long> deltaMap;
+        final List<Path> flushingSegmentList;
+        synchronized (lock) {
+            if (pendingDeltaMap.isEmpty() && unflushedSegmentList.isEmpty()) return;
+
+            deltaMap = new HashMap<>(pendingDeltaMap);
+            pendingDeltaMap.clear();
+
+            unflushedSegmentList.add(journal.rotate(new ArrayList<>(inFlightRecordMap.values())));
+            flushingSegmentList = new ArrayList<>(unflushedSegmentList);
+        }
+
+        try {
+            this.applyToDatabase(deltaMap, flushingSegmentList);
+        } catch (RuntimeException e) {
+            // 다음 flush 때 다시 반영한다. 세그먼트는 남겨 두고, 복구할 때 같은 token은 한 번만 센다.
+            synchronized (lock) {
+                deltaMap.forEach((itemId, delta) -> pendingDeltaMap.merge(itemId, delta, Long::sum));
+            }
+            throw e;
+        }
+
+        synchronized (lock) {
+            journal.delete(flushingSegmentList);
+            unflushedSegmentList.removeAll(flushingSegmentList);
+        }
+
+        if (!deltaMap.isEmpty()) {
+            itemSnapshotCacheService.evict(deltaMap.keySet());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (flushExecutor == null) return;
+
+        flushExecutor.shutdown();
+        try {
+            flushExecutor.awaitTermination(flushInterval * 2, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        this.flush();
+        journal.close();
+    }
+
+    // 같은 상품의 변경은 합쳐서 상품당 UPDATE 한 번으로 반영하고, 같은 트랜잭션에서 반영한 마지막 세그먼트 번호를 남긴다.
+    private void applyToDatabase(Map<Long, Long> deltaMap, List<Path> segmentList) {
+        if (segmentList.isEmpty()) return;
+
+        commandTransactional.execute(() -> {
+            deltaMap.forEach((itemId, delta) -> {
+                if (delta != 0) itemRepository.applySoldDelta(itemId, Math.toIntExact(delta));
+            });
+
+            // applySoldDelta가 영속성 컨텍스트를 비우므로 UPDATE 뒤에 읽어서 저장한다.
+            final HotStockCheckpoint checkpoint = hotStockCheckpointRepository.findById(HotStockCheckpoint.SINGLE_ID)
+                    .orElseGet(HotStockCheckpoint::empty);
+            checkpoint.advance(StockJournal.lastSegmentNo(segmentList));
+            hotStockCheckpointRepository.save(checkpoint);
+        });
+    }
+
+    private void flushQuietly() {
+        try {
+            this.flush();
+        } catch (RuntimeException e) {
+            log.warn("[P3][SERV][ITEM][HOTS]: 핫 재고 DB 반영 실패, 다음 주기에 다시 시도합니다. message=({})", e.getMessage());
+        }
+    }
+
+    // 트랜잭션 안이면 끝난 뒤에, 밖이면 바로 커밋된 것으로 처리한다.
+    private void afterCompletion(CompletionCallback callback) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            callback.onComplete(true);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                callback.onComplete(status == STATUS_COMMITTED);
+            }
+        });
+    }
+
+    private interface CompletionCallback {
+        void onComplete(boolean committed);
+    }
+}
@@ -0,0 +1,219 @@
+package store.juin.api.item.stock;
+
+import store.juin.api.common.exception.JUINIOException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 핫 재고 변경을 DB에 반영하기 전에 로컬 디스크에 먼저 남기는 write-ahead 저널.
+ * <pre>
+ * B,{token},{itemId},{delta}   재고 변경 (판매는 양수, 취소로 돌아온 재고는 음수)
+ * X,{token}                    롤백된 변경
+ * </pre>
+ * DB에 반영할 때마다 새 세그먼트 파일로 넘어가고, 반영이 끝난 세그먼트는 지운다.
+ * 서버가 죽으면 남은 세그먼트에서 X가 없는 B를 모아 DB에 반영한다. (같은 token은 한 번만 센다)
+ * 이미 반영한 세그먼트(checkpoint 이하)는 지우기 전에 죽어서 남아 있어도 건너뛴다.
+ * <p>
+ * append는 쓰기만 하고 번호(sequence)를 돌려준다. 호출한 쪽은 락 밖에서 sync(sequence)로 디스크에 남을 때까지 기다린다.
+ * 먼저 들어온 스레드가 force 하는 동안 쌓인 기록은 다음 force 한 번으로 같이 남는다. (group commit)
+ */
+public class StockJournal {
+    private static final String PREFIX = "stock-journal-";
+    private static final String SUFFIX = ".log";
+
+    private final Path directory;
+
+    private long segmentNo;
+
+    private Path segment;
+
+    private FileChannel channel;
+
+    private long writtenSequence;   // this로 보호
+
+    // force는 한 번에 하나만 한다. 기다리던 스레드는 앞선 force가 자기 기록까지 남겼으면 바로 돌아간다.
+    private final Object syncLock = new Object();
+    private long syncedSequence;    // syncLock으로 보호
+
+    // 세그먼트를 모두 지운 뒤에도 checkpoint보다 큰 번호부터 쓰도록 checkpoint를 받는다.
+    public StockJournal(Path directory, long checkpointSegmentNo) {
+        this.directory = directory;
+
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new JUINIOException(e.getMessage(), e);
+        }
+
+        this.segmentNo = this.readSegmentList().stream()
+                .mapToLong(StockJournal::toSegmentNo)
+                .max()
+                .orElse(0);
+        this.segmentNo = Math.max(this.segmentNo, checkpointSegmentNo);
+        this.openNextSegment();
+    }
+
+    // 지금 쓰고 있는 세그먼트를 제외한 이전 세그먼트들
+    public synchronized List<Path> readPreviousSegmentList() {
+        return this.readSegmentList().stream()
+                .filter(path -> !path.equals(segment))
+                .collect(Collectors.toList());
+    }
+
+    public synchronized long appendBegin(StockJournalRecord record) {
+        return this.append("B," + record.getToken() + "," + record.getItemId() + "," + record.getDelta() + "\n");
+    }
+
+    public synchronized long appendAbort(long token) {
+        return this.append("X," + token + "\n");
+    }
+
+    // sequence까지 쓴 기록이 디스크에 남을 때까지 기다린다.
+    public void sync(long sequence) {
+        synchronized (syncLock) {
+            if (syncedSequence >= sequence) return;
+
+            final FileChannel target;
+            final long targetSequence;
+            synchronized (this) {
+                target = channel;
+                targetSequence = writtenSequence;
+            }
+
+            // force 하는 동안에도 다른 스레드는 계속 append 한다.
+            force(target);
+            syncedSequence = targetSequence;
+        }
+    }
+
+    // 새 세그먼트로 넘어가면서 아직 끝나지 않은 변경은 새 세그먼트에 다시 적는다. 이전 세그먼트 경로를 돌려준다.
+    public Path rotate(Collection<StockJournalRecord> carryOverList) {
+        synchronized (syncLock) {
+            synchronized (this) {
+                final Path previous = segment;
+
+                force(channel);
+                this.close();
+                this.openNextSegment();
+                carryOverList.forEach(this::appendBegin);
+                force(channel);
+                syncedSequence = writtenSequence;
+
+                return previous;
+            }
+        }
+    }
+
+    public synchronized void delete(Collection<Path> segmentList) {
+        for (Path path : segmentList) {
+            try {
+                Files.deleteIfExists(path);
+            } catch (IOException e) {
+                throw new JUINIOException(e.getMessage(), e);
+            }
+        }
+    }
+
+    public synchronized void close() {
+        try {
+            if (channel != null && channel.isOpen()) channel.close();
+        } catch (IOException e) {
+            throw new JUINIOException(e.getMessage(), e);
+        }
+    }
+
+    // 세그먼트들에서 롤백되지 않은 변경을 상품별 delta 합으로 돌려준다. checkpoint 이하 세그먼트는 이미 반영했으므로 건너뛴다.
+    public static Map<Long, Long> recover(List<Path> segmentList, long checkpointSegmentNo) {
+        final Map<Long, StockJournalRecord> recordMap = new HashMap<>();
+        final Set<Long> abortedTokenSet = new HashSet<>();
+
+        for (Path path : segmentList) {
+            if (toSegmentNo(path) <= checkpointSegmentNo) continue;
+
+            try (Stream<String> lineStream = Files.lines(path, StandardCharsets.UTF_8)) {
+                lineStream.forEach(line -> {
+                    final String[] column = line.split(",");
+                    if ("B".equals(column[0]) && column.length == 4) {
+                        final long token = Long.parseLong(column[1]);
+                        recordMap.put(token, new StockJournalRecord(token, Long.parseLong(column[2]), Integer.parseInt(column[3])));
+                    } else if ("X".equals(column[0]) && column.length == 2) {
+                        abortedTokenSet.add(Long.parseLong(column[1]));
+                    }
+                    // 쓰다 만 마지막 줄은 버린다.
+                });
+            } catch (IOException e) {
+                throw new JUINIOException(e.getMessage(), e);
+            }
+        }
+
+        return recordMap.values().stream()
+                .filter(record -> !abortedTokenSet.contains(record.getToken()))
+                .collect(Collectors.groupingBy(StockJournalRecord::getItemId,
+                        Collectors.summingLong(StockJournalRecord::getDelta)));
+    }
+
+    private long append(String line) {
+        try {
+            final ByteBuffer buffer = ByteBuffer.wrap(line.getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } catch (IOException e) {
+            throw new JUINIOException(e.getMessage(), e);
+        }
+
+        return ++writtenSequence;
+    }
+
+    private static void force(FileChannel channel) {
+        try {
+            channel.force(false);
+        } catch (IOException e) {
+            throw new JUINIOException(e.getMessage(), e);
+        }
+    }
+
+    private void openNextSegment() {
+        segmentNo++;
+        segment = directory.resolve(PREFIX + segmentNo + SUFFIX);
+
+        try {
+            channel = FileChannel.open(segment, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            throw new JUINIOException(e.getMessage(), e);
+        }
+    }
+
+    private List<Path> readSegmentList() {
+        try (Stream<Path> pathStream = Files.list(directory)) {
+            return pathStream
+                    .filter(path -> path.getFileName().toString().startsWith(PREFIX))
+                    .filter(path -> path.getFileName().toString().endsWith(SUFFIX))
+                    .sorted(Comparator.comparingLong(StockJournal::toSegmentNo))
+                    .collect(Collectors.toList());
+        } catch (IOException e) {
+            throw new JUINIOException(e.getMessage(), e);
+        }
+    }
+
+    public static long lastSegmentNo(List<Path> segmentList) {
+        return segmentList.stream()
+                .mapToLong(StockJournal::toSegmentNo)
+                .max()
+                .orElse(0);
+    }
+
+    private static long toSegmentNo(Path path) {
+        final String fileName = path.getFileName().toString();
+        return Long.parseLong(fileName.substring(PREFIX.length(), fileName.length() - SUFFIX.length()));
+    }
+}
@@ -0,0 +1,17 @@
+package store.juin.api.item.stock;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 저널 한 줄. delta는 판매 수량이고, 주문 취소로 재고가 돌아오면 음수다.
+ */
+@Getter
+@AllArgsConstructor
+public class StockJournalRecord {
+    private final long token;
+
+    private final long itemId;
+
+    private final int delta;
+}
@@ -3,6 +3,7 @@ package store.juin.api.itemcategory.model.request;
 import lombok.Data;
 import lombok.experimental.Accessors;
 import store.juin.api.item.model.entity.Item;
+import store.juin.api.itemimage.enumeration.ItemImageStatus;
 import store.juin.api.itemimage.model.entity.ItemImage;
 
 @Data
@@ -24,14 +25,16 @@ public class ItemImageCreateRequest {
         this.representative = representative;
     }
 
-    public ItemImage toItemImage(Item item, String imageName, String imageUrl, boolean thumbnail) {
+    public ItemImage toItemImage(Item item, String imageName, String imageUrl, String contentHash, boolean thumbnail) {
         return ItemImage.builder()
                 .item(item)
                 .name(imageName)
                 .originName(this.originImageName)
                 .representative(this.representative)
                 .imageUrl(imageUrl)
+                .contentHash(contentHash)
                 .thumbnail(thumbnail)
+                .status(ItemImageStatus.READY)
                 .build();
     }
 }
\ No newline at end of file
@@ -16,6 +16,8 @@ public class ItemImageRetrieveResponse {
 
     private String imageUrl;            // 이미지 조회 경로
 
+    private String srcset;              // 너비별 썸네일, 없으면 imageUrl을 쓴다.
+
     private Boolean thumbnail;          // 썸네일 여부
 
     private Boolean representative;
@@ -25,6 +27,7 @@ public class ItemImageRetrieveResponse {
                 .setImageName(itemImage.getName())
                 .setOriginName(itemImage.getOriginName())
                 .setImageUrl(itemImage.getImageUrl())
+                .setSrcset(itemImage.getSrcset())
                 .setThumbnail(itemImage.getThumbnail())
                 .setRepresentative(itemImage.getRepresentative());
     }
@@ -0,0 +1,5 @@
+package store.juin.api.itemimage.enumeration;
+
+public enum ItemImageStatus {
+    PENDING, READY, FAILED
+}
@@ -0,0 +1,5 @@
+package store.juin.api.itemimage.enumeration;
+
+public enum ThumbnailJobStatus {
+    PENDING, PROCESSING, DONE, FAILED
+}
@@ -6,6 +6,7 @@ import lombok.NoArgsConstructor;
 import lombok.experimental.SuperBuilder;
 import store.juin.api.common.model.entity.BaseEntity;
 import store.juin.api.item.model.entity.Item;
+import store.juin.api.itemimage.enumeration.ItemImageStatus;
 
 import javax.persistence.*;
 import javax.validation.constraints.NotNull;
@@ -14,6 +15,9 @@ import javax.validation.constraints.NotNull;
 @Entity
 @SuperBuilder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = {
+        @Index(name = "item_image__content_hash", columnList = "content_hash")
+})
 public class ItemImage extends BaseEntity {
     @Id @Column(name = "item_image_id")
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -32,18 +36,53 @@ public class ItemImage extends BaseEntity {
 
     private Boolean representative;
 
+    @Enumerated(EnumType.STRING)
+    private ItemImageStatus status;     // 썸네일 생성 상태, null이면 이 컬럼이 생기기 전에 만든 이미지 (READY)
+
+    @Column(length = 64)
+    private String contentHash;         // 원본 내용의 sha-256, 같은 내용의 이미지는 저장소 파일과 썸네일을 같이 쓴다. (예전 이미지면 null)
+
+    @Column(length = 1000)
+    private String srcset;              // 너비별 썸네일 "url 160w, url 400w, ..." (원본, 예전 썸네일이면 null)
+
     // 연관관계 주인
     @NotNull
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "item_id")
     private Item item;
 
+    // 썸네일이 만들어지기 전까지는 원본을 가리킨다.
+    public static ItemImage pendingThumbnailOf(ItemImage original) {
+        return ItemImage.builder()
+                .item(original.getItem())
+                .name(original.getName())
+                .originName(original.getOriginName())
+                .representative(original.getRepresentative())
+                .imageUrl(original.getImageUrl())
+                .contentHash(original.getContentHash())
+                .thumbnail(true)
+                .status(ItemImageStatus.PENDING)
+                .build();
+    }
+
     public void updateItemImage(String originName, String name, String imageUrl){
         this.originName = originName;
         this.name = name;
         this.imageUrl = imageUrl;
     }
 
+    // 썸네일이 만들어지면 원본 경로 대신 기본 너비 썸네일 경로를 가리킨다.
+    public void completeThumbnail(String name, String imageUrl, String srcset) {
+        this.name = name;
+        this.imageUrl = imageUrl;
+        this.srcset = srcset;
+        this.status = ItemImageStatus.READY;
+    }
+
+    public void failThumbnail() {
+        this.status = ItemImageStatus.FAILED;
+    }
+
     public void initItem(Item item) {
         // 기존 Item와의 연관관계 제거
         if (this.item != null) this.item.getItemImageList().remove(this);
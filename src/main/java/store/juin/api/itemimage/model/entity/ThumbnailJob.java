@@ -0,0 +1,97 @@
+package store.juin.api.itemimage.model.entity;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+import store.juin.api.common.model.entity.BaseEntity;
+import store.juin.api.itemimage.enumeration.ThumbnailJobStatus;
+
+import javax.persistence.*;
+import javax.validation.constraints.NotNull;
+import java.time.LocalDateTime;
+
+/**
+ * 썸네일 생성 작업. 상품 등록 트랜잭션에서 같이 저장하고, ThumbnailWorker가 꺼내서 처리한다.
+ */
+@Getter
+@Entity
+@SuperBuilder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = {
+        @Index(name = "thumbnail_job__status_available_at", columnList = "status, available_at")
+})
+public class ThumbnailJob extends BaseEntity {
+    private static final int ERROR_LENGTH = 500;
+
+    @Id @Column(name = "thumbnail_job_id")
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @NotNull
+    private Long itemImageId;           // 썸네일로 채울 item_image
+
+    @NotNull
+    private String sourceImageUrl;      // 원본 이미지 조회 경로
+
+    @NotNull
+    private String originName;          // 원본 이미지 파일명
+
+    @Column(length = 64)
+    private String contentHash;         // 원본 내용의 sha-256, 썸네일 파일명을 정한다. (예전 작업이면 null)
+
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    private ThumbnailJobStatus status;
+
+    private int attemptCount;
+
+    @NotNull
+    private LocalDateTime availableAt;  // 이 시각 이후에 꺼낸다. (재시도 backoff)
+
+    @Column(length = ERROR_LENGTH)
+    private String lastError;
+
+    public static ThumbnailJob of(ItemImage thumbnail, ItemImage original) {
+        return ThumbnailJob.builder()
+                .itemImageId(thumbnail.getId())
+                .sourceImageUrl(original.getImageUrl())
+                .originName(original.getOriginName())
+                .contentHash(original.getContentHash())
+                .status(ThumbnailJobStatus.PENDING)
+                .availableAt(LocalDateTime.now())
+                .build();
+    }
+
+    public void start() {
+        this.status = ThumbnailJobStatus.PROCESSING;
+        this.attemptCount++;
+    }
+
+    // 워커 큐가 가득 차서 못 넣었을 때, 시도 횟수는 되돌린다.
+    public void release() {
+        this.status = ThumbnailJobStatus.PENDING;
+        this.attemptCount--;
+    }
+
+    public void done() {
+        this.status = ThumbnailJobStatus.DONE;
+        this.lastError = null;
+    }
+
+    public void retryLater(String error, LocalDateTime availableAt) {
+        this.status = ThumbnailJobStatus.PENDING;
+        this.availableAt = availableAt;
+        this.lastError = truncate(error);
+    }
+
+    public void fail(String error) {
+        this.status = ThumbnailJobStatus.FAILED;
+        this.lastError = truncate(error);
+    }
+
+    private static String truncate(String error) {
+        if (error == null || error.length() <= ERROR_LENGTH) return error;
+        return error.substring(0, ERROR_LENGTH);
+    }
+}
@@ -1,10 +1,22 @@
 package store.juin.api.itemimage.repository.jpa;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import store.juin.api.itemimage.enumeration.ItemImageStatus;
 import store.juin.api.itemimage.model.entity.ItemImage;
 import store.juin.api.itemimage.repository.querydsl.QuerydslItemImageRepository;
 
+import java.util.Collection;
+import java.util.Optional;
+import java.util.Set;
+
 @Repository
 public interface ItemImageRepository extends JpaRepository<ItemImage, Long>, QuerydslItemImageRepository {
+    Optional<ItemImage> findFirstByContentHashAndThumbnailTrueAndStatus(String contentHash, ItemImageStatus status);
+
+    // 주어진 해시 중 item_image 행이 하나라도 가리키는 것만 돌려준다.
+    @Query("SELECT DISTINCT i.contentHash FROM ItemImage i WHERE i.contentHash IN :contentHashSet")
+    Set<String> findAllReferencedContentHash(@Param("contentHashSet") Collection<String> contentHashSet);
 }
@@ -0,0 +1,24 @@
+package store.juin.api.itemimage.repository.jpa;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import store.juin.api.itemimage.enumeration.ThumbnailJobStatus;
+import store.juin.api.itemimage.model.entity.ThumbnailJob;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ThumbnailJobRepository extends JpaRepository<ThumbnailJob, Long> {
+    List<ThumbnailJob> findAllByStatusAndAvailableAtLessThanEqualOrderByIdAsc(ThumbnailJobStatus status, LocalDateTime availableAt, Pageable pageable);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE ThumbnailJob j " +
+            "SET j.status = :to " +
+            "WHERE j.status = :from")
+    int updateStatus(@Param("from") ThumbnailJobStatus from, @Param("to") ThumbnailJobStatus to);
+}
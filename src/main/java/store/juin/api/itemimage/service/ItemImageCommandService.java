@@ -3,14 +3,17 @@ package store.juin.api.itemimage.service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.util.StringUtils;
-import org.springframework.web.multipart.MultipartFile;
 import store.juin.api.common.handler.CommandTransactional;
-import store.juin.api.item.model.entity.Item;
-import store.juin.api.itemcategory.model.request.ItemImageCreateRequest;
+import store.juin.api.itemimage.enumeration.ItemImageStatus;
 import store.juin.api.itemimage.model.entity.ItemImage;
+import store.juin.api.itemimage.model.entity.ThumbnailJob;
 import store.juin.api.itemimage.repository.jpa.ItemImageRepository;
-import store.juin.api.upload.service.FileUploadService;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -20,25 +23,43 @@ public class ItemImageCommandService {
 
     private final ItemImageRepository itemImageRepository;
 
-    private final FileUploadService fileUploadService;
+    private final ThumbnailJobCommandService thumbnailJobCommandService;
 
-    public void add(ItemImageCreateRequest request, MultipartFile multipartFile, Item item) {
+    /**
+     * 저장소에 다 올라간 원본(ItemImageUploader.upload)을 한 번에 저장한다.
+     * 같은 내용의 썸네일이 이미 READY면 그 썸네일을 같이 쓰고 작업을 만들지 않는다.
+     * 아니면 ThumbnailWorker가 요청 밖에서 만든다. 그 전까지는 원본을 가리키는 PENDING 행만 둔다.
+     */
+    public void addAll(List<ItemImage> originalList) {
         commandTransactional.execute(() -> {
-            addOriginalImage(request, multipartFile, item);
-            addThumbnailImage(request, multipartFile, item);
+            itemImageRepository.saveAll(originalList);
+
+            final List<ItemImage> thumbnailList = new ArrayList<>(originalList.size());
+            final Map<ItemImage, ItemImage> pendingMap = new LinkedHashMap<>();     // 썸네일 -> 원본
+            for (ItemImage original : originalList) {
+                final ItemImage thumbnail = ItemImage.pendingThumbnailOf(original);
+                thumbnailList.add(thumbnail);
+
+                final ItemImage readyThumbnail = readReadyThumbnail(original.getContentHash());
+                if (readyThumbnail == null) {
+                    pendingMap.put(thumbnail, original);
+                } else {
+                    thumbnail.completeThumbnail(readyThumbnail.getName(), readyThumbnail.getImageUrl(), readyThumbnail.getSrcset());
+                }
+            }
+            itemImageRepository.saveAll(thumbnailList);
+
+            // 작업은 썸네일 id가 필요해서 썸네일을 저장한 뒤에 만든다.
+            final List<ThumbnailJob> jobList = pendingMap.entrySet().stream()
+                    .map(entry -> ThumbnailJob.of(entry.getKey(), entry.getValue()))
+                    .collect(Collectors.toList());
+            thumbnailJobCommandService.addAll(jobList);
         });
     }
 
-    // 원본 파일 저장
-    private void addOriginalImage(ItemImageCreateRequest request, MultipartFile multipartFile, Item item) {
-        final ItemImage itemImage = fileUploadService.addOriginalImage(request, multipartFile, item);
-        itemImageRepository.save(itemImage);
-    }
+    private ItemImage readReadyThumbnail(String contentHash) {
+        if (contentHash == null) return null;
 
-    // 썸네일 생성 및 저장
-    private void addThumbnailImage(ItemImageCreateRequest request, MultipartFile multipartFile, Item item) {
-        final String extension = StringUtils.getFilenameExtension(request.getOriginImageName());
-        final ItemImage itemImage = fileUploadService.addThumbnailImage(request, multipartFile, item, extension);
-        itemImageRepository.save(itemImage);
+        return itemImageRepository.findFirstByContentHashAndThumbnailTrueAndStatus(contentHash, ItemImageStatus.READY).orElse(null);
     }
 }
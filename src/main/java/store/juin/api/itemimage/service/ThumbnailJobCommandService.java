@@ -0,0 +1,28 @@
+package store.juin.api.itemimage.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import store.juin.api.common.handler.CommandTransactional;
+import store.juin.api.itemimage.model.entity.ThumbnailJob;
+import store.juin.api.itemimage.repository.jpa.ThumbnailJobRepository;
+
+import java.util.List;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ThumbnailJobCommandService {
+    private final CommandTransactional commandTransactional;
+
+    private final ThumbnailJobRepository thumbnailJobRepository;
+
+    // 상품 등록 트랜잭션 안에서 부르면 그 트랜잭션에 같이 저장된다.
+    public void addAll(List<ThumbnailJob> jobList) {
+        if (jobList.isEmpty()) return;
+
+        commandTransactional.execute(() ->
+            thumbnailJobRepository.saveAll(jobList)
+        );
+    }
+}
@@ -0,0 +1,282 @@
+package store.juin.api.itemimage.thumbnail;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import store.juin.api.common.handler.CommandTransactional;
+import store.juin.api.item.service.query.ItemSnapshotCacheService;
+import store.juin.api.itemimage.enumeration.ItemImageStatus;
+import store.juin.api.itemimage.enumeration.ThumbnailJobStatus;
+import store.juin.api.itemimage.model.entity.ItemImage;
+import store.juin.api.itemimage.model.entity.ThumbnailJob;
+import store.juin.api.itemimage.repository.jpa.ItemImageRepository;
+import store.juin.api.itemimage.repository.jpa.ThumbnailJobRepository;
+import store.juin.api.upload.model.response.UploadedImage;
+import store.juin.api.upload.service.FileUploadService;
+import store.juin.api.util.FileUploadUtil;
+import store.juin.api.util.ThumbnailUtil;
+
+import javax.annotation.PreDestroy;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * thumbnail_job 테이블에서 작업을 꺼내 상품 등록 요청 밖에서 썸네일을 만든다.
+ * <p>
+ * thumbnail.poll-interval(ms)마다, 그리고 상품 등록이 커밋될 때(wakeUp) 워커 풀에 빈자리만큼만 PENDING 작업을 꺼내 PROCESSING으로 바꾼다.
+ * 워커(thumbnail.worker-count개)는 원본을 저장소에서 다시 읽어 한 번만 디코딩하고, thumbnail.widths 너비별 썸네일을 올린다.
+ * 같은 내용(content_hash)의 썸네일이 이미 READY면 디코딩과 업로드 없이 그 썸네일을 같이 쓴다.
+ * item_image는 thumbnail.default-width 썸네일을 imageUrl로, 전체를 srcset으로 가진 READY가 되고, 그 뒤 상품 캐시를 비운다.
+ * 원본 픽셀 수가 thumbnail.max-pixels를 넘으면 디코딩하지 않고 실패로 처리한다.
+ * 실패하면 attempt × retry-backoff 뒤에 다시 꺼내고, max-attempts를 넘으면 FAILED로 남긴다.
+ * 서버가 죽어서 PROCESSING으로 남은 작업은 다음 기동 때 PENDING으로 되돌린다. (서버 한 대 기준, 여러 대면 꺼낼 때 행 잠금이 필요하다.)
+ */
+@Slf4j
+@Component
+public class ThumbnailWorker {
+    private final CommandTransactional commandTransactional;
+
+    private final ThumbnailJobRepository thumbnailJobRepository;
+    private final ItemImageRepository itemImageRepository;
+
+    private final FileUploadService fileUploadService;
+    private final ItemSnapshotCacheService itemSnapshotCacheService;
+
+    private final int workerCount;
+
+    private final int queueCapacity;
+
+    private final int maxAttempts;
+
+    private final long pollInterval;
+
+    private final long retryBackoff;
+
+    private final List<Integer> widthList;
+
+    private final int defaultWidth;
+
+    private final long maxPixels;
+
+    private ThreadPoolExecutor workerExecutor;
+
+    private ScheduledExecutorService pollExecutor;
+
+    public ThumbnailWorker(CommandTransactional commandTransactional,
+                           ThumbnailJobRepository thumbnailJobRepository,
+                           ItemImageRepository itemImageRepository,
+                           FileUploadService fileUploadService,
+                           ItemSnapshotCacheService itemSnapshotCacheService,
+                           @Value("${thumbnail.worker-count:2}") int workerCount,
+                           @Value("${thumbnail.queue-capacity:50}") int queueCapacity,
+                           @Value("${thumbnail.max-attempts:3}") int maxAttempts,
+                           @Value("${thumbnail.poll-interval:5000}") long pollInterval,
+                           @Value("${thumbnail.retry-backoff:30000}") long retryBackoff,
+                           @Value("${thumbnail.widths:160,400,800}") int[] widths,
+                           @Value("${thumbnail.default-width:400}") int defaultWidth,
+                           @Value("${thumbnail.max-pixels:50000000}") long maxPixels) {
+        this.commandTransactional = commandTransactional;
+        this.thumbnailJobRepository = thumbnailJobRepository;
+        this.itemImageRepository = itemImageRepository;
+        this.fileUploadService = fileUploadService;
+        this.itemSnapshotCacheService = itemSnapshotCacheService;
+        this.workerCount = workerCount;
+        this.queueCapacity = queueCapacity;
+        this.maxAttempts = maxAttempts;
+        this.pollInterval = pollInterval;
+        this.retryBackoff = retryBackoff;
+        this.widthList = Arrays.stream(widths).boxed().collect(Collectors.toList());
+        this.defaultWidth = defaultWidth;
+        this.maxPixels = maxPixels;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        final int recovered = commandTransactional.execute(() ->
+                thumbnailJobRepository.updateStatus(ThumbnailJobStatus.PROCESSING, ThumbnailJobStatus.PENDING)
+        );
+        if (recovered > 0) {
+            log.info("[P9][SERV][IIMG][THUM]: 처리 중 멈춘 썸네일 작업을 되돌림. count=({})", recovered);
+        }
+
+        final AtomicInteger threadNumber = new AtomicInteger();
+        workerExecutor = new ThreadPoolExecutor(
+                workerCount, workerCount, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    final Thread thread = new Thread(runnable, "thumbnail-worker-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        pollExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "thumbnail-poll");
+            thread.setDaemon(true);
+            return thread;
+        });
+        pollExecutor.scheduleWithFixedDelay(this::pollQuietly, pollInterval, pollInterval, TimeUnit.MILLISECONDS);
+    }
+
+    // 상품 등록 커밋 뒤에 부른다. 다음 주기를 기다리지 않고 바로 꺼낸다.
+    public void wakeUp() {
+        if (pollExecutor == null) return;
+
+        try {
+            pollExecutor.execute(this::pollQuietly);
+        } catch (RejectedExecutionException e) {
+            log.warn("[P5][SERV][IIMG][THUM]: 종료 중이라 썸네일 작업을 깨우지 못함.");
+        }
+    }
+
+    public void poll() {
+        final int freeSlot = workerExecutor.getQueue().remainingCapacity() + workerCount - workerExecutor.getActiveCount();
+        if (freeSlot <= 0) return;
+
+        final List<ThumbnailJob> jobList = commandTransactional.execute(() -> {
+            final List<ThumbnailJob> pendingList = thumbnailJobRepository.findAllByStatusAndAvailableAtLessThanEqualOrderByIdAsc(
+                    ThumbnailJobStatus.PENDING, LocalDateTime.now(), PageRequest.of(0, freeSlot));
+            pendingList.forEach(ThumbnailJob::start);
+            return pendingList;
+        });
+
+        for (ThumbnailJob job : jobList) {
+            try {
+                workerExecutor.execute(() -> process(job));
+            } catch (RejectedExecutionException e) {
+                commandTransactional.execute(() -> thumbnailJobRepository.findById(job.getId()).ifPresent(ThumbnailJob::release));
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (pollExecutor != null) pollExecutor.shutdownNow();
+        if (workerExecutor != null) workerExecutor.shutdownNow();
+    }
+
+    // job은 꺼낸 트랜잭션이 끝난 엔티티라 읽기만 한다.
+    private void process(ThumbnailJob job) {
+        try {
+            final Long itemId;
+
+            // 같은 내용의 썸네일이 그 사이 만들어졌으면 디코딩하지 않고 같이 쓴다.
+            final ItemImage readyThumbnail = readReadyThumbnail(job.getContentHash());
+            if (readyThumbnail != null) {
+                itemId = complete(job, readyThumbnail.getName(), readyThumbnail.getImageUrl(), readyThumbnail.getSrcset());
+            } else {
+                final List<UploadedImage> uploadedImageList = render(job);
+                final UploadedImage defaultImage = selectDefault(uploadedImageList);
+                itemId = complete(job, defaultImage.getName(), defaultImage.getImageUrl(), toSrcset(uploadedImageList));
+            }
+
+            if (itemId != null) itemSnapshotCacheService.evict(List.of(itemId));
+        } catch (Exception e) {
+            handleFailure(job, e);
+        }
+    }
+
+    private List<UploadedImage> render(ThumbnailJob job) throws IOException {
+        final String extension = StringUtils.getFilenameExtension(job.getOriginName());
+
+        final Map<Integer, BufferedImage> renditionMap;
+        try (InputStream inputStream = fileUploadService.openOriginalImage(job.getSourceImageUrl())) {
+            renditionMap = ThumbnailUtil.resizeToWidths(inputStream, widthList, maxPixels);
+        }
+
+        final List<UploadedImage> uploadedImageList = new ArrayList<>();
+        for (Map.Entry<Integer, BufferedImage> rendition : renditionMap.entrySet()) {
+            final byte[] image = ThumbnailUtil.encode(rendition.getValue(), extension);
+            final String thumbnailFileName = makeThumbnailFileName(job, rendition.getKey());
+            uploadedImageList.add(fileUploadService.addThumbnailImage(thumbnailFileName, rendition.getKey(), image));
+        }
+        return uploadedImageList;
+    }
+
+    // 썸네일을 채운 상품 id를 돌려준다. 그 사이 상품이 지워졌으면 채울 곳이 없어 null이다.
+    private Long complete(ThumbnailJob job, String name, String imageUrl, String srcset) {
+        return commandTransactional.execute(() -> {
+            thumbnailJobRepository.findById(job.getId()).ifPresent(ThumbnailJob::done);
+
+            final ItemImage itemImage = itemImageRepository.findById(job.getItemImageId()).orElse(null);
+            if (itemImage == null) return null;
+
+            itemImage.completeThumbnail(name, imageUrl, srcset);
+            return itemImage.getItem().getId();
+        });
+    }
+
+    private ItemImage readReadyThumbnail(String contentHash) {
+        if (contentHash == null) return null;
+
+        return itemImageRepository.findFirstByContentHashAndThumbnailTrueAndStatus(contentHash, ItemImageStatus.READY).orElse(null);
+    }
+
+    // 내용 해시가 있으면 같은 내용은 같은 이름이 되어 저장소에서 다시 올리지 않는다. 예전 작업은 uuid 이름을 쓴다.
+    private String makeThumbnailFileName(ThumbnailJob job, int width) {
+        if (job.getContentHash() == null) return FileUploadUtil.makeThumbnailFileName(job.getOriginName(), width);
+
+        return FileUploadUtil.makeContentThumbnailFileName(job.getContentHash(), job.getOriginName(), width);
+    }
+
+    // 기본 너비 이하에서 가장 큰 것, 없으면 가장 작은 것. uploadedImageList는 너비 오름차순이다.
+    private UploadedImage selectDefault(List<UploadedImage> uploadedImageList) {
+        UploadedImage selected = uploadedImageList.get(0);
+        for (UploadedImage uploadedImage : uploadedImageList) {
+            if (uploadedImage.getWidth() <= defaultWidth) selected = uploadedImage;
+        }
+        return selected;
+    }
+
+    private String toSrcset(List<UploadedImage> uploadedImageList) {
+        return uploadedImageList.stream()
+                .map(uploadedImage -> uploadedImage.getImageUrl() + " " + uploadedImage.getWidth() + "w")
+                .collect(Collectors.joining(", "));
+    }
+
+    private void handleFailure(ThumbnailJob job, Exception e) {
+        final boolean exhausted = job.getAttemptCount() >= maxAttempts;
+
+        commandTransactional.execute(() -> thumbnailJobRepository.findById(job.getId()).ifPresent(found -> {
+            if (exhausted) {
+                found.fail(e.getMessage());
+                itemImageRepository.findById(job.getItemImageId()).ifPresent(ItemImage::failThumbnail);
+            } else {
+                found.retryLater(e.getMessage(), LocalDateTime.now().plusNanos(TimeUnit.MILLISECONDS.toNanos(retryBackoff * job.getAttemptCount())));
+            }
+        }));
+
+        if (exhausted) {
+            log.error("[P1][SERV][IIMG][THUM]: 썸네일 생성 실패. jobId=({}), attempt=({}), message=({})", job.getId(), job.getAttemptCount(), e.getMessage());
+        } else {
+            log.warn("[P5][SERV][IIMG][THUM]: 썸네일 생성 재시도 예정. jobId=({}), attempt=({}), message=({})", job.getId(), job.getAttemptCount(), e.getMessage());
+        }
+    }
+
+    private void pollQuietly() {
+        try {
+            poll();
+        } catch (Exception e) {
+            log.error("[P1][SERV][IIMG][THUM]: 썸네일 작업 조회 중 알 수 없는 예외. message=({})", e.getMessage());
+        }
+    }
+}
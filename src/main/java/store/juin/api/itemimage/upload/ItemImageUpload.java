@@ -0,0 +1,14 @@
+package store.juin.api.itemimage.upload;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.web.multipart.MultipartFile;
+import store.juin.api.itemcategory.model.request.ItemImageCreateRequest;
+
+@Getter
+@AllArgsConstructor
+public class ItemImageUpload {
+    private final ItemImageCreateRequest request;
+
+    private final MultipartFile multipartFile;
+}
@@ -0,0 +1,114 @@
+package store.juin.api.itemimage.upload;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import store.juin.api.common.exception.JUINIOException;
+import store.juin.api.common.exception.Msg;
+import store.juin.api.item.model.entity.Item;
+import store.juin.api.itemimage.model.entity.ItemImage;
+import store.juin.api.upload.service.FileUploadService;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 상품 등록 이미지의 원본을 저장소에 동시에 올린다. 등록 시간은 이미지 수의 합이 아니라 가장 큰 이미지에 맞춰진다.
+ * <p>
+ * DB 트랜잭션을 열기 전에 부른다. 업로드를 기다리는 동안 커넥션을 잡고 있지 않는다.
+ * 모두 성공하거나 모두 실패한다. 하나라도 실패하면 나머지가 끝나기를 기다렸다가 JUINIOException을 던진다.
+ * 풀(item-image.upload-thread-count)과 대기열이 가득 차면 요청 스레드가 직접 올린다.
+ * <p>
+ * 원본은 내용 해시로 저장해서 다른 상품과 같은 파일을 쓸 수 있으므로, 업로드나 그 뒤 DB 저장이 실패해도 여기서 바로 지우지 않는다.
+ * (아직 커밋하지 않은 다른 등록이 같은 파일을 쓰고 있을 수 있다.) 남은 파일은 OrphanImageSweeper가 유예 기간 뒤 참조를 확인하고 지운다.
+ */
+@Slf4j
+@Component
+public class ItemImageUploader {
+    private final FileUploadService fileUploadService;
+
+    private final int threadCount;
+
+    private final int queueCapacity;
+
+    private final long timeout;
+
+    private ThreadPoolExecutor uploadExecutor;
+
+    public ItemImageUploader(FileUploadService fileUploadService,
+                             @Value("${item-image.upload-thread-count:4}") int threadCount,
+                             @Value("${item-image.upload-queue-capacity:32}") int queueCapacity,
+                             @Value("${item-image.upload-timeout:30000}") long timeout) {
+        this.fileUploadService = fileUploadService;
+        this.threadCount = threadCount;
+        this.queueCapacity = queueCapacity;
+        this.timeout = timeout;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        final AtomicInteger threadNumber = new AtomicInteger();
+        uploadExecutor = new ThreadPoolExecutor(
+                threadCount, threadCount, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    final Thread thread = new Thread(runnable, "item-image-upload-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy()
+        );
+    }
+
+    // 돌려주는 원본 이미지는 uploadList 순서 그대로다. 아직 저장하지 않은 엔티티다.
+    public List<ItemImage> upload(List<ItemImageUpload> uploadList, Item item) {
+        final List<Future<ItemImage>> futureList = new ArrayList<>(uploadList.size());
+        for (ItemImageUpload upload : uploadList) {
+            futureList.add(uploadExecutor.submit(() ->
+                    fileUploadService.addOriginalImage(upload.getRequest(), upload.getMultipartFile(), item)
+            ));
+        }
+
+        final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout);
+        final List<ItemImage> uploadedList = new ArrayList<>(uploadList.size());
+        Throwable failure = null;
+
+        // 실패해도 끝까지 기다린다. 도는 중인 업로드를 두고 나가면 요청이 끝난 뒤에도 저장소 쓰기가 이어진다.
+        for (Future<ItemImage> future : futureList) {
+            try {
+                uploadedList.add(future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS));
+            } catch (ExecutionException e) {
+                if (failure == null) failure = e.getCause();
+            } catch (TimeoutException e) {
+                future.cancel(true);
+                if (failure == null) failure = e;
+                log.warn("[P5][SERV][IIMG][UPLD]: 이미지 업로드 시간 초과, 저장소에 파일이 남을 수 있음. timeout=({})", timeout);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                future.cancel(true);
+                if (failure == null) failure = e;
+            }
+        }
+
+        if (failure != null) {
+            log.error("[P1][SERV][IIMG][UPLD]: 이미지 업로드 실패, 올라간 {}개는 남겨 둠. message=({})", uploadedList.size(), failure.getMessage());
+            throw new JUINIOException(Msg.ITEM_IMAGE_UPLOAD_FAILED, failure);
+        }
+        return uploadedList;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (uploadExecutor != null) uploadExecutor.shutdown();
+    }
+}
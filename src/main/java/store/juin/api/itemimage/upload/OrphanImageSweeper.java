@@ -0,0 +1,115 @@
+package store.juin.api.itemimage.upload;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import store.juin.api.common.handler.QueryTransactional;
+import store.juin.api.itemimage.repository.jpa.ItemImageRepository;
+import store.juin.api.upload.model.response.StoredImage;
+import store.juin.api.upload.service.FileUploadService;
+
+import javax.annotation.PreDestroy;
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 어떤 item_image도 가리키지 않는 이미지 파일을 지운다. 업로드가 실패했거나 상품 등록이 롤백되어 남은 파일이다.
+ * <p>
+ * 원본과 썸네일은 내용 해시로 저장해서 여러 등록이 같은 파일을 쓰므로, 등록이 실패한 자리에서 바로 지우지 않고 여기서 모아 지운다.
+ * item-image.sweep-interval(ms)마다 마지막으로 쓰인 지 item-image.sweep-grace-period(ms)가 지난 파일만 본다.
+ * 같은 내용을 다시 올리면 수정 시각이 갱신되므로, 아직 커밋하지 않은 등록이 쓰는 파일은 유예 기간 안에 있어 건드리지 않는다.
+ * 유예 기간은 업로드 제한 시간(item-image.upload-timeout)과 등록 트랜잭션보다 충분히 길어야 한다.
+ * 예전 uuid 이름의 파일은 해시가 없어 보지 않는다.
+ */
+@Slf4j
+@Component
+public class OrphanImageSweeper {
+    private static final int BATCH_SIZE = 500;
+
+    private final QueryTransactional queryTransactional;
+
+    private final ItemImageRepository itemImageRepository;
+
+    private final FileUploadService fileUploadService;
+
+    private final long sweepInterval;
+
+    private final long gracePeriod;
+
+    private ScheduledExecutorService sweepExecutor;
+
+    public OrphanImageSweeper(QueryTransactional queryTransactional,
+                              ItemImageRepository itemImageRepository,
+                              FileUploadService fileUploadService,
+                              @Value("${item-image.sweep-interval:3600000}") long sweepInterval,
+                              @Value("${item-image.sweep-grace-period:86400000}") long gracePeriod) {
+        this.queryTransactional = queryTransactional;
+        this.itemImageRepository = itemImageRepository;
+        this.fileUploadService = fileUploadService;
+        this.sweepInterval = sweepInterval;
+        this.gracePeriod = gracePeriod;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if (sweepInterval <= 0) return;
+
+        sweepExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "item-image-sweep");
+            thread.setDaemon(true);
+            return thread;
+        });
+        sweepExecutor.scheduleWithFixedDelay(this::sweepQuietly, sweepInterval, sweepInterval, TimeUnit.MILLISECONDS);
+    }
+
+    // 지운 파일 수를 돌려준다.
+    public int sweep() {
+        final Instant before = Instant.now().minusMillis(gracePeriod);
+        final List<StoredImage> candidateList = fileUploadService.readAllContentImageBefore(before);
+
+        int removed = 0;
+        for (int from = 0; from < candidateList.size(); from += BATCH_SIZE) {
+            final List<StoredImage> batch = candidateList.subList(from, Math.min(from + BATCH_SIZE, candidateList.size()));
+            final Set<String> contentHashSet = batch.stream()
+                    .map(StoredImage::getContentHash)
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toSet());
+
+            final Set<String> referencedSet = contentHashSet.isEmpty() ? Set.of() : queryTransactional.execute(() ->
+                    itemImageRepository.findAllReferencedContentHash(contentHashSet)
+            );
+
+            // 해시가 없는 것은 쓰다 남은 임시 파일이라 가리키는 행이 있을 수 없다.
+            for (StoredImage storedImage : batch) {
+                if (storedImage.getContentHash() != null && referencedSet.contains(storedImage.getContentHash())) continue;
+                if (fileUploadService.removeContentImageIfNotModifiedSince(storedImage, before)) removed++;
+            }
+        }
+
+        if (removed > 0) {
+            log.info("[P9][SERV][IIMG][SWEP]: 참조되지 않는 이미지 정리. removed=({}), candidate=({})", removed, candidateList.size());
+        }
+        return removed;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (sweepExecutor != null) sweepExecutor.shutdownNow();
+    }
+
+    private void sweepQuietly() {
+        try {
+            sweep();
+        } catch (Exception e) {
+            log.error("[P1][SERV][IIMG][SWEP]: 이미지 정리 중 알 수 없는 예외. message=({})", e.getMessage());
+        }
+    }
+}
@@ -4,10 +4,12 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
 import store.juin.api.account.model.entity.Account;
+import store.juin.api.common.model.response.CursorPage;
 import store.juin.api.common.model.response.JUINResponse;
 import store.juin.api.order.model.request.OrderCancelRequest;
 import store.juin.api.order.model.request.OrderCreateRequest;
@@ -16,6 +18,7 @@ import store.juin.api.order.model.response.OrderJoinResponse;
 import store.juin.api.order.service.command.OrderCommandService;
 import store.juin.api.order.service.query.OrderQueryService;
 import store.juin.api.principal.service.query.PrincipalQueryService;
+import store.juin.api.util.CursorUtil;
 
 import java.security.Principal;
 
@@ -64,6 +67,29 @@ public class OrderApiController {
         }
     }
 
+    // cursor 파라미터가 있으면 (빈 값이면 첫 페이지) 커서 페이지네이션으로 응답한다.
+    @GetMapping(params = "cursor")
+    public JUINResponse<CursorPage<OrderJoinResponse>> retrieveAllByCursor(final Principal principal,
+                                                                           @ModelAttribute OrderRetrieveRequest request,
+                                                                           @RequestParam(required = false) String cursor,
+                                                                           @RequestParam(defaultValue = "10") int size,
+                                                                           Sort sort) {
+        final String identification = principal.getName();
+        log.info("[P9][CON][ORDR][ALLC]: GET /api/orders identification({}), cursor({}), size({}), sort({}), request({})", identification, cursor, size, sort, request);
+
+        try {
+            CursorUtil.validSort(sort);
+
+            final Account account = principalQueryService.readByPrincipal(principal);
+
+            var response = orderQueryService.readAllByCursor(account, request, cursor, size);
+            return new JUINResponse<>(HttpStatus.OK, response);
+        } catch (Exception e) {
+            log.error("[P9][CON][ORDR][ALLC]: message=({}), identification({}), cursor({}), size({}), request({})", e.getMessage(), identification, cursor, size, request);
+            return new JUINResponse<>(HttpStatus.BAD_REQUEST);
+        }
+    }
+
     @PostMapping("/cancel")
     public JUINResponse<Long> cancel(final Principal principal, @RequestBody OrderCancelRequest request) {
         final String identification = principal.getName();
@@ -88,10 +88,8 @@ public class Order extends BaseEntity {
         if (delivery.getDeliveryStatus() == DeliveryStatus.COMP)
             throw new AlreadyDeliveryException(Msg.ORDER_ALREADY_DELIVERY);
 
+        // 재고는 OrderCommandService에서 ItemCommandService.restoreQuantity로 되돌린다.
         this.orderStatus = OrderStatus.CANCEL;
-        for(OrderItem orderItem : orderItemList){
-            orderItem.cancel();
-        }
     }
 
     //  전체 주문 가격 조회
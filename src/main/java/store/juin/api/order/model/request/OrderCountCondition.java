@@ -0,0 +1,38 @@
+package store.juin.api.order.model.request;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import store.juin.api.order.enumeration.OrderStatus;
+
+import java.time.LocalDate;
+
+/**
+ * 주문 내역 count 캐시 키. 계정 단위로 비울 수 있도록 accountId를 갖는다.
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class OrderCountCondition {
+    private final Long accountId;
+
+    private final LocalDate startDate;
+
+    private final LocalDate endDate;
+
+    private final OrderStatus orderStatus;
+
+    public static OrderCountCondition of(Long accountId, OrderRetrieveRequest request) {
+        return new OrderCountCondition(accountId, request.getStartDate(), request.getEndDate(), request.getOrderStatus());
+    }
+
+    public OrderRetrieveRequest toOrderRetrieveRequest() {
+        return new OrderRetrieveRequest()
+                .setStartDate(startDate)
+                .setEndDate(endDate)
+                .setOrderStatus(orderStatus);
+    }
+}
@@ -1,12 +1,11 @@
 package store.juin.api.order.repository.querydsl;
 
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 import store.juin.api.order.model.request.OrderRetrieveRequest;
 import store.juin.api.order.model.response.OrderJoinResponse;
 
-import java.util.Optional;
+import java.util.List;
 
 
 // FIXME: 아니 왜 ifs 패키지 안으로 넣으면 No converter found capable of converting from type 뜨지?
@@ -16,7 +15,17 @@ public interface QuerydslOrderRepository {
 
     Long countOrderJoinOrderItemByAccountIdAndItemId(Long accountId, Long itemId);
 
-    Optional<Page<OrderJoinResponse>> findOrderJoinOrderItemJoinItemJoinItemImageByAccountId(Long accountId,
-                                                                                             OrderRetrieveRequest orderRetrieveRequest,
-                                                                                             Pageable pageable);
+    List<OrderJoinResponse> findOrderJoinOrderItemJoinItemJoinItemImageByAccountId(Long accountId,
+                                                                                   OrderRetrieveRequest orderRetrieveRequest,
+                                                                                   Pageable pageable);
+
+    long countOrderItem(Long accountId, OrderRetrieveRequest orderRetrieveRequest);
+
+    long countOrderItemUpTo(Long accountId, OrderRetrieveRequest orderRetrieveRequest, long limit);
+
+    List<OrderJoinResponse> findOrderJoinOrderItemJoinItemJoinItemImageByAccountIdAndCursor(Long accountId,
+                                                                                           OrderRetrieveRequest orderRetrieveRequest,
+                                                                                           Long lastOrderId,
+                                                                                           Long lastItemId,
+                                                                                           int limit);
 }
@@ -3,10 +3,9 @@ package store.juin.api.order.repository.querydsl.impl;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.Wildcard;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import store.juin.api.order.enumeration.OrderStatus;
 import store.juin.api.order.model.request.OrderRetrieveRequest;
@@ -15,7 +14,6 @@ import store.juin.api.order.repository.querydsl.QuerydslOrderRepository;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Optional;
 
 import static store.juin.api.item.model.entity.QItem.item;
 import static store.juin.api.itemimage.model.entity.QItemImage.itemImage;
@@ -46,12 +44,38 @@ public class QuerydslOrderRepositoryImpl implements QuerydslOrderRepository {
                 .fetchFirst();
     }
 
+    // 전체 개수는 countOrderItem으로 따로 구한다. (OrderCountCacheService에서 캐시)
     @Override
-    public Optional<Page<OrderJoinResponse>> findOrderJoinOrderItemJoinItemJoinItemImageByAccountId(Long accountId,
-                                                                                                    OrderRetrieveRequest orderRetrieveRequest,
-                                                                                                    Pageable pageable) {
+    public List<OrderJoinResponse> findOrderJoinOrderItemJoinItemJoinItemImageByAccountId(Long accountId,
+                                                                                          OrderRetrieveRequest orderRetrieveRequest,
+                                                                                          Pageable pageable) {
         // FIXME: 더 좋은 방법 있으면 변경하기
-        List<OrderJoinResponse> orderJoinResponseList = queryFactory
+        return selectOrderJoinResponse(accountId, orderRetrieveRequest)
+                .orderBy(order.id.desc(), item.id.desc())
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+    }
+
+    /**
+     * 주문 내역 커서 페이지네이션. 한 주문에 상품이 여러 개라 (order.id, item.id) 쌍으로 다음 위치를 찾는다.
+     * count 쿼리는 하지 않는다.
+     */
+    @Override
+    public List<OrderJoinResponse> findOrderJoinOrderItemJoinItemJoinItemImageByAccountIdAndCursor(Long accountId,
+                                                                                                  OrderRetrieveRequest orderRetrieveRequest,
+                                                                                                  Long lastOrderId,
+                                                                                                  Long lastItemId,
+                                                                                                  int limit) {
+        return selectOrderJoinResponse(accountId, orderRetrieveRequest)
+                .where(orderIdAndItemIdLt(lastOrderId, lastItemId))
+                .orderBy(order.id.desc(), item.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    private JPAQuery<OrderJoinResponse> selectOrderJoinResponse(Long accountId, OrderRetrieveRequest orderRetrieveRequest) {
+        return queryFactory
                 .select(Projections.fields(OrderJoinResponse.class
                                 , order.orderDate
                                 , orderItem.orderCount
@@ -81,16 +105,11 @@ public class QuerydslOrderRepositoryImpl implements QuerydslOrderRepository {
                         ),
                         orderStatusEq(orderRetrieveRequest.getOrderStatus()),
                         itemImage.thumbnail.isTrue(),
-                        itemImage.representative.isTrue())
-                .orderBy(order.id.desc())
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .fetch();
-
-        return Optional.of(new PageImpl<>(orderJoinResponseList, pageable, countOrderItem(accountId, orderRetrieveRequest)));
+                        itemImage.representative.isTrue());
     }
 
-    private Long countOrderItem(Long accountId, OrderRetrieveRequest request) {
+    @Override
+    public long countOrderItem(Long accountId, OrderRetrieveRequest request) {
         return queryFactory.select(Wildcard.count)
                 .from(order)
                 .join(orderItem)
@@ -104,10 +123,38 @@ public class QuerydslOrderRepositoryImpl implements QuerydslOrderRepository {
                 .fetchOne();
     }
 
+    // 결과가 아주 많을 때 전체를 세지 않는다. limit번째 행이 있는지만 한 행으로 확인하고, 없으면 limit개 미만이라 정확히 센다.
+    @Override
+    public long countOrderItemUpTo(Long accountId, OrderRetrieveRequest request, long limit) {
+        final Long probe = queryFactory.select(orderItem.id)
+                .from(order)
+                .join(orderItem)
+                .on(order.id.eq(orderItem.order.id))
+                .where(order.account.id.eq(accountId),
+                        orderDateBetween(
+                                request.getStartDate().atStartOfDay(),
+                                request.getEndDate().atStartOfDay()
+                        ),
+                        orderStatusEq(request.getOrderStatus()))
+                .offset(limit - 1)
+                .fetchFirst();
+        if (probe != null) return limit;
+
+        return countOrderItem(accountId, request);
+    }
+
     private BooleanExpression orderDateBetween(LocalDateTime startDate, LocalDateTime endDate) {
         return order.orderDate.between(startDate, endDate.plusDays(1));
     }
 
+    // (order.id, item.id) < (lastOrderId, lastItemId)
+    private BooleanExpression orderIdAndItemIdLt(Long lastOrderId, Long lastItemId) {
+        if (lastOrderId == null) return null;
+
+        return order.id.lt(lastOrderId)
+                .or(order.id.eq(lastOrderId).and(item.id.lt(lastItemId)));
+    }
+
     private BooleanExpression orderStatusEq(OrderStatus orderStatus) {
         return orderStatus != null ? order.orderStatus.eq(orderStatus) : null;
     }
@@ -14,16 +14,20 @@ import store.juin.api.delivery.model.entity.Delivery;
 import store.juin.api.delivery.model.entity.DeliveryReceiver;
 import store.juin.api.delivery.service.DeliveryCommandService;
 import store.juin.api.item.model.entity.Item;
+import store.juin.api.item.service.command.ItemCommandService;
 import store.juin.api.item.service.query.ItemQueryService;
+import store.juin.api.item.service.query.ItemSnapshotCacheService;
 import store.juin.api.order.model.entity.Order;
 import store.juin.api.order.model.request.OrderCreateRequest;
 import store.juin.api.order.model.response.OrderDeleteResponse;
 import store.juin.api.order.repository.jpa.OrderRepository;
+import store.juin.api.order.service.query.OrderCountCacheService;
 import store.juin.api.order.service.query.OrderQueryService;
 import store.juin.api.orderitem.model.entity.OrderItem;
 import store.juin.api.orderitem.service.command.OrderItemCommandService;
 
 import java.security.InvalidParameterException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -36,9 +40,12 @@ public class OrderCommandService {
     private final OrderRepository orderRepository;
 
     private final ItemQueryService itemQueryService;
+    private final ItemSnapshotCacheService itemSnapshotCacheService;
     private final OrderQueryService orderQueryService;
+    private final OrderCountCacheService orderCountCacheService;
     private final AddressQueryService addressQueryService;
 
+    private final ItemCommandService itemCommandService;
     private final AddressCommandService addressCommandService;
     private final CartItemCommandService cartItemCommandService;
     private final DeliveryCommandService deliveryCommandService;
@@ -65,8 +72,11 @@ public class OrderCommandService {
         final Delivery delivery = Delivery.createDelivery(deliveryReceiver, deliveryAddress);
         final List<Long> itemIdList = request.getItemIdList();
 
-        return commandTransactional.execute(() -> {
-            deliveryCommandService.add(delivery); // update item 쿼리 날아감. (오류)
+        final Long orderId = commandTransactional.execute(() -> {
+            // 재고부터 조건부 UPDATE로 차감한다. 모자라면 여기서 예외가 나고 주문 전체가 롤백된다.
+            itemCommandService.removeQuantity(itemIdList, request.getCount());
+
+            deliveryCommandService.add(delivery);
             List<Item> itemList = itemQueryService.readAllByIdList(itemIdList);
 
             // 주문 상품 생성
@@ -78,23 +88,43 @@ public class OrderCommandService {
                         = OrderItem.createOrderItem(item, request.getCount(), item.getPrice() * request.getCount());
 
                 order.addOrderItem(orderItem);
-                orderItemCommandService.add(orderItem); // FIXME: list로 다건 처리해야 됨.
             }
+            orderItemCommandService.addAll(order.getOrderItemList());
             cartItemCommandService.removeByItemIdList(itemIdList);
 
             return order.getId();
         });
+
+        orderCountCacheService.evictByAccountId(account.getId());
+        itemSnapshotCacheService.evict(itemIdList); // 재고가 바뀌었다.
+
+        return orderId;
     }
 
     // 주문 취소
     public Long cancel(Long orderId, Long accountId) {
+        final List<Long> canceledItemIdList = new ArrayList<>();
+
         // 주문 엔티티 조회
-        return commandTransactional.execute(() -> {
+        final Long canceledOrderId = commandTransactional.execute(() -> {
             final Order order = orderQueryService.readByIdAndAccountId(orderId, accountId);
             order.cancel();
 
+            // restoreQuantity가 영속성 컨텍스트를 비우기 전에 주문 상품을 먼저 읽어 둔다.
+            final List<OrderItem> orderItemList = new ArrayList<>(order.getOrderItemList());
+            for (OrderItem orderItem : orderItemList) {
+                final Long itemId = orderItem.getItem().getId();
+                itemCommandService.restoreQuantity(itemId, orderItem.getOrderCount());
+                canceledItemIdList.add(itemId);
+            }
+
             return order.getId();
         });
+
+        orderCountCacheService.evictByAccountId(accountId);
+        itemSnapshotCacheService.evict(canceledItemIdList); // 재고가 돌아왔다.
+
+        return canceledOrderId;
     }
 
     public long removeByAccountId(Long accountId) {
@@ -106,7 +136,7 @@ public class OrderCommandService {
     }
 
     public OrderDeleteResponse remove(Long accountId) {
-        return commandTransactional.execute(() -> {
+        final OrderDeleteResponse response = commandTransactional.execute(() -> {
             final List<Order> orderList = orderQueryService.readAllByAccountId(accountId);
             final List<Long> orderIdList = orderList.stream().map(Order::getId).collect(Collectors.toList());
             long orderItemDeleteCount = orderItemCommandService.removeByOrderIdList(orderIdList);
@@ -114,5 +144,9 @@ public class OrderCommandService {
 
             return OrderDeleteResponse.of(ordersDeleteCount, orderItemDeleteCount);
         });
+
+        orderCountCacheService.evictByAccountId(accountId);
+
+        return response;
     }
 }
@@ -0,0 +1,55 @@
+package store.juin.api.order.service.query;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.stereotype.Service;
+import store.juin.api.common.enumeration.CacheType;
+import store.juin.api.order.model.request.OrderCountCondition;
+import store.juin.api.order.repository.jpa.OrderRepository;
+
+/**
+ * 주문 내역 count(*) 캐시. 주문이 생기거나 바뀌면 OrderCommandService에서 해당 계정 키만 비운다.
+ */
+@Service
+@RequiredArgsConstructor
+public class OrderCountCacheService {
+    private final CacheManager cacheManager;
+
+    private final OrderRepository orderRepository;
+
+    // 0이면 정확한 count, 양수면 cap + 1개까지만 센다.
+    @Getter
+    @Value("${count.approximate-cap:0}")
+    private long approximateCap;
+
+    // 호출하는 쪽에서 트랜잭션을 연다.
+    @Cacheable(value = "OrderCount", key = "#condition")
+    public long count(OrderCountCondition condition) {
+        if (approximateCap > 0) {
+            return orderRepository.countOrderItemUpTo(
+                    condition.getAccountId(), condition.toOrderRetrieveRequest(), approximateCap + 1
+            );
+        }
+
+        return orderRepository.countOrderItem(condition.getAccountId(), condition.toOrderRetrieveRequest());
+    }
+
+    public void evictByAccountId(Long accountId) {
+        final Cache cache = cacheManager.getCache(CacheType.ORDER_COUNT.getCacheName());
+        if (cache == null) return;
+
+        if (!(cache instanceof CaffeineCache)) {
+            cache.clear();
+            return;
+        }
+
+        ((CaffeineCache) cache).getNativeCache().asMap().keySet()
+                .removeIf(key -> key instanceof OrderCountCondition
+                        && accountId.equals(((OrderCountCondition) key).getAccountId()));
+    }
+}
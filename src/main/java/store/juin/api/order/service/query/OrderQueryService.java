@@ -3,16 +3,19 @@ package store.juin.api.order.service.query;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import store.juin.api.account.model.entity.Account;
 import store.juin.api.common.exception.Msg;
 import store.juin.api.common.handler.QueryTransactional;
+import store.juin.api.common.model.response.CountPage;
+import store.juin.api.common.model.response.CursorPage;
 import store.juin.api.order.model.entity.Order;
+import store.juin.api.order.model.request.OrderCountCondition;
 import store.juin.api.order.model.request.OrderRetrieveRequest;
 import store.juin.api.order.model.response.OrderJoinResponse;
 import store.juin.api.order.repository.jpa.OrderRepository;
+import store.juin.api.util.CursorUtil;
 
 import javax.persistence.EntityNotFoundException;
 import java.util.ArrayList;
@@ -26,12 +29,33 @@ public class OrderQueryService {
 
     private final OrderRepository orderRepository;
 
+    private final OrderCountCacheService orderCountCacheService;
+
     public Page<OrderJoinResponse> readAll(Account account, OrderRetrieveRequest request, Pageable pageable) {
-        return queryTransactional.execute(() ->
-                orderRepository
-                        .findOrderJoinOrderItemJoinItemJoinItemImageByAccountId(account.getId(), request, pageable)
-                        .orElse(new PageImpl<>(new ArrayList<>(), pageable, 0))
-        );
+        return queryTransactional.execute(() -> {
+            final List<OrderJoinResponse> content = orderRepository
+                    .findOrderJoinOrderItemJoinItemJoinItemImageByAccountId(account.getId(), request, pageable);
+
+            return CountPage.of(content,
+                    pageable,
+                    () -> orderCountCacheService.count(OrderCountCondition.of(account.getId(), request)),
+                    orderCountCacheService.getApproximateCap());
+        });
+    }
+
+    // 최신 주문부터 커서로 읽는다. cursor가 비어 있으면 첫 페이지.
+    public CursorPage<OrderJoinResponse> readAllByCursor(Account account, OrderRetrieveRequest request, String cursor, int size) {
+        CursorUtil.validSize(size);
+        final List<Long> keyList = CursorUtil.decode(cursor, 2);
+        final Long lastOrderId = keyList.isEmpty() ? null : keyList.get(0);
+        final Long lastItemId = keyList.isEmpty() ? null : keyList.get(1);
+
+        return queryTransactional.execute(() -> {
+            final List<OrderJoinResponse> orderJoinResponseList = orderRepository
+                    .findOrderJoinOrderItemJoinItemJoinItemImageByAccountIdAndCursor(account.getId(), request, lastOrderId, lastItemId, size + 1);
+
+            return CursorPage.of(orderJoinResponseList, size, it -> CursorUtil.encode(it.getOrdersId(), it.getItemId()));
+        });
     }
 
     public List<Order> readAllByAccountId(Long accountId) {
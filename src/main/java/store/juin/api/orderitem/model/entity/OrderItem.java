@@ -38,17 +38,13 @@ public class OrderItem extends BaseEntity {
     @ManyToOne(fetch = FetchType.LAZY)
     private Order order;
 
-    // orderItem 생성
+    // orderItem 생성, 재고는 ItemCommandService.removeQuantity로 미리 차감한다.
     public static OrderItem createOrderItem(Item item, int orderCount, int orderPrice){
-        OrderItem orderItem = OrderItem.builder()
-                                .item(item)
-                                .orderPrice(orderPrice)
-                                .orderCount(orderCount)
-                                .build();
-
-        item.removeQuantity(orderCount);
-
-        return orderItem;
+        return OrderItem.builder()
+                .item(item)
+                .orderPrice(orderPrice)
+                .orderCount(orderCount)
+                .build();
     }
 
     public void fillOrderRelation(Order order) {
@@ -60,10 +56,5 @@ public class OrderItem extends BaseEntity {
         // 무한루프 빠지지 않도록 처리
         if (!order.getOrderItemList().contains(this)) order.getOrderItemList().add(this);
     }
-
-    // 주문 취소
-    public void cancel(){
-        getItem().addQuantity(orderCount);
-    }
     
 }
\ No newline at end of file
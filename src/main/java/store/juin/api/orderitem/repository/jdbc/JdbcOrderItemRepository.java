@@ -0,0 +1,10 @@
+package store.juin.api.orderitem.repository.jdbc;
+
+import store.juin.api.orderitem.model.entity.OrderItem;
+
+import java.util.List;
+
+public interface JdbcOrderItemRepository {
+    // 주문(orders)은 먼저 저장되어 id가 있어야 한다. 저장한 OrderItem의 id는 채워지지 않는다.
+    void insertAll(List<OrderItem> orderItemList);
+}
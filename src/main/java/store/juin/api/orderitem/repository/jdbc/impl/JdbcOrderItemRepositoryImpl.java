@@ -0,0 +1,41 @@
+package store.juin.api.orderitem.repository.jdbc.impl;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import store.juin.api.orderitem.model.entity.OrderItem;
+import store.juin.api.orderitem.repository.jdbc.JdbcOrderItemRepository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 주문 상품은 IDENTITY 전략이라 Hibernate가 INSERT를 배치로 묶지 못한다.
+ * 주문 상품은 저장 뒤 다시 고치지 않으므로 JDBC 배치로 한 번에 넣는다.
+ * (datasource url의 rewriteBatchedStatements=true로 MySQL에서는 multi-row INSERT 한 번이 된다)
+ * OrderItemRepository의 fragment라서 서비스는 OrderItemRepository 하나만 쓴다.
+ */
+@RequiredArgsConstructor
+public class JdbcOrderItemRepositoryImpl implements JdbcOrderItemRepository {
+    private static final String INSERT_SQL =
+            "INSERT INTO order_item (order_price, order_count, item_id, orders_id, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void insertAll(List<OrderItem> orderItemList) {
+        if (orderItemList.isEmpty()) return;
+
+        final Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, orderItemList, orderItemList.size(), (ps, orderItem) -> {
+            ps.setInt(1, orderItem.getOrderPrice());
+            ps.setInt(2, orderItem.getOrderCount());
+            ps.setLong(3, orderItem.getItem().getId());
+            ps.setLong(4, orderItem.getOrder().getId());
+            ps.setTimestamp(5, now);
+            ps.setTimestamp(6, now);
+        });
+    }
+}
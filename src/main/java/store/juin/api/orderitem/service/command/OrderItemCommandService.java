@@ -21,4 +21,9 @@ public class OrderItemCommandService {
     public void add(OrderItem orderItem) {
         orderItemRepository.save(orderItem);
     }
+
+    // 주문 상품 수와 상관없이 INSERT 한 번으로 저장한다.
+    public void addAll(List<OrderItem> orderItemList) {
+        orderItemRepository.insertAll(orderItemList);
+    }
 }
@@ -3,8 +3,12 @@ package store.juin.api.principal.service.query;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 import store.juin.api.account.model.entity.Account;
+import store.juin.api.account.model.response.AccountSnapshot;
 import store.juin.api.account.service.query.AccountQueryService;
+import store.juin.api.account.service.query.AccountSnapshotCacheService;
 import store.juin.api.common.handler.QueryTransactional;
 
 import java.security.Principal;
@@ -13,15 +17,39 @@ import java.security.Principal;
 @Service
 @RequiredArgsConstructor
 public class PrincipalQueryService {
+    private static final String ACCOUNT_ATTRIBUTE = PrincipalQueryService.class.getName() + ".ACCOUNT";
+
     private final QueryTransactional queryTransactional;
 
     private final AccountQueryService accountQueryService;
+    private final AccountSnapshotCacheService accountSnapshotCacheService;
 
+    /**
+     * 계정 id는 스냅샷 캐시에서 찾고, 엔티티는 조회 없이 프록시로 돌려준다.
+     * id만 쓰면 계정 쿼리가 나가지 않고, 다른 필드를 읽을 때 한 번 읽는다.
+     * 같은 요청에서 다시 부르면 요청 속성에 둔 같은 엔티티를 준다.
+     */
     public Account readByPrincipal(Principal principal) {
         final String identification = principal.getName();
 
-        return queryTransactional.execute(() ->
-                accountQueryService.readByIdentification(identification)
-        );
+        final RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        final Account cached = readFromRequest(requestAttributes, identification);
+        if (cached != null) return cached;
+
+        final Account account = queryTransactional.execute(() -> {
+            final AccountSnapshot snapshot = accountSnapshotCacheService.readByIdentification(identification);
+            return accountQueryService.readReferenceById(snapshot.getId());
+        });
+
+        if (requestAttributes != null) {
+            requestAttributes.setAttribute(ACCOUNT_ATTRIBUTE + "." + identification, account, RequestAttributes.SCOPE_REQUEST);
+        }
+        return account;
+    }
+
+    private Account readFromRequest(RequestAttributes requestAttributes, String identification) {
+        if (requestAttributes == null) return null;
+
+        return (Account) requestAttributes.getAttribute(ACCOUNT_ATTRIBUTE + "." + identification, RequestAttributes.SCOPE_REQUEST);
     }
-}
\ No newline at end of file
+}
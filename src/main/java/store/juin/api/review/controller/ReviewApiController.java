@@ -4,10 +4,12 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
 import store.juin.api.account.model.entity.Account;
+import store.juin.api.common.model.response.CursorPage;
 import store.juin.api.common.model.response.JUINResponse;
 import store.juin.api.principal.service.query.PrincipalQueryService;
 import store.juin.api.review.model.request.ReviewAddRequest;
@@ -15,8 +17,10 @@ import store.juin.api.review.model.request.ReviewUpdateRequest;
 import store.juin.api.review.model.response.ReviewRetrieveResponse;
 import store.juin.api.review.service.command.ReviewCommandService;
 import store.juin.api.review.service.query.ReviewQueryService;
+import store.juin.api.util.CursorUtil;
 
 import javax.persistence.EntityNotFoundException;
+import java.security.InvalidParameterException;
 import java.security.Principal;
 
 @Slf4j
@@ -85,4 +89,23 @@ public class ReviewApiController {
             return new JUINResponse<>(HttpStatus.BAD_REQUEST);
         }
     }
+
+    // cursor 파라미터가 있으면 (빈 값이면 첫 페이지) 커서 페이지네이션으로 응답한다.
+    @GetMapping(params = "cursor")
+    public JUINResponse<CursorPage<ReviewRetrieveResponse>> retrieveAllByCursor(@RequestParam long itemId,
+                                                                                @RequestParam(required = false) String cursor,
+                                                                                @RequestParam(defaultValue = "10") int size,
+                                                                                Sort sort) {
+        log.info("[P9][CTRL][REV_][RALC]: GET /api/reviews itemId=({}), cursor=({}), size=({}), sort=({})", itemId, cursor, size, sort);
+
+        try {
+            CursorUtil.validSort(sort);
+
+            var response = reviewQueryService.readAllByCursor(itemId, cursor, size);
+            return new JUINResponse<>(HttpStatus.OK, response);
+        } catch (EntityNotFoundException | InvalidParameterException e) {
+            log.warn("[P2][CTRL][REV_][RALC]: message=({})", e.getMessage());
+            return new JUINResponse<>(HttpStatus.BAD_REQUEST);
+        }
+    }
 }
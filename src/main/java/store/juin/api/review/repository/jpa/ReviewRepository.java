@@ -7,6 +7,7 @@ import org.springframework.stereotype.Repository;
 import store.juin.api.item.model.entity.Item;
 import store.juin.api.review.model.entity.Review;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -14,4 +15,9 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
     Optional<Review> findByReviewIdAndAccountId(Long reviewId, Long accountId);
 
     Page<Review> findAllByItem(Item item, Pageable pageable);
+
+    // 커서 페이지네이션용. 반환 타입이 List라서 count 쿼리가 나가지 않는다.
+    List<Review> findAllByItemOrderByReviewIdDesc(Item item, Pageable pageable);
+
+    List<Review> findAllByItemAndReviewIdLessThanOrderByReviewIdDesc(Item item, Long reviewId, Pageable pageable);
 }
@@ -33,7 +33,8 @@ public class ReviewCommandService {
             final long count = orderCommandService.countByAccountIdAndItemId(account.getId(), itemId);
             if (count == 0) throw new EntityNotFoundException(Msg.ORDER_NOT_FOUND);
 
-            final Item item = itemQueryService.readById(itemId);
+            itemQueryService.readSnapshotById(itemId);
+            final Item item = itemQueryService.readReferenceById(itemId);
             final Review review = reviewRepository.save(request.toReview(account, item));
 
             return review.getReviewId();
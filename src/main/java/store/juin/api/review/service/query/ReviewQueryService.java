@@ -2,14 +2,20 @@ package store.juin.api.review.service.query;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import store.juin.api.common.handler.QueryTransactional;
+import store.juin.api.common.model.response.CursorPage;
 import store.juin.api.item.model.entity.Item;
 import store.juin.api.item.service.query.ItemQueryService;
 import store.juin.api.review.model.entity.Review;
 import store.juin.api.review.model.response.ReviewRetrieveResponse;
 import store.juin.api.review.repository.jpa.ReviewRepository;
+import store.juin.api.util.CursorUtil;
+
+import java.util.List;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -22,9 +28,31 @@ public class ReviewQueryService {
 
     public Page<ReviewRetrieveResponse> readAll(long itemId, Pageable pageable) {
         return queryTransactional.execute(() -> {
-            final Item item = itemQueryService.readById(itemId);
+            itemQueryService.readSnapshotById(itemId);
+            final Item item = itemQueryService.readReferenceById(itemId);
             final Page<Review> reviewList = reviewRepository.findAllByItem(item, pageable);
             return reviewList.map(ReviewRetrieveResponse::from);
         });
     }
+
+    // 최신 리뷰부터 커서로 읽는다. cursor가 비어 있으면 첫 페이지.
+    public CursorPage<ReviewRetrieveResponse> readAllByCursor(long itemId, String cursor, int size) {
+        CursorUtil.validSize(size);
+        final List<Long> keyList = CursorUtil.decode(cursor, 1);
+        final PageRequest limit = PageRequest.of(0, size + 1);
+
+        return queryTransactional.execute(() -> {
+            itemQueryService.readSnapshotById(itemId);
+            final Item item = itemQueryService.readReferenceById(itemId);
+            final List<Review> reviewList = keyList.isEmpty()
+                    ? reviewRepository.findAllByItemOrderByReviewIdDesc(item, limit)
+                    : reviewRepository.findAllByItemAndReviewIdLessThanOrderByReviewIdDesc(item, keyList.get(0), limit);
+
+            final List<ReviewRetrieveResponse> response = reviewList.stream()
+                    .map(ReviewRetrieveResponse::from)
+                    .collect(Collectors.toList());
+
+            return CursorPage.of(response, size, it -> CursorUtil.encode(it.getReviewId()));
+        });
+    }
 }
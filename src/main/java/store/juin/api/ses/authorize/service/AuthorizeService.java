@@ -2,46 +2,56 @@ package store.juin.api.ses.authorize.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import store.juin.api.account.service.query.AccountQueryService;
 import store.juin.api.ses.authorize.exception.AuthorizeException;
 import store.juin.api.ses.authorize.model.request.AuthorizeCheckRequest;
 import store.juin.api.ses.authorize.model.request.AuthorizeSendRequest;
-import store.juin.api.ses.email.service.EmailService;
+import store.juin.api.ses.authorize.store.VerificationCodeStore;
+import store.juin.api.ses.authorize.store.VerificationResult;
+import store.juin.api.ses.email.dispatch.EmailDispatcher;
+import store.juin.api.ses.email.exception.EmailQueueFullException;
 import store.juin.api.util.AuthNumberUtil;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class AuthorizeService {
-    private final EmailService emailService;
+    private final EmailDispatcher emailDispatcher;
 
     private final AccountQueryService accountQueryService;
-    private final AuthorizeCacheService authorizeCacheService;
+    private final VerificationCodeStore verificationCodeStore;
 
     public String verifyEmailAddress(AuthorizeSendRequest request) {
         final String toEmail = request.getToEmail();
         accountQueryService.checkDuplicateEmail(toEmail);
 
         final String authNumber = AuthNumberUtil.makeAuthNumber();
-        authorizeCacheService.putAuthorizeNumber(toEmail, authNumber);
+        verificationCodeStore.save(toEmail, authNumber);
 
-       return emailService.verifyEmailAddress(toEmail) == HttpStatus.OK.value()
-               ? "인증 이메일을 전송하였습니다. 이메일을 확인해 주세요."
-               : "인증 이메일 전송에 실패하였습니다.";
+        // 발송은 기다리지 않는다. 인증번호가 캐시에 들어가면 바로 응답한다.
+        try {
+            emailDispatcher.verifyEmailAddress(toEmail);
+            return "인증 이메일을 전송하였습니다. 이메일을 확인해 주세요.";
+        } catch (EmailQueueFullException e) {
+            log.warn("[P5][SERV][AUTH][VERI]: message=({})", e.getMessage());
+            return "인증 이메일 전송에 실패하였습니다.";
+        }
     }
 
 
     public void authorize(AuthorizeCheckRequest request) {
-        final String hashNumber = authorizeCacheService.getAuthorizeNumber(request.getEmail());
-
-        if (hashNumber == null) {
-            throw new AuthorizeException("이메일 인증번호 전송 요청이 필요합니다.");
-        }
+        final VerificationResult result = verificationCodeStore.verify(request.getEmail(), request.getHash());
 
-        if (!hashNumber.equals(request.getHash())) {
-            throw new AuthorizeException("인증번호가 일치하지 않습니다.");
+        switch (result) {
+            case MATCHED:
+                return;
+            case MISMATCHED:
+                throw new AuthorizeException("인증번호가 일치하지 않습니다.");
+            case TOO_MANY_ATTEMPTS:
+                throw new AuthorizeException("인증번호 입력 횟수를 초과하였습니다. 인증번호를 다시 요청해 주세요.");
+            default:
+                throw new AuthorizeException("이메일 인증번호 전송 요청이 필요합니다.");
         }
     }
 
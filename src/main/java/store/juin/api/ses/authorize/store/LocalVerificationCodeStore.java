@@ -0,0 +1,74 @@
+package store.juin.api.ses.authorize.store;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import store.juin.api.util.HashUtil;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 서버 메모리에 두는 인증번호 저장소.
+ * 이메일 -> (인증번호 SHA-256, 시도 횟수), 발급 후 ttl(ms)이 지나면 지워지고 maximum-size를 넘으면 오래된 것부터 밀려난다.
+ * 인증번호 원문은 들고 있지 않는다.
+ */
+@Component
+@ConditionalOnProperty(name = "verification-code.store", havingValue = "local", matchIfMissing = true)
+public class LocalVerificationCodeStore implements VerificationCodeStore {
+    private final int maxAttempts;
+
+    private final Cache<String, Entry> entryCache;
+
+    public LocalVerificationCodeStore(@Value("${verification-code.ttl:300000}") long ttl,
+                                      @Value("${verification-code.max-attempts:5}") int maxAttempts,
+                                      @Value("${verification-code.maximum-size:10000}") long maximumSize) {
+        this.maxAttempts = maxAttempts;
+        this.entryCache = Caffeine.newBuilder()
+                .expireAfterWrite(ttl, TimeUnit.MILLISECONDS)
+                .maximumSize(maximumSize)
+                .build();
+    }
+
+    @Override
+    public void save(String email, String code) {
+        entryCache.put(email, new Entry(toHashBytes(code)));
+    }
+
+    @Override
+    public VerificationResult verify(String email, String code) {
+        final Entry entry = entryCache.getIfPresent(email);
+        if (entry == null) return VerificationResult.NOT_REQUESTED;
+
+        if (entry.attemptCount.incrementAndGet() > maxAttempts) {
+            entryCache.asMap().remove(email, entry);
+            return VerificationResult.TOO_MANY_ATTEMPTS;
+        }
+
+        if (code == null || !MessageDigest.isEqual(entry.codeHash, toHashBytes(code))) {
+            return VerificationResult.MISMATCHED;
+        }
+
+        // 한 번 맞힌 번호는 다시 못 쓴다. 동시에 맞힌 요청 중 하나만 통과한다.
+        return entryCache.asMap().remove(email, entry)
+                ? VerificationResult.MATCHED
+                : VerificationResult.NOT_REQUESTED;
+    }
+
+    private static byte[] toHashBytes(String code) {
+        return HashUtil.sha256Hex(code).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static class Entry {
+        private final byte[] codeHash;
+        private final AtomicInteger attemptCount = new AtomicInteger();
+
+        private Entry(byte[] codeHash) {
+            this.codeHash = codeHash;
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package store.juin.api.ses.authorize.store;
+
+/**
+ * 이메일 인증번호 저장소.
+ * 서버가 한 대면 LocalVerificationCodeStore를 쓰고,
+ * 여러 대로 늘리면 같은 계약으로 공유 저장소(ex. Redis) 구현을 만들고 verification-code.store 값으로 바꾼다.
+ */
+public interface VerificationCodeStore {
+    // 같은 이메일로 다시 발급하면 이전 번호와 시도 횟수는 버린다.
+    void save(String email, String code);
+
+    // 시도할 때마다 횟수를 센다. 비교는 고정 시간으로 한다.
+    VerificationResult verify(String email, String code);
+}
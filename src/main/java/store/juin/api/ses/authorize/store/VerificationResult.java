@@ -0,0 +1,8 @@
+package store.juin.api.ses.authorize.store;
+
+public enum VerificationResult {
+    MATCHED,            // 일치, 인증번호는 바로 지운다.
+    MISMATCHED,         // 불일치, 시도 횟수가 남아 있다.
+    NOT_REQUESTED,      // 발급한 적이 없거나 만료됨
+    TOO_MANY_ATTEMPTS   // 시도 횟수를 다 씀, 인증번호는 지운다.
+}
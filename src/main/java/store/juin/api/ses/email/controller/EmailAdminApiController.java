@@ -0,0 +1,27 @@
+package store.juin.api.ses.email.controller;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import store.juin.api.common.model.response.JUINResponse;
+import store.juin.api.ses.email.dispatch.EmailDispatcher;
+import store.juin.api.ses.email.model.response.EmailDispatchStatsResponse;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/admin/emails")
+@RequiredArgsConstructor
+public class EmailAdminApiController {
+    private final EmailDispatcher emailDispatcher;
+
+    @GetMapping("/dispatch")
+    public JUINResponse<EmailDispatchStatsResponse> retrieveDispatchStats() {
+        log.info("[P9][CTRL][MAIL][DISP]: GET /api/admin/emails/dispatch");
+
+        var response = emailDispatcher.readStats();
+        return new JUINResponse<>(HttpStatus.OK, response);
+    }
+}
@@ -0,0 +1,199 @@
+package store.juin.api.ses.email.dispatch;
+
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.retry.RetryUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import store.juin.api.common.exception.Msg;
+import store.juin.api.ses.email.exception.EmailQueueFullException;
+import store.juin.api.ses.email.model.request.EmailRequest;
+import store.juin.api.ses.email.model.response.EmailDispatchStatsResponse;
+import store.juin.api.ses.email.service.EmailService;
+
+import javax.annotation.PreDestroy;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 메일 발송을 요청 스레드 밖에서 한다.
+ * <p>
+ * 요청 스레드는 큐에 넣기만 하고 바로 돌아간다. 큐가 가득 차면 기다리지 않고 EmailQueueFullException을 던진다.
+ * email-dispatch.worker-count개의 스레드가 큐에서 꺼내 EmailService로 보낸다.
+ * 실패하면 지수 backoff(+jitter) 뒤 큐에 다시 넣고, max-attempts를 넘기거나 재시도해도 소용없는 오류(4xx)면 버린다.
+ * 서버가 죽으면 큐에 남은 메일은 잃는다. 인증번호는 다시 요청하면 된다.
+ */
+@Slf4j
+@Component
+public class EmailDispatcher {
+    private final EmailService emailService;
+
+    private final int queueCapacity;
+
+    private final int workerCount;
+
+    private final int maxAttempts;
+
+    private final long initialBackoff;
+
+    private final long maxBackoff;
+
+    private final BlockingQueue<EmailJob> queue;
+
+    private final AtomicInteger retryPendingCount = new AtomicInteger();
+    private final AtomicLong enqueuedCount = new AtomicLong();
+    private final AtomicLong rejectedCount = new AtomicLong();
+    private final AtomicLong sentCount = new AtomicLong();
+    private final AtomicLong retriedCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+
+    private ExecutorService workerExecutor;
+
+    private ScheduledExecutorService retryExecutor;
+
+    public EmailDispatcher(EmailService emailService,
+                           @Value("${email-dispatch.queue-capacity:1000}") int queueCapacity,
+                           @Value("${email-dispatch.worker-count:2}") int workerCount,
+                           @Value("${email-dispatch.max-attempts:4}") int maxAttempts,
+                           @Value("${email-dispatch.initial-backoff:500}") long initialBackoff,
+                           @Value("${email-dispatch.max-backoff:10000}") long maxBackoff) {
+        this.emailService = emailService;
+        this.queueCapacity = queueCapacity;
+        this.workerCount = workerCount;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        final AtomicInteger threadNumber = new AtomicInteger();
+
+        workerExecutor = Executors.newFixedThreadPool(workerCount, runnable -> {
+            final Thread thread = new Thread(runnable, "email-dispatch-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (int i = 0; i < workerCount; i++) {
+            workerExecutor.execute(this::work);
+        }
+
+        retryExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "email-dispatch-retry");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // 요청 스레드에서 부른다. 막히지 않는다. job id를 돌려준다.
+    public String send(EmailRequest emailRequest) {
+        return enqueue(EmailJob.send(emailRequest));
+    }
+
+    public String verifyEmailAddress(String toEmail) {
+        return enqueue(EmailJob.verifyAddress(toEmail));
+    }
+
+    public EmailDispatchStatsResponse readStats() {
+        return new EmailDispatchStatsResponse()
+                .setQueueDepth(queue.size())
+                .setQueueCapacity(queueCapacity)
+                .setRetryPendingCount(retryPendingCount.get())
+                .setEnqueuedCount(enqueuedCount.get())
+                .setRejectedCount(rejectedCount.get())
+                .setSentCount(sentCount.get())
+                .setRetriedCount(retriedCount.get())
+                .setFailedCount(failedCount.get());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (retryExecutor != null) retryExecutor.shutdownNow();
+        if (workerExecutor != null) workerExecutor.shutdownNow();
+
+        if (!queue.isEmpty()) {
+            log.warn("[P2][SERV][MAIL][DISP]: 종료 시 발송하지 못한 메일. count=({})", queue.size());
+        }
+    }
+
+    private String enqueue(EmailJob job) {
+        if (!queue.offer(job)) {
+            rejectedCount.incrementAndGet();
+            throw new EmailQueueFullException(Msg.EMAIL_QUEUE_FULL);
+        }
+
+        enqueuedCount.incrementAndGet();
+        return job.getId();
+    }
+
+    private void work() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                dispatch(queue.take());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void dispatch(EmailJob job) {
+        try {
+            job.execute(emailService);
+            sentCount.incrementAndGet();
+        } catch (RuntimeException e) {
+            if (job.getAttempt() >= maxAttempts || !isRetryable(e)) {
+                failedCount.incrementAndGet();
+                log.error("[P1][SERV][MAIL][DISP]: 메일 발송 실패. id=({}), type=({}), attempt=({}), message=({})",
+                        job.getId(), job.getType(), job.getAttempt(), e.getMessage());
+                return;
+            }
+
+            final long backoff = makeBackoff(job.getAttempt());
+            log.warn("[P5][SERV][MAIL][DISP]: 메일 발송 재시도 예정. id=({}), attempt=({}), backoff=({}ms), message=({})",
+                    job.getId(), job.getAttempt(), backoff, e.getMessage());
+            scheduleRetry(job, backoff);
+        }
+    }
+
+    private void scheduleRetry(EmailJob job, long backoff) {
+        retryPendingCount.incrementAndGet();
+        retryExecutor.schedule(() -> {
+            retryPendingCount.decrementAndGet();
+            retriedCount.incrementAndGet();
+            if (!queue.offer(job)) {
+                failedCount.incrementAndGet();
+                log.error("[P1][SERV][MAIL][DISP]: 재시도할 자리가 없어 버림. id=({})", job.getId());
+            }
+        }, backoff, TimeUnit.MILLISECONDS);
+    }
+
+    // initialBackoff * 2^(attempt-1) 를 maxBackoff로 자르고, 그 절반~전체 사이에서 고른다.
+    private long makeBackoff(int attempt) {
+        final long exponential = initialBackoff << Math.min(attempt - 1, 20);
+        final long capped = Math.min(exponential, maxBackoff);
+        return capped / 2 + ThreadLocalRandom.current().nextLong(capped / 2 + 1);
+    }
+
+    // SES가 4xx로 거절한 메일(주소 오류 등)은 다시 보내도 같다.
+    // 단, SES는 발송 한도 초과를 400 "Throttling"(Maximum sending rate exceeded)으로 주므로 에러 코드를 먼저 보고 재시도한다.
+    private boolean isRetryable(RuntimeException e) {
+        if (!(e instanceof AmazonServiceException)) return true;
+
+        final AmazonServiceException serviceException = (AmazonServiceException) e;
+        if (RetryUtils.isThrottlingException(serviceException)) return true;
+
+        final int statusCode = serviceException.getStatusCode();
+        return statusCode >= 500 || statusCode == HttpStatus.TOO_MANY_REQUESTS.value();
+    }
+}
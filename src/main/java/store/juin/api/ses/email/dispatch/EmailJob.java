@@ -0,0 +1,55 @@
+package store.juin.api.ses.email.dispatch;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import store.juin.api.ses.email.model.request.EmailRequest;
+import store.juin.api.ses.email.service.EmailService;
+
+import java.util.UUID;
+
+/**
+ * 발송 대기열에 들어가는 메일 한 건. 재시도하면 attempt가 늘어난 같은 job이 다시 들어간다.
+ */
+@Getter
+class EmailJob {
+    enum Type { SEND, VERIFY_ADDRESS }
+
+    private final String id = UUID.randomUUID().toString();
+
+    private final Type type;
+
+    private final String toEmail;
+
+    private final EmailRequest emailRequest;
+
+    private int attempt;
+
+    private EmailJob(Type type, String toEmail, EmailRequest emailRequest) {
+        this.type = type;
+        this.toEmail = toEmail;
+        this.emailRequest = emailRequest;
+    }
+
+    static EmailJob send(EmailRequest emailRequest) {
+        return new EmailJob(Type.SEND, emailRequest.getToEmail(), emailRequest);
+    }
+
+    static EmailJob verifyAddress(String toEmail) {
+        return new EmailJob(Type.VERIFY_ADDRESS, toEmail, null);
+    }
+
+    // 실패하면 예외를 던진다.
+    void execute(EmailService emailService) {
+        attempt++;
+
+        if (type == Type.SEND) {
+            emailService.send(emailRequest);
+            return;
+        }
+
+        final int statusCode = emailService.verifyEmailAddress(toEmail);
+        if (statusCode != HttpStatus.OK.value()) {
+            throw new IllegalStateException("이메일 주소 인증 요청 실패. status=" + statusCode);
+        }
+    }
+}
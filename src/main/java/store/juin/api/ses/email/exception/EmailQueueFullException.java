@@ -0,0 +1,16 @@
+package store.juin.api.ses.email.exception;
+
+public class EmailQueueFullException extends RuntimeException {
+    public EmailQueueFullException(){
+        super();
+    }
+    public EmailQueueFullException(String message){
+        super(message);
+    }
+    public EmailQueueFullException(Throwable cause){
+        super(cause);
+    }
+    public EmailQueueFullException(String message, Throwable cause){
+        super(message,cause);
+    }
+}
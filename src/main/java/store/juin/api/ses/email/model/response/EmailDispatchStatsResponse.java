@@ -0,0 +1,24 @@
+package store.juin.api.ses.email.model.response;
+
+import lombok.Data;
+import lombok.experimental.Accessors;
+
+@Data
+@Accessors(chain = true)
+public class EmailDispatchStatsResponse {
+    private int queueDepth;         // 발송 대기 중인 메일 수
+
+    private int queueCapacity;
+
+    private int retryPendingCount;  // backoff 후 다시 넣을 메일 수
+
+    private long enqueuedCount;     // 큐에 넣은 수
+
+    private long rejectedCount;     // 큐가 가득 차서 받지 못한 수
+
+    private long sentCount;         // 발송에 성공한 수
+
+    private long retriedCount;      // 재시도한 수
+
+    private long failedCount;       // 재시도를 다 쓰거나 재시도할 수 없는 오류로 버린 수
+}
@@ -0,0 +1,60 @@
+package store.juin.api.ses.email.service.impl;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import store.juin.api.ses.email.model.request.EmailRequest;
+import store.juin.api.ses.email.service.EmailService;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 부하 테스트용. SES를 부르지 않고 응답 시간(latency, ms)과 실패 비율(failure-rate, 0~1)만 흉내 낸다.
+ * local 프로필과 같이 켠다. (spring.profiles.active=local,loadtest)
+ */
+@Slf4j
+@Service
+@Profile("loadtest")
+public class LoadTestEmailServiceImpl implements EmailService {
+    private final long latency;
+
+    private final double failureRate;
+
+    public LoadTestEmailServiceImpl(@Value("${email-dispatch.load-test.latency:300}") long latency,
+                                    @Value("${email-dispatch.load-test.failure-rate:0.0}") double failureRate) {
+        this.latency = latency;
+        this.failureRate = failureRate;
+    }
+
+    @Override
+    public String send(EmailRequest request) {
+        simulate();
+        return UUID.randomUUID().toString();
+    }
+
+    @Override
+    public boolean isConfirmed(String email) {
+        return true;
+    }
+
+    @Override
+    public int verifyEmailAddress(String email) {
+        simulate();
+        return HttpStatus.OK.value();
+    }
+
+    private void simulate() {
+        try {
+            Thread.sleep(latency);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        if (ThreadLocalRandom.current().nextDouble() < failureRate) {
+            throw new IllegalStateException("부하 테스트용 메일 발송 실패");
+        }
+    }
+}
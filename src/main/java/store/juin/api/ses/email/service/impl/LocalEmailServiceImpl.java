@@ -7,7 +7,7 @@ import store.juin.api.ses.email.model.request.EmailRequest;
 import store.juin.api.ses.email.service.EmailService;
 
 @Service
-@Profile("local")
+@Profile("local & !loadtest")
 public class LocalEmailServiceImpl implements EmailService {
     @Override
     public String send(EmailRequest request) {
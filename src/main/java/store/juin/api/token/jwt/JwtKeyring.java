@@ -0,0 +1,194 @@
+package store.juin.api.token.jwt;
+
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.Key;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * kid -> HMAC 키 표. 서명은 active kid로 하고, 검증은 토큰 헤더의 kid로 키를 바로 찾는다.
+ * <p>
+ * jwt.secret은 legacy 키로 kid "default"에 들어가고, kid 없이 발급된 예전 토큰도 이 키로 검증한다.
+ * legacy 키는 jwt.legacy-key-enabled(기본 true)나 키 파일의 legacy-key-enabled로 끌 수 있다. 끄면 default 키도, kid 없는 토큰도 거절한다.
+ * jwt.keyring-location 파일이 있으면 jwt.keyring-reload-interval(ms)마다 수정 시각을 보고 다시 읽는다. 재시작 없이 키를 돌릴 수 있다.
+ * <pre>
+ * active=2026-10
+ * key.2026-10=(base64)
+ * key.2026-04=(base64)   # 이전 키는 발급된 토큰이 만료될 때까지 남겨 둔다.
+ * legacy-key-enabled=false   # 없으면 jwt.legacy-key-enabled를 따른다.
+ * </pre>
+ * 파일을 읽다 실패하면 로그만 남기고 이전 키 표를 계속 쓴다.
+ */
+@Slf4j
+@Component
+public class JwtKeyring {
+    public static final String DEFAULT_KID = "default";
+
+    private static final String ACTIVE_PROPERTY = "active";
+    private static final String KEY_PROPERTY_PREFIX = "key.";
+    private static final String LEGACY_KEY_ENABLED_PROPERTY = "legacy-key-enabled";
+
+    private final Key defaultKey;
+
+    // 키 파일에 legacy-key-enabled가 없을 때 쓰는 값
+    private final boolean legacyKeyEnabled;
+
+    private final Path keyringPath;
+
+    private final long reloadInterval;
+
+    // 통째로 바꿔 끼운다. 읽는 쪽은 락 없이 volatile 한 번만 읽는다.
+    private volatile Keyring keyring;
+
+    private long lastModified = -1;
+
+    private ScheduledExecutorService reloadExecutor;
+
+    public JwtKeyring(@Value("${jwt.secret}") String secret,
+                      @Value("${jwt.keyring-location:}") String keyringLocation,
+                      @Value("${jwt.keyring-reload-interval:30000}") long reloadInterval,
+                      @Value("${jwt.legacy-key-enabled:true}") boolean legacyKeyEnabled) {
+        this.defaultKey = toKey(secret);
+        this.legacyKeyEnabled = legacyKeyEnabled;
+        this.keyringPath = keyringLocation.isBlank() ? null : Paths.get(keyringLocation);
+        this.reloadInterval = reloadInterval;
+        this.keyring = legacyKeyEnabled
+                ? new Keyring(DEFAULT_KID, Map.of(DEFAULT_KID, defaultKey))
+                : new Keyring(null, Map.of());
+
+        reload();
+
+        if (keyring.activeKey == null) {
+            throw new IllegalStateException("서명할 키가 없음. legacy 키를 끄면 jwt.keyring-location에 active 키가 있어야 한다.");
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if (keyringPath == null || reloadInterval <= 0) return;
+
+        reloadExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "jwt-keyring-reload");
+            thread.setDaemon(true);
+            return thread;
+        });
+        reloadExecutor.scheduleWithFixedDelay(this::reload, reloadInterval, reloadInterval, TimeUnit.MILLISECONDS);
+    }
+
+    // 서명할 때는 kid와 키를 이걸로 한 번에 꺼낸다. 따로 읽으면 그 사이에 키 표가 바뀌어 다른 kid로 서명될 수 있다.
+    public ActiveKey getActiveKey() {
+        return keyring.activeKey;
+    }
+
+    // kid가 없으면 default 키, 모르는 kid면 null. legacy 키를 껐으면 키 표에 default가 없어서 kid 없는 토큰도 null이다.
+    public Key findKey(String kid) {
+        return keyring.keyMap.get(kid == null ? DEFAULT_KID : kid);
+    }
+
+    public boolean contains(String kid) {
+        return findKey(kid) != null;
+    }
+
+    // 파일이 바뀌었을 때만 다시 읽는다.
+    public synchronized void reload() {
+        if (keyringPath == null) return;
+
+        try {
+            if (!Files.exists(keyringPath)) {
+                log.warn("[P5][COM][TOKN][KEYR]: 키 파일이 없음. path=({})", keyringPath);
+                return;
+            }
+
+            final long modified = Files.getLastModifiedTime(keyringPath).toMillis();
+            if (modified == lastModified) return;
+
+            keyring = read(keyringPath);
+            lastModified = modified;
+            log.info("[P9][COM][TOKN][KEYR]: 키 표 교체. active=({}), kids=({})", keyring.activeKey.getKid(), keyring.keyMap.keySet());
+        } catch (IOException | RuntimeException e) {
+            log.error("[P1][COM][TOKN][KEYR]: 키 파일 읽기 실패, 이전 키 표 유지. path=({}), message=({})", keyringPath, e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (reloadExecutor != null) {
+            reloadExecutor.shutdownNow();
+        }
+    }
+
+    private Keyring read(Path path) throws IOException {
+        final Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        }
+
+        final String legacyKeyEnabledProperty = properties.getProperty(LEGACY_KEY_ENABLED_PROPERTY);
+        final boolean legacyEnabled = legacyKeyEnabledProperty == null
+                ? legacyKeyEnabled
+                : Boolean.parseBoolean(legacyKeyEnabledProperty.trim());
+
+        final Map<String, Key> keyMap = new HashMap<>();
+        if (legacyEnabled) {
+            keyMap.put(DEFAULT_KID, defaultKey);
+        }
+        for (String name : properties.stringPropertyNames()) {
+            // default는 jwt.secret 자리라 파일로 덮어쓰지 않는다.
+            if (name.startsWith(KEY_PROPERTY_PREFIX) && !name.equals(KEY_PROPERTY_PREFIX + DEFAULT_KID)) {
+                keyMap.put(name.substring(KEY_PROPERTY_PREFIX.length()), toKey(properties.getProperty(name).trim()));
+            }
+        }
+
+        final String activeKid = properties.getProperty(ACTIVE_PROPERTY, DEFAULT_KID).trim();
+        // legacy 키를 껐는데 active=default면 여기서 걸린다.
+        if (!keyMap.containsKey(activeKid)) {
+            throw new IllegalStateException("active kid에 해당하는 키가 없음. active=" + activeKid);
+        }
+
+        return new Keyring(activeKid, Collections.unmodifiableMap(keyMap));
+    }
+
+    private static Key toKey(String secret) {
+        return Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret));
+    }
+
+    private static class Keyring {
+        private final ActiveKey activeKey;
+        private final Map<String, Key> keyMap;
+
+        private Keyring(String activeKid, Map<String, Key> keyMap) {
+            this.activeKey = activeKid == null ? null : new ActiveKey(activeKid, keyMap.get(activeKid));
+            this.keyMap = keyMap;
+        }
+    }
+
+    // 서명에 쓰는 active kid와 그 키, 같은 키 표에서 꺼낸 한 쌍이다.
+    @Getter
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    public static class ActiveKey {
+        private final String kid;
+        private final Key key;
+    }
+}
@@ -0,0 +1,112 @@
+package store.juin.api.token.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+import org.springframework.stereotype.Component;
+
+import javax.servlet.http.HttpServletRequest;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 토큰 없이 열려 있는 조회 전용 경로(GET, HEAD) 표.
+ * <p>
+ * 패턴은 기동 시 세그먼트 단위 트라이로 한 번 만들어 둔다. (리터럴, *, ** 지원)
+ * 판정 결과는 method + 경로 템플릿(숫자 세그먼트는 {id})으로 캐시해서 같은 모양의 요청은 트라이도 다시 타지 않는다.
+ * TokenRequestFilter는 여기 걸리면 토큰을 파싱하지 않고, SecurityConfig는 인가 체인 맨 앞에서 permitAll 한다.
+ */
+@Component
+public class PublicRouteTable implements RequestMatcher {
+    private static final int MAXIMUM_DECISION_COUNT = 10_000;
+    private static final String ID_SEGMENT = "{id}";
+
+    private final Node root = new Node();
+
+    private final Cache<String, Boolean> decisionCache = Caffeine.newBuilder()
+            .maximumSize(MAXIMUM_DECISION_COUNT)
+            .build();
+
+    public PublicRouteTable(@Value("${jwt.public-read-paths:}") List<String> patternList) {
+        for (String pattern : patternList) {
+            if (!pattern.isBlank()) insert(pattern.trim());
+        }
+    }
+
+    @Override
+    public boolean matches(HttpServletRequest request) {
+        return isPublic(request.getMethod(), request.getServletPath());
+    }
+
+    public boolean isPublic(String method, String path) {
+        if (!HttpMethod.GET.matches(method) && !HttpMethod.HEAD.matches(method)) return false;
+        if (path == null) return false;
+
+        final String[] segmentArray = toTemplateSegments(path);
+        final String key = method + " " + String.join("/", segmentArray);
+
+        return decisionCache.get(key, k -> match(root, segmentArray, 0));
+    }
+
+    private void insert(String pattern) {
+        Node node = root;
+        for (String segment : split(pattern)) {
+            if ("**".equals(segment)) {
+                node.matchesRest = true;
+                return;
+            }
+            node = "*".equals(segment)
+                    ? node.wildcardChild()
+                    : node.children.computeIfAbsent(segment, s -> new Node());
+        }
+        node.terminal = true;
+    }
+
+    // 리터럴 -> * -> ** 순서로 본다. 패턴 수가 적어서 되돌아가는 경우는 드물다.
+    private boolean match(Node node, String[] segmentArray, int index) {
+        if (node.matchesRest) return true;
+        if (index == segmentArray.length) return node.terminal;
+
+        final Node literal = node.children.get(segmentArray[index]);
+        if (literal != null && match(literal, segmentArray, index + 1)) return true;
+
+        return node.wildcard != null && match(node.wildcard, segmentArray, index + 1);
+    }
+
+    // 숫자 세그먼트를 {id}로 바꿔서 /api/items/1, /api/items/2 가 같은 키를 쓰게 한다. (패턴에 숫자 리터럴은 두지 않는다)
+    private static String[] toTemplateSegments(String path) {
+        final String[] segmentArray = split(path);
+        for (int i = 0; i < segmentArray.length; i++) {
+            if (isNumber(segmentArray[i])) segmentArray[i] = ID_SEGMENT;
+        }
+        return segmentArray;
+    }
+
+    private static String[] split(String path) {
+        final String trimmed = path.startsWith("/") ? path.substring(1) : path;
+        return trimmed.isEmpty() ? new String[0] : trimmed.split("/");
+    }
+
+    private static boolean isNumber(String segment) {
+        if (segment.isEmpty()) return false;
+        for (int i = 0; i < segment.length(); i++) {
+            if (!Character.isDigit(segment.charAt(i))) return false;
+        }
+        return true;
+    }
+
+    private static class Node {
+        private final Map<String, Node> children = new HashMap<>();
+        private Node wildcard;
+        private boolean terminal;
+        private boolean matchesRest;
+
+        private Node wildcardChild() {
+            if (wildcard == null) wildcard = new Node();
+            return wildcard;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package store.juin.api.token.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그아웃, 비밀번호 변경, 재로그인으로 밀려난 리프레시 토큰 hash.
+ * 재발급 요청을 DB 조회 전에 거른다. 리프레시 토큰 유효 기간이 지나면 토큰 자체가 만료되므로 같이 지운다.
+ * 서버 메모리에만 있으므로 DB의 hash도 같이 바꿔야 한다. (서버가 여러 대거나 재시작해도 DB 기준으로 막힌다.)
+ */
+@Component
+public class RefreshTokenRevocationSet {
+    private static final int MAXIMUM_SIZE = 100_000;
+
+    private final Cache<String, Boolean> revokedHashCache = Caffeine.newBuilder()
+            .maximumSize(MAXIMUM_SIZE)
+            .expireAfterWrite(TokenMessage.REFRESH_TOKEN_VALIDATION_TIME, TimeUnit.MILLISECONDS)
+            .build();
+
+    public void revoke(String refreshTokenHash) {
+        if (refreshTokenHash == null || refreshTokenHash.isEmpty()) return;
+
+        revokedHashCache.put(refreshTokenHash, Boolean.TRUE);
+    }
+
+    public boolean isRevoked(String refreshTokenHash) {
+        return revokedHashCache.getIfPresent(refreshTokenHash) != null;
+    }
+}
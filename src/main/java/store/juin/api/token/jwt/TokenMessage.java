@@ -11,4 +11,8 @@ public class TokenMessage {
     public static final String REFRESH_TOKEN = "Refresh-Token";
     public static final String BEARER = "Bearer ";
     public static final String EXCEPTION = "Exception";
+
+    // 엑세스 토큰 claim 이름
+    public static final String ACCOUNT_ID_CLAIM = "aid";
+    public static final String ROLE_CLAIM = "role";
 }
@@ -1,16 +1,25 @@
 package store.juin.api.token.jwt;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
-import io.jsonwebtoken.io.Decoders;
-import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.security.SignatureException;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import store.juin.api.account.enumeration.AccountRole;
+import store.juin.api.util.HashUtil;
 
 import java.security.Key;
 import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 /**
  * 토큰 관련 설정을 담당하는 클래스,
@@ -19,46 +28,133 @@ import java.util.Date;
 @Slf4j
 @Component
 public class TokenProvider {
-    private final Key secretKey;
+    private static final int VERIFIED_TOKEN_CACHE_SIZE = 10_000;
 
-    public TokenProvider(@Value("${jwt.secret}") String secret) {
-        byte[] keyBytes = Decoders.BASE64.decode(secret);
-        this.secretKey = Keys.hmacShaKeyFor(keyBytes);
+    private final JwtKeyring jwtKeyring;
+
+    // JwtParser는 불변이라 여러 스레드에서 같이 써도 된다. 키는 헤더의 kid로 키 표에서 찾는다.
+    private final JwtParser jwtParser;
+
+    // 서명 검증을 마친 토큰의 SHA-256 digest -> (kid, claims), 토큰 만료 시각에 같이 만료된다. (토큰 원문은 들고 있지 않는다.)
+    private final Cache<String, VerifiedToken> verifiedTokenCache;
+
+    public TokenProvider(JwtKeyring jwtKeyring) {
+        this.jwtKeyring = jwtKeyring;
+        this.jwtParser = Jwts.parserBuilder().setSigningKeyResolver(new KeyringSigningKeyResolver()).build();
+        this.verifiedTokenCache = Caffeine.newBuilder()
+                .maximumSize(VERIFIED_TOKEN_CACHE_SIZE)
+                .expireAfter(new ExpirationExpiry())
+                .build();
     }
 
     public String getEmailFromToken(String token) {
         return getClaimsFromToken(token).getSubject();
     }
 
+    /**
+     * 같은 토큰이 다시 들어오면 서명 검증 없이 캐시된 claims를 돌려준다.
+     * 서명한 키가 키 표에서 빠졌으면 캐시를 버리고 다시 검증한다. (실패한다)
+     * 돌려준 claims는 캐시와 공유하므로 수정하면 안 된다.
+     */
     public Claims getClaimsFromToken(String token) {
-        return Jwts.parserBuilder().setSigningKey(secretKey).build()
-                .parseClaimsJws(token)
-                .getBody();
+        final String digest = HashUtil.sha256Hex(token);
+
+        final VerifiedToken verified = verifiedTokenCache.getIfPresent(digest);
+        if (verified != null) {
+            if (jwtKeyring.contains(verified.kid)) return verified.claims;
+            verifiedTokenCache.invalidate(digest);
+        }
+
+        final Jws<Claims> jws = jwtParser.parseClaimsJws(token);
+        final Claims claims = jws.getBody();
+        if (claims.getExpiration() != null) {
+            verifiedTokenCache.put(digest, new VerifiedToken(jws.getHeader().getKeyId(), claims));
+        }
+        return claims;
     }
 
+    /**
+     * 리프레시 토큰 발급.
+     * iat가 초 단위라 같은 초에 발급하면 토큰이 똑같아지므로 jti에 임의 값을 넣어 매번 다른 토큰(hash)이 되게 한다.
+     */
     public String createToken(String username, long accessTokenValidationTime) {
-        // FIXME: roles 설정해야 됨.
-//        Map<String, Object> claims = new HashMap<>();
-//        claims.put("roles", "ROLE_ADMIN");
+        final Date date = new Date(System.currentTimeMillis());
+        final JwtKeyring.ActiveKey activeKey = jwtKeyring.getActiveKey();
+
+        return Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, activeKey.getKid())
+                .setId(UUID.randomUUID().toString())
+                .setSubject(username)
+                .setIssuedAt(date)
+                .setExpiration(new Date(date.getTime() + accessTokenValidationTime))
+                .signWith(activeKey.getKey(), SignatureAlgorithm.HS512)
+                .compact();
+    }
 
+    /**
+     * 엑세스 토큰 발급.
+     * 계정 id와 role을 claim으로 넣어서 요청마다 DB에서 계정을 다시 읽지 않게 한다.
+     */
+    public String createToken(String username, Long accountId, AccountRole accountRole, long accessTokenValidationTime) {
         final Date date = new Date(System.currentTimeMillis());
+        final JwtKeyring.ActiveKey activeKey = jwtKeyring.getActiveKey();
 
         return Jwts.builder()
-//                .setClaims(claims)
+                .setHeaderParam(JwsHeader.KEY_ID, activeKey.getKid())
                 .setSubject(username)
+                .claim(TokenMessage.ACCOUNT_ID_CLAIM, accountId)
+                .claim(TokenMessage.ROLE_CLAIM, accountRole.name())
                 .setIssuedAt(date)
                 .setExpiration(new Date(date.getTime() + accessTokenValidationTime))
-                .signWith(secretKey, SignatureAlgorithm.HS512)
+                .signWith(activeKey.getKey(), SignatureAlgorithm.HS512)
                 .compact();
     }
 
     // Exception은 EntryPoint에서 핸들링함.
     public boolean isValidToken(String token) {
         try {
-            Jwts.parserBuilder().setSigningKey(secretKey).build().parseClaimsJws(token);
+            getClaimsFromToken(token);
             return true;
         } catch (Exception e) {
             return false;
         }
     }
+
+    // kid 하나로 키를 바로 찾는다. 키를 돌아가며 대보지 않는다.
+    private class KeyringSigningKeyResolver extends SigningKeyResolverAdapter {
+        @Override
+        public Key resolveSigningKey(JwsHeader header, Claims claims) {
+            final Key key = jwtKeyring.findKey(header.getKeyId());
+            if (key == null) throw new SignatureException("Unknown JWT key id: " + header.getKeyId());
+            return key;
+        }
+    }
+
+    private static class VerifiedToken {
+        private final String kid;
+        private final Claims claims;
+
+        private VerifiedToken(String kid, Claims claims) {
+            this.kid = kid;
+            this.claims = claims;
+        }
+    }
+
+    private static class ExpirationExpiry implements Expiry<String, VerifiedToken> {
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken verified, long currentTime) {
+            final long remainMillis = verified.claims.getExpiration().getTime() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remainMillis, 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken verified, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, verified, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken verified, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
 }
\ No newline at end of file
@@ -1,13 +1,17 @@
 package store.juin.api.token.jwt;
 
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import javax.servlet.FilterChain;
@@ -15,6 +19,7 @@ import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.util.List;
 
 @Slf4j
 @Component
@@ -22,6 +27,19 @@ import java.io.IOException;
 public class TokenRequestFilter extends OncePerRequestFilter {
     private final TokenProvider tokenProvider;
     private final UserDetailsService UserDetailsService;
+    private final PublicRouteTable publicRouteTable;
+
+    private final AntPathMatcher antPathMatcher = new AntPathMatcher();
+
+    // claim을 믿지 않고 DB에서 계정을 다시 읽을 경로 (ex. 권한 변경이 바로 반영돼야 하는 곳)
+    @Value("${jwt.db-lookup-paths:}")
+    private List<String> dbLookupPathList = List.of();
+
+    // 공개 조회 경로는 토큰이 있어도 파싱하지 않는다.
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return publicRouteTable.matches(request);
+    }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -30,22 +48,22 @@ public class TokenRequestFilter extends OncePerRequestFilter {
 
         final String headerAccessToken = request.getHeader(TokenMessage.ACCESS_TOKEN);
 
-        String email = null;
+        Claims claims = null;
         String accessToken;
 
         try {
             if (this.isValidAccessToken(headerAccessToken)) {
                 accessToken = headerAccessToken.substring(7);
                 // accessToken 검증
-                email = tokenProvider.getEmailFromToken(accessToken);
+                claims = tokenProvider.getClaimsFromToken(accessToken);
             }
         } catch (Exception e) {
             request.setAttribute(TokenMessage.EXCEPTION, e);
         }
 
         // 토큰을 가져오면 검증을 한다
-        if (email != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            final UserDetails userDetails = UserDetailsService.loadUserByUsername(email);
+        if (claims != null && claims.getSubject() != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+            final UserDetails userDetails = makeUserDetails(claims, request);
 
             UsernamePasswordAuthenticationToken usernamePasswordAuthenticationToken =
                     new UsernamePasswordAuthenticationToken(
@@ -62,6 +80,26 @@ public class TokenRequestFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    // 서명이 검증된 claim만으로 인증 주체를 만든다. claim이 없는 예전 토큰이거나 민감한 경로면 DB에서 읽는다.
+    private UserDetails makeUserDetails(Claims claims, HttpServletRequest request) {
+        final String identification = claims.getSubject();
+        final Long accountId = claims.get(TokenMessage.ACCOUNT_ID_CLAIM, Long.class);
+        final String role = claims.get(TokenMessage.ROLE_CLAIM, String.class);
+
+        if (accountId == null || role == null || isDbLookupPath(request.getServletPath())) {
+            return UserDetailsService.loadUserByUsername(identification);
+        }
+
+        return new TokenUser(identification, accountId, List.of(new SimpleGrantedAuthority("ROLE_" + role)));
+    }
+
+    private boolean isDbLookupPath(String path) {
+        for (String pattern : dbLookupPathList) {
+            if (antPathMatcher.match(pattern, path)) return true;
+        }
+        return false;
+    }
+
     private boolean isValidAccessToken(String accessToken) {
         return accessToken != null && accessToken.startsWith(TokenMessage.BEARER);
     }
@@ -0,0 +1,21 @@
+package store.juin.api.token.jwt;
+
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.Collection;
+
+/**
+ * 엑세스 토큰 claim만으로 만든 인증 주체.
+ * 비밀번호는 들고 있지 않는다.
+ */
+@Getter
+public class TokenUser extends User {
+    private final Long accountId;
+
+    public TokenUser(String username, Long accountId, Collection<? extends GrantedAuthority> authorities) {
+        super(username, "", authorities);
+        this.accountId = accountId;
+    }
+}
@@ -13,6 +13,10 @@ import javax.validation.constraints.NotNull;
 @Entity
 @SuperBuilder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = {
+        @Index(name = "token__identification", columnList = "identification"),
+        @Index(name = "token__refresh_token", columnList = "refresh_token")
+})
 public class Token extends BaseEntity {
     @Id @Column(name = "token_id")
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -21,10 +25,12 @@ public class Token extends BaseEntity {
     @NotNull
     private String identification;
 
+    // 리프레시 토큰 원문 대신 SHA-256 hex를 저장한다. 로그아웃하면 빈 문자열.
     @NotNull
-    private String refreshToken;
+    @Column(name = "refresh_token")
+    private String refreshTokenHash;
 
-    public void updateRefreshToken(String refreshToken) {
-        this.refreshToken = refreshToken;
+    public void updateRefreshTokenHash(String refreshTokenHash) {
+        this.refreshTokenHash = refreshTokenHash;
     }
-}
\ No newline at end of file
+}
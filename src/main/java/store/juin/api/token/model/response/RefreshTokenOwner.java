@@ -0,0 +1,20 @@
+package store.juin.api.token.model.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import store.juin.api.account.enumeration.AccountRole;
+
+/**
+ * 리프레시 토큰 hash 한 번 조회로 엑세스 토큰 재발급에 필요한 값을 모두 읽는다.
+ */
+@Getter
+@AllArgsConstructor
+public class RefreshTokenOwner {
+    private final Long accountId;
+
+    private final String identification;
+
+    private final AccountRole accountRole;
+
+    private final String refreshTokenHash;
+}
@@ -1,10 +1,21 @@
 package store.juin.api.token.repository.jpa;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import store.juin.api.token.model.entity.Token;
+import store.juin.api.token.model.response.RefreshTokenOwner;
+
+import java.util.Optional;
 
 @Repository
 public interface TokenRepository extends JpaRepository<Token, Long> {
     Token findByIdentification(String identification);
+
+    @Query("SELECT new store.juin.api.token.model.response.RefreshTokenOwner(a.id, a.identification, a.accountRole, t.refreshTokenHash)" +
+            " FROM Token t, Account a" +
+            " WHERE t.refreshTokenHash = :refreshTokenHash" +
+            " AND a.identification = t.identification")
+    Optional<RefreshTokenOwner> findOwnerByRefreshTokenHash(@Param("refreshTokenHash") String refreshTokenHash);
 }
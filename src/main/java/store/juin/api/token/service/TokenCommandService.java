@@ -3,13 +3,17 @@ package store.juin.api.token.service;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import store.juin.api.account.model.entity.Account;
+import store.juin.api.account.service.query.AccountQueryService;
 import store.juin.api.common.exception.Msg;
 import store.juin.api.common.handler.CommandTransactional;
 import store.juin.api.token.exception.InvalidRefreshTokenException;
+import store.juin.api.token.jwt.RefreshTokenRevocationSet;
 import store.juin.api.token.jwt.TokenMessage;
 import store.juin.api.token.jwt.TokenProvider;
 import store.juin.api.token.model.entity.Token;
+import store.juin.api.token.model.response.RefreshTokenOwner;
 import store.juin.api.token.repository.jpa.TokenRepository;
+import store.juin.api.util.HashUtil;
 
 @Service
 @RequiredArgsConstructor
@@ -19,13 +23,24 @@ public class TokenCommandService {
     private final TokenRepository tokenRepository;
 
     private final TokenProvider tokenProvider;
+    private final RefreshTokenRevocationSet refreshTokenRevocationSet;
 
     private final TokenQueryService tokenQueryService;
-
+    private final AccountQueryService accountQueryService;
 
     // expired time 일부러 파라미터로 안 받음.
     public String addAccessToken(String identification) {
-        return tokenProvider.createToken(identification, TokenMessage.ACCESS_TOKEN_VALIDATION_TIME);
+        return addAccessToken(accountQueryService.readByIdentification(identification));
+    }
+
+    // 계정 id, role을 claim으로 담는다.
+    public String addAccessToken(Account account) {
+        return tokenProvider.createToken(
+                  account.getIdentification()
+                , account.getId()
+                , account.getAccountRole()
+                , TokenMessage.ACCESS_TOKEN_VALIDATION_TIME
+        );
     }
 
     // expired time 일부러 파라미터로 안 받음.
@@ -33,50 +48,65 @@ public class TokenCommandService {
         return tokenProvider.createToken(identification, TokenMessage.REFRESH_TOKEN_VALIDATION_TIME);
     }
 
+    // DB에는 hash만 저장하고, 원문은 쿠키로 내려보낸다.
     public String upsertRefreshToken(String identification) {
-        String refreshToken = addRefreshToken(identification);
+        final String refreshToken = addRefreshToken(identification);
+        final String refreshTokenHash = HashUtil.sha256Hex(refreshToken);
 
-        return commandTransactional.execute(() -> {
-            Token token = tokenQueryService.readByIdentification(identification);
+        commandTransactional.execute(() -> {
+            final Token token = tokenQueryService.readByIdentification(identification);
 
             if (token == null) {
-                token = add(identification, refreshToken);
+                add(identification, refreshTokenHash);
             } else {
-                modifyRefreshToken(token, refreshToken);
+                // 이전 리프레시 토큰은 더 이상 못 쓴다. 새 토큰과 같은 hash면 방금 내려줄 토큰까지 폐기되므로 건너뛴다.
+                if (!refreshTokenHash.equals(token.getRefreshTokenHash())) {
+                    refreshTokenRevocationSet.revoke(token.getRefreshTokenHash());
+                }
+                token.updateRefreshTokenHash(refreshTokenHash);
             }
-
-            return token.getRefreshToken();
         });
+
+        return refreshToken;
     }
 
+    // 서명 검증(캐시) -> 폐기 여부(메모리) -> hash로 한 번 조회, 조회되면 그 hash의 주인이다.
     public String reIssue(String refreshToken) {
-        return commandTransactional.execute(() -> {
-            if (!tokenProvider.isValidToken(refreshToken))
-                throw new InvalidRefreshTokenException(Msg.INVALID_REFRESH_TOKEN);
+        if (!tokenProvider.isValidToken(refreshToken))
+            throw new InvalidRefreshTokenException(Msg.INVALID_REFRESH_TOKEN);
 
-            final Account account = tokenQueryService.readByRefreshToken(refreshToken);
-            final String identification = account.getIdentification();
+        final String refreshTokenHash = HashUtil.sha256Hex(refreshToken);
+        if (refreshTokenRevocationSet.isRevoked(refreshTokenHash))
+            throw new InvalidRefreshTokenException(Msg.INVALID_REFRESH_TOKEN);
 
+        final RefreshTokenOwner owner = tokenQueryService.readOwnerByRefreshTokenHash(refreshTokenHash)
+                .orElseThrow(() -> new InvalidRefreshTokenException(Msg.INVALID_REFRESH_TOKEN));
+
+        return tokenProvider.createToken(
+                  owner.getIdentification()
+                , owner.getAccountId()
+                , owner.getAccountRole()
+                , TokenMessage.ACCESS_TOKEN_VALIDATION_TIME
+        );
+    }
+
+    // 로그아웃, 비밀번호 변경 시 리프레시 토큰을 폐기한다.
+    public void revokeRefreshToken(String identification) {
+        commandTransactional.execute(() -> {
             final Token token = tokenQueryService.readByIdentification(identification);
-            if (!token.getRefreshToken().equals(refreshToken))
-                throw new InvalidRefreshTokenException(Msg.INVALID_REFRESH_TOKEN);
+            if (token == null) return;
 
-            return addAccessToken(identification);
+            refreshTokenRevocationSet.revoke(token.getRefreshTokenHash());
+            token.updateRefreshTokenHash("");
         });
     }
 
-    private Token add(String identification, String refreshToken) {
+    private Token add(String identification, String refreshTokenHash) {
         final Token token = Token.builder()
                 .identification(identification)
-                .refreshToken(refreshToken)
+                .refreshTokenHash(refreshTokenHash)
                 .build();
 
         return tokenRepository.save(token);
     }
-
-    public void modifyRefreshToken(Token token, String refreshToken) {
-        commandTransactional.execute(() ->
-                token.updateRefreshToken(refreshToken)
-        );
-    }
-}
\ No newline at end of file
+}
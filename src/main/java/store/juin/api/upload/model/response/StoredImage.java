@@ -0,0 +1,16 @@
+package store.juin.api.upload.model.response;
+
+import lombok.Data;
+import lombok.experimental.Accessors;
+
+import java.time.Instant;
+
+@Data
+@Accessors(chain = true)
+public class StoredImage {
+    private String location;            // 로컬이면 절대 경로, S3면 key
+
+    private String contentHash;         // 파일명에서 꺼낸 내용 해시, 쓰다 남은 임시 파일이면 null
+
+    private Instant lastModified;       // 마지막으로 쓰거나 재사용한 시각
+}
@@ -0,0 +1,14 @@
+package store.juin.api.upload.model.response;
+
+import lombok.Data;
+import lombok.experimental.Accessors;
+
+@Data
+@Accessors(chain = true)
+public class UploadedImage {
+    private String name;                // 저장한 파일명
+
+    private String imageUrl;            // 이미지 조회 경로
+
+    private Integer width;              // 썸네일 너비 (원본이면 null)
+}
@@ -4,10 +4,30 @@ import org.springframework.web.multipart.MultipartFile;
 import store.juin.api.item.model.entity.Item;
 import store.juin.api.itemcategory.model.request.ItemImageCreateRequest;
 import store.juin.api.itemimage.model.entity.ItemImage;
+import store.juin.api.upload.model.response.StoredImage;
+import store.juin.api.upload.model.response.UploadedImage;
 
-public interface FileUploadService {
-    ItemImage addThumbnailImage(ItemImageCreateRequest request, MultipartFile multipartFile, Item item, String extension);
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.List;
 
+/**
+ * 이미지는 내용의 sha-256으로 이름을 붙여 저장한다. 같은 내용이 이미 있으면 다시 올리지 않고 있는 파일을 가리킨다.
+ * 이때 수정 시각을 지금으로 갱신해서, 정리 작업이 방금 다시 쓰인 파일을 오래된 고아로 보지 않게 한다.
+ */
+public interface FileUploadService {
     ItemImage addOriginalImage(ItemImageCreateRequest request, MultipartFile multipartFile, Item item);
-}
 
+    // 썸네일 작업에서 저장된 원본을 다시 읽는다. 닫는 것은 호출한 쪽에서 한다.
+    InputStream openOriginalImage(String imageUrl) throws IOException;
+
+    // 이미 인코딩한 썸네일 한 장을 저장한다. 같은 이름이 있으면 건너뛴다.
+    UploadedImage addThumbnailImage(String thumbnailFileName, int width, byte[] image);
+
+    // 정리 작업에서 쓴다. 내용 해시 이름으로 저장한 원본과 썸네일(과 쓰다 남은 임시 파일) 중 before 전에 마지막으로 쓰인 것만 돌려준다.
+    List<StoredImage> readAllContentImageBefore(Instant before);
+
+    // 지우기 직전에 수정 시각을 다시 보고, 그 사이 재사용됐으면(before 이후) 지우지 않는다. 지웠으면 true
+    boolean removeContentImageIfNotModifiedSince(StoredImage storedImage, Instant before);
+}
@@ -10,16 +10,26 @@ import store.juin.api.common.exception.JUINIOException;
 import store.juin.api.item.model.entity.Item;
 import store.juin.api.itemcategory.model.request.ItemImageCreateRequest;
 import store.juin.api.itemimage.model.entity.ItemImage;
+import store.juin.api.upload.model.response.StoredImage;
+import store.juin.api.upload.model.response.UploadedImage;
 import store.juin.api.upload.service.FileUploadService;
 import store.juin.api.util.FileUploadUtil;
-import store.juin.api.util.ThumbnailUtil;
+import store.juin.api.util.HashUtil;
 
-import javax.imageio.ImageIO;
-import java.awt.image.BufferedImage;
-import java.io.File;
-import java.io.FileNotFoundException;
-import java.io.FileOutputStream;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static store.juin.api.util.FileUploadUtil.*;
 
@@ -28,6 +38,9 @@ import static store.juin.api.util.FileUploadUtil.*;
 @RequiredArgsConstructor
 @ConditionalOnProperty(value = "item-image.local-path-active", havingValue = "true", matchIfMissing = false) // ${item-image.local-path-active} == true일 때 빈 등록.
 public class LocalFileUploadServiceImpl implements FileUploadService {
+    private static final String TEMP_PREFIX = ".upload-";
+    private static final String TEMP_SUFFIX = ".tmp";
+
     @Value("${item-image.original-path}")
     private String itemImageOriginalPath;
 
@@ -35,48 +48,145 @@ public class LocalFileUploadServiceImpl implements FileUploadService {
     private String itemImageThumbnailPath;
 
     @Override
-    public ItemImage addThumbnailImage(ItemImageCreateRequest request, MultipartFile multipartFile, Item item, String extension) {
+    public ItemImage addOriginalImage(ItemImageCreateRequest request, MultipartFile multipartFile, Item item) {
+        createDirectoryIfNotExists(itemImageOriginalPath);
+
+        final String contentHash = makeContentHash(multipartFile);
+        final String contentFileName = FileUploadUtil.makeContentFileName(contentHash, multipartFile.getOriginalFilename());
+        final String imageAbsUrl = FileUploadUtil.makeAbsPath(itemImageOriginalPath, contentFileName);
+
+        // 같은 내용이 이미 있으면 쓰지 않는다.
+        if (!touchIfExists(Paths.get(imageAbsUrl))) {
+            uploadFile(itemImageOriginalPath, contentFileName, multipartFile);   // 원본
+        }
+
+        return request.toItemImage(item, contentFileName, imageAbsUrl, contentHash, false);
+    }
+
+    @Override
+    public InputStream openOriginalImage(String imageUrl) throws IOException {
+        return Files.newInputStream(Paths.get(imageUrl));
+    }
+
+    @Override
+    public UploadedImage addThumbnailImage(String thumbnailFileName, int width, byte[] image) {
         createDirectoryIfNotExists(itemImageThumbnailPath);
 
-        final String originalFileName = request.getOriginImageName();
-        final String thumbnailFileName = FileUploadUtil.makeThumbnailFileName(originalFileName, THUMB_400);
         final String imageAbsUrl = FileUploadUtil.makeAbsPath(itemImageThumbnailPath, thumbnailFileName);
 
         try {
-            // 썸네일 생성하기
-            final BufferedImage resize = ThumbnailUtil.resize(multipartFile, THUMB_400, THUMB_400);
-            ImageIO.write(resize, extension, new File(imageAbsUrl));
-
+            final Path path = Paths.get(imageAbsUrl);
+            if (!touchIfExists(path)) writeAtomically(new ByteArrayInputStream(image), path);
         } catch (IOException e) {
             log.error("[P1][SERV][IICM][THUM] 로컬에서 썸네일 만드는데 실패하였습니다. message=({})", e.getMessage());
+            throw new JUINIOException(e);
         }
 
-        return request.toItemImage(item, thumbnailFileName, imageAbsUrl, true);
+        return new UploadedImage().setName(thumbnailFileName).setImageUrl(imageAbsUrl).setWidth(width);
     }
 
     @Override
-    public ItemImage addOriginalImage(ItemImageCreateRequest request, MultipartFile multipartFile, Item item) {
-        createDirectoryIfNotExists(itemImageOriginalPath);
+    public List<StoredImage> readAllContentImageBefore(Instant before) {
+        final List<StoredImage> storedImageList = new ArrayList<>();
+        for (String directory : List.of(itemImageOriginalPath, itemImageThumbnailPath)) {
+            final Path directoryPath = Paths.get(directory);
+            if (!Files.isDirectory(directoryPath)) continue;
 
-        final String originalFileName = multipartFile.getOriginalFilename();
-        final String uuidFileName = FileUploadUtil.makeFileNameWithUuid(originalFileName);
-        final String imageAbsUrl = FileUploadUtil.makeAbsPath(itemImageOriginalPath, uuidFileName);
+            final List<Path> pathList;
+            try (Stream<Path> pathStream = Files.list(directoryPath)) {
+                pathList = pathStream.collect(Collectors.toList());
+            } catch (IOException e) {
+                log.error("[P1][SERV][IICM][SWEP] 로컬 이미지 목록을 읽는데 실패하였습니다. message=({})", e.getMessage());
+                throw new JUINIOException(e);
+            }
 
-        uploadFile(itemImageOriginalPath, uuidFileName, multipartFile);   // 원본
+            for (Path path : pathList) {
+                final String fileName = path.getFileName().toString();
+                final String contentHash = FileUploadUtil.readContentHash(fileName);
+                // 옮기기 전에 서버가 죽어 남은 임시 파일은 어떤 행도 가리킬 수 없으니 해시 없이 같이 돌려준다.
+                final boolean leftoverTemp = fileName.startsWith(TEMP_PREFIX) && fileName.endsWith(TEMP_SUFFIX);
+                if (contentHash == null && !leftoverTemp) continue;
 
-        return request.toItemImage(item, uuidFileName, imageAbsUrl, false);
+                final Instant lastModified = readLastModified(path);
+                if (lastModified != null && lastModified.isBefore(before)) {
+                    storedImageList.add(new StoredImage().setLocation(path.toString()).setContentHash(contentHash).setLastModified(lastModified));
+                }
+            }
+        }
+        return storedImageList;
     }
 
-    private void uploadFile(String uploadPath, String fileName, MultipartFile multipartFile) {
-        // originFile을 먼저 저장하고
-        try(FileOutputStream fos = new FileOutputStream(makeAbsPath(uploadPath, fileName))){
-            fos.write(multipartFile.getBytes());
-        } catch (FileNotFoundException e) {
-            log.error("[P1][UTIL][FILE][UPAD]: 파일을 찾을 수 없습니다. message=({})", e.getMessage());
+    @Override
+    public boolean removeContentImageIfNotModifiedSince(StoredImage storedImage, Instant before) {
+        final Path path = Paths.get(storedImage.getLocation());
+
+        final Instant lastModified = readLastModified(path);
+        if (lastModified == null || !lastModified.isBefore(before)) return false;
+
+        try {
+            return Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.error("[P1][SERV][IICM][SWEP] 로컬 이미지를 지우는데 실패하였습니다. path=({}), message=({})", path, e.getMessage());
             throw new JUINIOException(e);
+        }
+    }
+
+    // 같은 내용을 다시 쓰는 것이므로 수정 시각을 지금으로 바꾼다. 파일이 없으면 false
+    private boolean touchIfExists(Path path) {
+        try {
+            Files.setLastModifiedTime(path, FileTime.from(Instant.now()));
+            return true;
+        } catch (NoSuchFileException e) {
+            return false;
+        } catch (IOException e) {
+            log.error("[P1][SERV][IICM][TUCH] 로컬 이미지 수정 시각을 바꾸는데 실패하였습니다. path=({}), message=({})", path, e.getMessage());
+            throw new JUINIOException(e);
+        }
+    }
+
+    // 그 사이 지워졌으면 null
+    private Instant readLastModified(Path path) {
+        try {
+            return Files.getLastModifiedTime(path).toInstant();
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            throw new JUINIOException(e);
+        }
+    }
+
+    private String makeContentHash(MultipartFile multipartFile) {
+        try (InputStream inputStream = multipartFile.getInputStream()) {
+            return HashUtil.sha256Hex(inputStream);
+        } catch (IOException e) {
+            log.error("[P1][UTIL][FILE][HASH]: IOException message=({})", e.getMessage());
+            throw new JUINIOException(e);
+        }
+    }
+
+    // 업로드 스트림을 버퍼 단위로 복사한다. 파일 전체를 힙에 올리지 않는다.
+    private void uploadFile(String uploadPath, String fileName, MultipartFile multipartFile) {
+        try (InputStream inputStream = multipartFile.getInputStream()) {
+            writeAtomically(inputStream, Paths.get(makeAbsPath(uploadPath, fileName)));
         } catch (IOException e) {
             log.error("[P1][UTIL][FILE][UPAD]: IOException message=({})", e.getMessage());
             throw new JUINIOException(e);
         }
     }
+
+    /**
+     * 같은 디렉토리의 임시 파일에 다 쓴 뒤 해시 이름으로 한 번에 옮긴다.
+     * 해시 이름의 파일은 항상 내용이 다 있는 파일이다. 쓰다 실패해도 잘린 파일이 해시 이름으로 남지 않고,
+     * 같은 내용을 동시에 올려도 썸네일 작업이 읽는 파일을 덮어쓰는 도중에 보지 않는다. (같은 내용이라 누가 이겨도 같다.)
+     */
+    private void writeAtomically(InputStream inputStream, Path target) throws IOException {
+        final Path temp = Files.createTempFile(target.getParent(), TEMP_PREFIX, TEMP_SUFFIX);
+        try {
+            Files.copy(inputStream, temp, StandardCopyOption.REPLACE_EXISTING);
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+    }
 }
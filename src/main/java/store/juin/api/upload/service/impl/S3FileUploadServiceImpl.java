@@ -1,29 +1,41 @@
 package store.juin.api.upload.service.impl;
 
 import com.amazonaws.services.s3.AmazonS3Client;
+import com.amazonaws.services.s3.AmazonS3URI;
+import com.amazonaws.services.s3.model.AmazonS3Exception;
 import com.amazonaws.services.s3.model.CannedAccessControlList;
+import com.amazonaws.services.s3.model.CopyObjectRequest;
+import com.amazonaws.services.s3.model.ListObjectsV2Request;
+import com.amazonaws.services.s3.model.ListObjectsV2Result;
+import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.S3ObjectSummary;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 import store.juin.api.common.exception.JUINIOException;
 import store.juin.api.item.model.entity.Item;
 import store.juin.api.itemcategory.model.request.ItemImageCreateRequest;
 import store.juin.api.itemimage.model.entity.ItemImage;
+import store.juin.api.upload.model.response.StoredImage;
+import store.juin.api.upload.model.response.UploadedImage;
 import store.juin.api.upload.service.FileUploadService;
 import store.juin.api.util.CharterUtil;
 import store.juin.api.util.FileUploadUtil;
-import store.juin.api.util.ThumbnailUtil;
+import store.juin.api.util.HashUtil;
 
-import javax.imageio.ImageIO;
-import java.awt.image.BufferedImage;
-import java.io.File;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
-
-import static store.juin.api.util.FileUploadUtil.*;
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 
 @Slf4j
 @Service
@@ -39,25 +51,51 @@ public class S3FileUploadServiceImpl implements FileUploadService {
     @Value("${cloud.aws.s3.directory}")
     private String directory;
 
-    @Value("${item-image.resize-path}")
-    private String resizePath;
-
     @Override
-    public ItemImage addThumbnailImage(ItemImageCreateRequest request, MultipartFile multipartFile, Item item, String extension) {
+    public ItemImage addOriginalImage(ItemImageCreateRequest request, MultipartFile multipartFile, Item item) {
         try {
-            // 썸네일 생성하기
-            final BufferedImage resize = ThumbnailUtil.resize(multipartFile, THUMB_400, THUMB_400);
+            // multipart는 이미 서버에 받아 둔 것이라, 올리기 전에 한 번 읽어 해시를 구하는 것은 로컬 읽기다.
+            final String contentHash;
+            try (InputStream inputStream = multipartFile.getInputStream()) {
+                contentHash = HashUtil.sha256Hex(inputStream);
+            }
+            final String imageName = FileUploadUtil.makeContentFileName(contentHash, request.getOriginImageName());
+
+            // 같은 내용이 이미 있으면 올리지 않는다.
+            if (touchIfExists("original", imageName)) {
+                return request.toItemImage(item, imageName, makeUrl("original", imageName), contentHash, false);
+            }
+
+            // 원본은 업로드 스트림 그대로 흘려보낸다. (임시 파일, byte[] 없음)
+            try (InputStream inputStream = multipartFile.getInputStream()) {
+                final String uploadFileUrl = uploadFile("original", imageName, inputStream, multipartFile.getSize(), multipartFile.getContentType());
+                return request.toItemImage(item, imageName, uploadFileUrl, contentHash, false);
+            }
+        } catch (IOException e) {
+            log.error("[P1][SERV][IICM][ORIG]: s3에 원본을 저장하는데 실패하였습니다. message=({})", e.getMessage());
+            throw new JUINIOException(e);
+        }
+    }
 
-            createDirectoryIfNotExists(resizePath);
-            final String path = FileUploadUtil.makeAbsPath(resizePath, request.getOriginImageName());
+    // 조회 경로(url)에서 key를 꺼내 다시 읽는다.
+    @Override
+    public InputStream openOriginalImage(String imageUrl) {
+        final String key = new AmazonS3URI(imageUrl, false).getKey();
+        return s3Client.getObject(bucket, key).getObjectContent();
+    }
 
-            final File file = new File(path);
-            ImageIO.write(resize, extension, file);
+    // 썸네일은 작아서 메모리에 있는 바이트를 바로 올린다.
+    @Override
+    public UploadedImage addThumbnailImage(String thumbnailFileName, int width, byte[] image) {
+        if (touchIfExists("thumbnail", thumbnailFileName)) {
+            return new UploadedImage().setName(thumbnailFileName).setImageUrl(makeUrl("thumbnail", thumbnailFileName)).setWidth(width);
+        }
 
-            final String uploadFileUrl = uploadFile("thumbnail", file);
+        try (InputStream inputStream = new ByteArrayInputStream(image)) {
+            final String contentType = MediaTypeFactory.getMediaType(thumbnailFileName).map(MediaType::toString).orElse(null);
+            final String uploadFileUrl = uploadFile("thumbnail", thumbnailFileName, inputStream, image.length, contentType);
 
-            deleteIfExists(file);
-            return request.toItemImage(item, multipartFile.getOriginalFilename(), uploadFileUrl, true);
+            return new UploadedImage().setName(thumbnailFileName).setImageUrl(uploadFileUrl).setWidth(width);
         } catch (IOException e) {
             log.error("[P1][SERV][IICM][THUM]: s3에 썸네일을 저장하는데 실패하였습니다. message=({})", e.getMessage());
             throw new JUINIOException(e);
@@ -65,20 +103,49 @@ public class S3FileUploadServiceImpl implements FileUploadService {
     }
 
     @Override
-    public ItemImage addOriginalImage(ItemImageCreateRequest request, MultipartFile multipartFile, Item item) {
-        final File file = FileUploadUtil.convertMultipartFileToFile(multipartFile, resizePath);
+    public List<StoredImage> readAllContentImageBefore(Instant before) {
+        final List<StoredImage> storedImageList = new ArrayList<>();
+        for (String subDirectory : List.of("original", "thumbnail")) {
+            final ListObjectsV2Request listRequest = new ListObjectsV2Request()
+                    .withBucketName(bucket)
+                    .withPrefix(makeKey(subDirectory, ""));
+
+            ListObjectsV2Result listResult;
+            do {
+                listResult = s3Client.listObjectsV2(listRequest);
+                for (S3ObjectSummary summary : listResult.getObjectSummaries()) {
+                    final String key = summary.getKey();
+                    final String contentHash = FileUploadUtil.readContentHash(key.substring(key.lastIndexOf(CharterUtil.SLASH) + 1));
+                    final Instant lastModified = summary.getLastModified().toInstant();
+
+                    if (contentHash != null && lastModified.isBefore(before)) {
+                        storedImageList.add(new StoredImage().setLocation(key).setContentHash(contentHash).setLastModified(lastModified));
+                    }
+                }
+                listRequest.setContinuationToken(listResult.getNextContinuationToken());
+            } while (listResult.isTruncated());
+        }
+        return storedImageList;
+    }
 
-        final String uploadFileUrl = uploadFile("original", file);
-        final String imageName = FileUploadUtil.makeThumbnailFileName(request.getOriginImageName(), THUMB_400);
+    @Override
+    public boolean removeContentImageIfNotModifiedSince(StoredImage storedImage, Instant before) {
+        final ObjectMetadata metadata = readMetadata(storedImage.getLocation());
+        if (metadata == null || !metadata.getLastModified().toInstant().isBefore(before)) return false;
 
-        deleteIfExists(file);
-        return request.toItemImage(item, imageName, uploadFileUrl, false);
+        s3Client.deleteObject(bucket, storedImage.getLocation());
+        return true;
     }
 
-    private String uploadFile(String subDirectory, File file) {
-        String key = makeKey(subDirectory, file.getName());
+    // content-length를 알려 주면 SDK가 스트림을 통째로 메모리에 올리지 않고 흘려보낸다.
+    private String uploadFile(String subDirectory, String fileName, InputStream inputStream, long contentLength, String contentType) {
+        String key = makeKey(subDirectory, fileName);
 
-        final PutObjectRequest putObjectRequest = new PutObjectRequest(bucket, key, file);
+        final ObjectMetadata objectMetadata = new ObjectMetadata();
+        objectMetadata.setContentLength(contentLength);
+        if (contentType != null) objectMetadata.setContentType(contentType);
+
+        final PutObjectRequest putObjectRequest = new PutObjectRequest(bucket, key, inputStream, objectMetadata);
         putObjectRequest.withCannedAcl(CannedAccessControlList.PublicReadWrite);
 
         s3Client.putObject(putObjectRequest);
@@ -86,12 +153,40 @@ public class S3FileUploadServiceImpl implements FileUploadService {
         return s3Client.getUrl(bucket, key).toString();
     }
 
+    // 같은 내용을 다시 쓰는 것이므로 자기 자신으로 복사해 수정 시각을 지금으로 바꾼다. 없으면 false
+    private boolean touchIfExists(String subDirectory, String fileName) {
+        final String key = makeKey(subDirectory, fileName);
+
+        final ObjectMetadata metadata = readMetadata(key);
+        if (metadata == null) return false;
+
+        // 메타데이터를 새로 지정해야(REPLACE) 자기 자신으로 복사할 수 있다.
+        s3Client.copyObject(new CopyObjectRequest(bucket, key, bucket, key)
+                .withNewObjectMetadata(metadata)
+                .withCannedAccessControlList(CannedAccessControlList.PublicReadWrite));
+        return true;
+    }
+
+    // 없으면 null
+    private ObjectMetadata readMetadata(String key) {
+        try {
+            return s3Client.getObjectMetadata(bucket, key);
+        } catch (AmazonS3Exception e) {
+            if (e.getStatusCode() == HttpStatus.NOT_FOUND.value()) return null;
+            throw e;
+        }
+    }
+
+    private String makeUrl(String subDirectory, String fileName) {
+        return s3Client.getUrl(bucket, makeKey(subDirectory, fileName)).toString();
+    }
+
     private String makeKey(String subdirectory, String fileName) {
         return directory
                 + CharterUtil.SLASH
                 + subdirectory
                 + CharterUtil.SLASH
-                + FileUploadUtil.makeThumbnailFileName(fileName, THUMB_400);
+                + fileName;
     }
 
-}
\ No newline at end of file
+}
@@ -2,11 +2,12 @@ package store.juin.api.util;
 
 import lombok.experimental.UtilityClass;
 
-import java.util.Random;
+import java.security.SecureRandom;
 
 @UtilityClass
 public class AuthNumberUtil {
-    private static Random random = new Random();
+    // 인증번호는 추측할 수 없어야 한다.
+    private static SecureRandom random = new SecureRandom();
 
     public static String makeAuthNumber() {
         int leftLimit = '0';
@@ -0,0 +1,62 @@
+package store.juin.api.util;
+
+import lombok.experimental.UtilityClass;
+import org.springframework.data.domain.Sort;
+import org.springframework.util.StringUtils;
+import store.juin.api.common.exception.Msg;
+
+import java.nio.charset.StandardCharsets;
+import java.security.InvalidParameterException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 커서 페이지네이션에서 쓰는 cursor 문자열.
+ * 마지막으로 읽은 row의 정렬 키들을 "key1,key2" 형태로 이어서 base64url로 감싼다.
+ * 클라이언트는 내용을 해석하지 않고 받은 그대로 다시 보내기만 한다.
+ */
+@UtilityClass
+public class CursorUtil {
+    public static final int MAX_SIZE = 100;
+
+    private static final String DELIMITER = ",";
+
+    public static String encode(Long... keys) {
+        final String joined = Arrays.stream(keys)
+                .map(String::valueOf)
+                .collect(Collectors.joining(DELIMITER));
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(joined.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 빈 cursor는 첫 페이지를 의미하고 빈 리스트를 돌려준다.
+    public static List<Long> decode(String cursor, int keyCount) {
+        if (!StringUtils.hasText(cursor)) return Collections.emptyList();
+
+        final List<Long> keyList;
+        try {
+            final String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            keyList = Arrays.stream(decoded.split(DELIMITER))
+                    .map(Long::valueOf)
+                    .collect(Collectors.toList());
+        } catch (IllegalArgumentException e) { // base64, 숫자 형식 오류
+            throw new InvalidParameterException(Msg.INVALID_CURSOR);
+        }
+
+        if (keyList.size() != keyCount) throw new InvalidParameterException(Msg.INVALID_CURSOR);
+
+        return keyList;
+    }
+
+    public static void validSize(int size) {
+        if (size < 1 || size > MAX_SIZE) throw new InvalidParameterException(Msg.INVALID_CURSOR_SIZE);
+    }
+
+    // cursor에는 고정된 정렬(최신순)의 키만 들어 있다. sort를 같이 받으면 다음 페이지가 어긋나므로 거절한다.
+    public static void validSort(Sort sort) {
+        if (sort.isSorted()) throw new InvalidParameterException(Msg.CURSOR_SORT_NOT_SUPPORTED);
+    }
+}
@@ -2,39 +2,22 @@ package store.juin.api.util;
 
 import lombok.experimental.UtilityClass;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.web.multipart.MultipartFile;
+import org.springframework.util.StringUtils;
 import store.juin.api.common.exception.JUINIOException;
 
 import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.nio.file.Files;
-import java.nio.file.Path;
+import java.util.Locale;
 import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 @Slf4j
 @UtilityClass
 public final class FileUploadUtil {
-    public static final int THUMB_400 = 400;
-
-    public static File convertMultipartFileToFile(MultipartFile multipartFile, String resizePath) {
-        createDirectoryIfNotExists(resizePath);
-        final String path = FileUploadUtil.makeAbsPath(resizePath, multipartFile.getOriginalFilename());
-        final File file = new File(path);
-
-        try (FileOutputStream fos = new FileOutputStream(file)) {
-            fos.write(multipartFile.getBytes());
-        } catch (IOException e) {
-            log.error("[P1][UTL][FILE][CMTF]: MultipartFile를 File로 바꿀 수 없습니다. message=({})", e.getMessage());
-            throw new JUINIOException(e);
-        }
-        return file;
-    }
-
-    // 원래 파일명 + "-" + uuid + 확장자를 통해 copyFileName을 생성한다.
-    public static String makeFileNameWithUuid(String originalFileName){
-        return makeUuid() + CharterUtil.DASH + originalFileName;
-    }
+    // {sha-256}.{ext} 원본, {sha-256}_{size}.{ext} 썸네일
+    private static final Pattern CONTENT_FILE_NAME = Pattern.compile("^([0-9a-f]{64})(_\\d+)?\\.[^.]*$");
 
     public static String makeAbsPath(String uploadPath, String fileName){
         return uploadPath + CharterUtil.SLASH + fileName;
@@ -48,30 +31,40 @@ public final class FileUploadUtil {
         return makeUuid() + CharterUtil.DASH + fileName + CharterUtil.UNDER_BAR + size + CharterUtil.DOT + extension;
     }
 
+    // 같은 내용이면 같은 이름이 나온다. 확장자는 content-type을 위해 원래 파일명에서 가져온다.
+    public static String makeContentFileName(String contentHash, String originalFileName) {
+        return contentHash + CharterUtil.DOT + makeExtension(originalFileName);
+    }
+
+    public static String makeContentThumbnailFileName(String contentHash, String originalFileName, int size) {
+        return contentHash + CharterUtil.UNDER_BAR + size + CharterUtil.DOT + makeExtension(originalFileName);
+    }
+
+    // 내용 해시로 지은 파일명이면 해시를, 아니면(예전 uuid 이름) null을 돌려준다.
+    public static String readContentHash(String fileName) {
+        final Matcher matcher = CONTENT_FILE_NAME.matcher(fileName);
+        return matcher.matches() ? matcher.group(1) : null;
+    }
+
     public static String makeUuid() {
         return String.valueOf(UUID.randomUUID()).substring(0, 8);
     }
 
+    private static String makeExtension(String originalFileName) {
+        final String extension = StringUtils.getFilenameExtension(originalFileName);
+        return extension == null ? "" : extension.toLowerCase(Locale.ROOT);
+    }
+
     public static void createDirectoryIfNotExists(String path) {
         try {
             File file = new File(path);
             if (file.exists()) return;
-            Files.createDirectory(file.toPath());
+            // 이미지를 동시에 올리면 여러 스레드가 같이 만들 수 있다.
+            Files.createDirectories(file.toPath());
             log.info("[P9][UTL][UPLD][CRTE]: ({}) 경로 생성 성공", path);
         } catch (IOException e) {
             log.error("[P1][UTL][UPLD][CRTE]: ({}) 경로 생성 실패", path);
             throw new JUINIOException(e);
         }
     }
-    public static void deleteIfExists(File file) {
-        final Path path = file.toPath();
-
-        try {
-            Files.deleteIfExists(path);
-            log.info("[P9][UTL][UPLD][DELE]: ({}) 경로 삭제 성공", path);
-        } catch (IOException e) {
-            log.error("[P1][UTL][UPLD][DELE]: ({}) 경로 삭제 실패", path);
-            throw new JUINIOException(e);
-        }
-    }
 }
@@ -0,0 +1,50 @@
+package store.juin.api.util;
+
+import lombok.experimental.UtilityClass;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+@UtilityClass
+public class HashUtil {
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private static final int BUFFER_SIZE = 8192;
+
+    // 소문자 hex라서 대소문자를 구분하지 않는 DB 비교에서도 안전하다.
+    public static String sha256Hex(String value) {
+        return toHex(newSha256().digest(value.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    // 버퍼 단위로 읽으면서 해시한다. 파일 전체를 힙에 올리지 않는다. inputStream은 호출한 쪽에서 닫는다.
+    public static String sha256Hex(InputStream inputStream) throws IOException {
+        final MessageDigest messageDigest = newSha256();
+        final byte[] buffer = new byte[BUFFER_SIZE];
+
+        int read;
+        while ((read = inputStream.read(buffer)) != -1) {
+            messageDigest.update(buffer, 0, read);
+        }
+        return toHex(messageDigest.digest());
+    }
+
+    private static String toHex(byte[] hash) {
+        final char[] chars = new char[hash.length * 2];
+        for (int i = 0; i < hash.length; i++) {
+            chars[i * 2] = HEX[(hash[i] >> 4) & 0xF];
+            chars[i * 2 + 1] = HEX[hash[i] & 0xF];
+        }
+        return new String(chars);
+    }
+
+    private static MessageDigest newSha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
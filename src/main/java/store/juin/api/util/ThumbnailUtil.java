@@ -2,30 +2,125 @@ package store.juin.api.util;
 
 import lombok.experimental.UtilityClass;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.web.multipart.MultipartFile;
 import store.juin.api.common.exception.JUINIOException;
 
 import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import javax.imageio.stream.MemoryCacheImageInputStream;
+import javax.imageio.stream.MemoryCacheImageOutputStream;
 import java.awt.*;
 import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
 
 @Slf4j
 @UtilityClass
 public class ThumbnailUtil {
-    public static BufferedImage resize(MultipartFile multipartFile, int width, int height) {
-        try {
-            BufferedImage inputImage = ImageIO.read(multipartFile.getInputStream());
-            BufferedImage outputImage = new BufferedImage(width, height, inputImage.getType());
+    /**
+     * 한 번 디코딩한 원본으로 여러 너비의 썸네일을 만든다. 비율은 원본을 따른다.
+     * 큰 너비부터 만들고, 작은 너비는 바로 앞에서 만든 이미지를 다시 줄여서 만든다. (원본을 여러 번 줄이지 않는다.)
+     * 원본보다 큰 너비는 늘리지 않고 건너뛴다. 다 건너뛰면 원본 너비로 하나만 만든다.
+     * 돌려주는 map은 실제 너비 오름차순이다. inputStream은 호출한 쪽에서 닫는다.
+     * 원본 픽셀 수(너비 × 높이)가 maxPixels를 넘으면 디코딩하지 않고 예외를 던진다.
+     */
+    public static Map<Integer, BufferedImage> resizeToWidths(InputStream inputStream, Collection<Integer> widths, long maxPixels) {
+        final List<Integer> descendingWidthList = widths.stream()
+                .distinct()
+                .sorted(Comparator.reverseOrder())
+                .collect(Collectors.toList());
+
+        // ImageIO 기본 캐시는 임시 파일을 만든다. 업로드 크기는 multipart max-file-size로 막혀 있으니 메모리 캐시를 쓴다.
+        try (ImageInputStream imageInputStream = new MemoryCacheImageInputStream(inputStream)) {
+            BufferedImage source = readSubsampled(imageInputStream, descendingWidthList.get(0), maxPixels);
+            final int sourceWidth = source.getWidth();
+
+            final Map<Integer, BufferedImage> renditionMap = new TreeMap<>();
+            for (Integer width : descendingWidthList) {
+                if (width > sourceWidth) continue;
 
-            Graphics2D graphics2D = outputImage.createGraphics();
-            graphics2D.drawImage(inputImage, 0, 0, width, height, null);
-            graphics2D.dispose();
+                source = scale(source, width);
+                renditionMap.put(width, source);
+            }
 
-            return outputImage;
+            if (renditionMap.isEmpty()) {
+                renditionMap.put(sourceWidth, scale(source, sourceWidth));
+            }
+            return renditionMap;
         } catch (IOException e) {
             log.error("[P1][UTIL][THMB][RESZ]: 리사이징 중 에러가 발생했습니다. message=({})", e.getMessage(), e);
             throw new JUINIOException(e);
         }
     }
-}
\ No newline at end of file
+
+    // 썸네일처럼 크기가 정해진 이미지를 임시 파일 없이 바이트로 만든다.
+    public static byte[] encode(BufferedImage image, String extension) {
+        final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+
+        try (ImageOutputStream imageOutputStream = new MemoryCacheImageOutputStream(byteArrayOutputStream)) {
+            if (!ImageIO.write(image, extension, imageOutputStream)) {
+                throw new IOException("지원하지 않는 이미지 형식입니다. extension=" + extension);
+            }
+        } catch (IOException e) {
+            log.error("[P1][UTIL][THMB][ENCD]: 이미지 인코딩 중 에러가 발생했습니다. message=({})", e.getMessage(), e);
+            throw new JUINIOException(e);
+        }
+        return byteArrayOutputStream.toByteArray();
+    }
+
+    private static BufferedImage scale(BufferedImage source, int width) {
+        final int height = Math.max(1, (int) Math.round((double) source.getHeight() * width / source.getWidth()));
+        final int type = source.getColorModel().hasAlpha() ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+        final BufferedImage outputImage = new BufferedImage(width, height, type);
+
+        final Graphics2D graphics2D = outputImage.createGraphics();
+        graphics2D.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        graphics2D.drawImage(source, 0, 0, width, height, null);
+        graphics2D.dispose();
+
+        return outputImage;
+    }
+
+    // 원본 픽셀을 다 풀지 않고 건너뛰며 읽는다. 큰 사진이어도 디코딩 메모리가 거의 일정하다.
+    // 너비는 가장 큰 목표 너비의 두 배 이상 남기고, 세로로 긴 이미지는 높이까지 봐서 픽셀 수가 (목표 너비 × 2)² 정도가 되게 건너뛴다.
+    // 헤더의 크기만 보고 maxPixels를 넘으면 읽지 않는다. (압축된 크기는 작아도 풀면 수 GB가 되는 이미지를 막는다.)
+    private static BufferedImage readSubsampled(ImageInputStream imageInputStream, int maxWidth, long maxPixels) throws IOException {
+        final Iterator<ImageReader> readerIterator = ImageIO.getImageReaders(imageInputStream);
+        if (!readerIterator.hasNext()) {
+            throw new IOException("지원하지 않는 이미지 형식입니다.");
+        }
+
+        final ImageReader reader = readerIterator.next();
+        try {
+            reader.setInput(imageInputStream, true, true);
+
+            final int width = reader.getWidth(0);
+            final int height = reader.getHeight(0);
+            if ((long) width * height > maxPixels) {
+                throw new IOException("이미지가 너무 큽니다. width=" + width + ", height=" + height + ", maxPixels=" + maxPixels);
+            }
+
+            final long decodeEdge = maxWidth * 2L;
+            final int widthStep = (int) (width / decodeEdge);
+            final int areaStep = (int) Math.sqrt((double) width * height / (decodeEdge * decodeEdge));
+            final int step = Math.max(1, Math.max(widthStep, areaStep));
+
+            final ImageReadParam param = reader.getDefaultReadParam();
+            param.setSourceSubsampling(step, step, 0, 0);
+
+            return reader.read(0, param);
+        } finally {
+            reader.dispose();
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package store.juin.api.account.audit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import store.juin.api.account.model.response.LoginAuditStatsResponse;
+import store.juin.api.account.repository.jpa.AccountRepository;
+import store.juin.api.common.handler.CommandTransactional;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class LoginAuditPipelineTest {
+    private LoginAuditPipeline sut;
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @BeforeEach
+    void setUp() {
+        sut = new LoginAuditPipeline(new CommandTransactional(), accountRepository, 3, 500, 1000);
+    }
+
+    @Nested
+    @DisplayName("record 테스트")
+    class RecordTest {
+        @Test
+        @DisplayName("큐가 가득 차면 버리고 센다")
+        void recordTest01() {
+            // given
+            for (int i = 0; i < 3; i++) sut.record("junsu0325", "127.0.0.1");
+
+            // when
+            sut.record("junsu0325", "127.0.0.1");
+
+            // then
+            final LoginAuditStatsResponse actual = sut.readStats();
+            assertAll(
+                    () -> assertEquals(3, actual.getQueueDepth()),
+                    () -> assertEquals(3, actual.getRecordedCount()),
+                    () -> assertEquals(1, actual.getDroppedCount())
+            );
+        }
+    }
+
+    @Nested
+    @DisplayName("flush 테스트")
+    class FlushTest {
+        @Test
+        @DisplayName("같은 계정의 로그인을 하나로 묶어서 쓴다")
+        @SuppressWarnings("unchecked")
+        void flushTest01() {
+            // given
+            sut.record("junsu0325", "127.0.0.1");
+            sut.record("ogu", "127.0.0.2");
+            sut.record("junsu0325", "127.0.0.3");
+
+            // when
+            sut.flush();
+
+            // then
+            final ArgumentCaptor<List<LoginAuditSummary>> captor = ArgumentCaptor.forClass(List.class);
+            verify(accountRepository, times(1)).updateLastLogin(captor.capture());
+            verify(accountRepository, times(1)).saveAllLoginHistory(anyList());
+
+            final List<LoginAuditSummary> actual = captor.getValue();
+            assertAll(
+                    () -> assertEquals(2, actual.size()),
+                    () -> assertEquals("junsu0325", actual.get(0).getIdentification()),
+                    () -> assertEquals(2, actual.get(0).getLoginCount()),
+                    () -> assertEquals("127.0.0.3", actual.get(0).getLastRemoteAddress()),
+                    () -> assertEquals(3, sut.readStats().getFlushedCount()),
+                    () -> assertEquals(0, sut.readStats().getQueueDepth())
+            );
+        }
+
+        @Test
+        @DisplayName("큐가 비어 있으면 쓰지 않는다")
+        void flushTest02() {
+            // when
+            sut.flush();
+
+            // then
+            verify(accountRepository, never()).updateLastLogin(anyList());
+        }
+
+        @Test
+        @DisplayName("DB 반영에 실패하면 센다")
+        void flushTest03() {
+            // given
+            sut.record("junsu0325", "127.0.0.1");
+            doThrow(new RuntimeException("db down")).when(accountRepository).updateLastLogin(anyList());
+
+            // when
+            sut.flush();
+
+            // then
+            assertEquals(1, sut.readStats().getFailedCount());
+        }
+    }
+}
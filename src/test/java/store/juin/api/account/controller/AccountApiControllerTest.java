@@ -24,18 +24,22 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import store.juin.api.account.audit.LoginAuditPipeline;
 import store.juin.api.account.enumeration.AccountRole;
+import store.juin.api.account.guard.LoginThrottle;
 import store.juin.api.account.service.command.AccountCommandService;
 import store.juin.api.account.service.query.AccountQueryService;
 import store.juin.api.principal.service.query.PrincipalQueryService;
 import store.juin.api.token.service.TokenCommandService;
-import store.juin.api.token.service.TokenQueryService;
 
 import java.security.Principal;
 
 import static com.epages.restdocs.apispec.MockMvcRestDocumentationWrapper.document;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.springframework.restdocs.headers.HeaderDocumentation.headerWithName;
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.documentationConfiguration;
 import static org.springframework.restdocs.operation.preprocess.Preprocessors.prettyPrint;
@@ -43,7 +47,6 @@ import static org.springframework.restdocs.request.RequestDocumentation.paramete
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static store.juin.api.common.EndPoint.PORT;
 import static store.juin.api.common.EntityUtil.makeAccount;
-import static store.juin.api.common.EntityUtil.makeToken;
 import static store.juin.api.common.RequestUtil.*;
 
 @ExtendWith({MockitoExtension.class, RestDocumentationExtension.class})
@@ -57,8 +60,6 @@ class AccountApiControllerTest {
     @Mock
     private AuthenticationManager authenticationManager;
 
-    @Mock
-    private TokenQueryService tokenQueryService;
     @Mock
     private PrincipalQueryService principalQueryService;
 
@@ -68,6 +69,10 @@ class AccountApiControllerTest {
     private AccountCommandService accountCommandService;
     @Mock
     private AccountQueryService accountQueryService;
+    @Mock
+    private LoginAuditPipeline loginAuditPipeline;
+    @Mock
+    private LoginThrottle loginThrottle;
 
     @BeforeEach
     public void setup(RestDocumentationContextProvider restDocumentationContextProvider) {
@@ -181,6 +186,8 @@ class AccountApiControllerTest {
                                     ).responseSchema(Schema.schema("로그인 Response"))
                                     .build()
                             )));
+
+            verify(loginAuditPipeline).record(eq(identification), anyString());
         }
     }
 
@@ -195,7 +202,6 @@ class AccountApiControllerTest {
 
             var principal = mock(Principal.class);
             given(principal.getName()).willReturn(identification);
-            given(tokenQueryService.readByIdentification(identification)).willReturn(makeToken());
 
             // when
             final ResultActions actual = mockMvc.perform(RestDocumentationRequestBuilders.get("/api/accounts/logout")
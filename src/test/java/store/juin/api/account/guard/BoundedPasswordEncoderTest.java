@@ -0,0 +1,103 @@
+package store.juin.api.account.guard;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import store.juin.api.account.exception.LoginThrottledException;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BoundedPasswordEncoderTest {
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private BoundedPasswordEncoder sut;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (sut != null) sut.shutdown();
+    }
+
+    @Nested
+    @DisplayName("matches 테스트")
+    class MatchesTest {
+        @Test
+        @DisplayName("BCrypt로 만든 해시를 검증한다")
+        void matchesTest01() {
+            // given
+            sut = new BoundedPasswordEncoder(1, 1, 5000);
+            var encoded = sut.encode("password");
+
+            // when
+            final boolean actual = sut.matches("password", encoded);
+
+            // then
+            assertTrue(actual);
+            assertEquals(2, sut.readStats().getCompletedCount());
+        }
+
+        @Test
+        @DisplayName("스레드와 대기열이 모두 차 있으면 바로 거절한다")
+        void matchesTest02() throws Exception {
+            // given
+            final CountDownLatch started = new CountDownLatch(1);
+            sut = new BoundedPasswordEncoder(new BlockingPasswordEncoder(started), 1, 1, 5000);
+
+            CompletableFuture.runAsync(() -> sut.matches("a", "a"));   // 스레드 점유
+            assertTrue(started.await(1, TimeUnit.SECONDS));
+            CompletableFuture.runAsync(() -> sut.matches("b", "b"));   // 대기열 점유
+            while (sut.readStats().getQueueDepth() < 1) Thread.onSpinWait();
+
+            // when, then
+            assertThrows(LoginThrottledException.class, () -> sut.matches("c", "c"));
+            assertEquals(1, sut.readStats().getRejectedCount());
+        }
+
+        @Test
+        @DisplayName("timeout 안에 끝나지 않으면 거절한다")
+        void matchesTest03() {
+            // given
+            sut = new BoundedPasswordEncoder(new BlockingPasswordEncoder(new CountDownLatch(1)), 1, 1, 50);
+
+            // when, then
+            assertAll(
+                    () -> assertThrows(LoginThrottledException.class, () -> sut.matches("a", "a")),
+                    () -> assertEquals(1, sut.readStats().getTimeoutCount())
+            );
+        }
+    }
+
+    // release 전까지 끝나지 않는 인코더
+    private class BlockingPasswordEncoder implements PasswordEncoder {
+        private final CountDownLatch started;
+
+        private BlockingPasswordEncoder(CountDownLatch started) {
+            this.started = started;
+        }
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            return rawPassword.toString();
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package store.juin.api.account.guard;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import store.juin.api.account.exception.LoginThrottledException;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LoginThrottleTest {
+    @Nested
+    @DisplayName("acquire 테스트")
+    class AcquireTest {
+        @Test
+        @DisplayName("같은 아이디로 capacity를 넘으면 거절한다")
+        void acquireTest01() {
+            // given
+            var sut = new LoginThrottle(2, 1, 100, 100);
+            sut.acquire("junsu0325", "127.0.0.1");
+            sut.acquire("junsu0325", "127.0.0.2");
+
+            // when, then
+            assertThrows(LoginThrottledException.class, () -> sut.acquire("junsu0325", "127.0.0.3"));
+            assertDoesNotThrow(() -> sut.acquire("juin0325", "127.0.0.3"));
+            assertEquals(1, sut.getThrottledCount());
+        }
+
+        @Test
+        @DisplayName("같은 IP로 capacity를 넘으면 거절한다")
+        void acquireTest02() {
+            // given
+            var sut = new LoginThrottle(100, 100, 2, 1);
+            sut.acquire("junsu0325", "127.0.0.1");
+            sut.acquire("juin0325", "127.0.0.1");
+
+            // when, then
+            assertThrows(LoginThrottledException.class, () -> sut.acquire("jz0325", "127.0.0.1"));
+            assertEquals(1, sut.getThrottledCount());
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package store.juin.api.account.guard;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TokenBucketTest {
+    private static final long ONE_MINUTE_NANOS = 60_000_000_000L;
+
+    @Nested
+    @DisplayName("tryConsume 테스트")
+    class TryConsumeTest {
+        @Test
+        @DisplayName("capacity만큼 쓰면 거절한다")
+        void tryConsumeTest01() {
+            // given
+            var sut = new TokenBucket(3, 3, 0L);
+            for (int i = 0; i < 3; i++) assertTrue(sut.tryConsume(0L));
+
+            // when
+            final boolean actual = sut.tryConsume(0L);
+
+            // then
+            assertFalse(actual);
+        }
+
+        @Test
+        @DisplayName("시간이 지나면 다시 채워진다")
+        void tryConsumeTest02() {
+            // given
+            var sut = new TokenBucket(1, 1, 0L);
+            sut.tryConsume(0L);
+
+            // when
+            final boolean actual = sut.tryConsume(ONE_MINUTE_NANOS);
+
+            // then
+            assertTrue(actual);
+        }
+
+        @Test
+        @DisplayName("오래 쉬어도 capacity 넘게 쌓이지 않는다")
+        void tryConsumeTest03() {
+            // given
+            var sut = new TokenBucket(2, 60, 0L);
+            final long later = 10 * ONE_MINUTE_NANOS;
+
+            // when
+            sut.tryConsume(later);
+            sut.tryConsume(later);
+            final boolean actual = sut.tryConsume(later);
+
+            // then
+            assertFalse(actual);
+        }
+    }
+}
@@ -7,14 +7,16 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
-import org.mockito.MockedStatic;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import store.juin.api.account.enumeration.AccountRole;
 import store.juin.api.account.model.entity.Account;
+import store.juin.api.account.model.request.AccountChangePasswordRequest;
 import store.juin.api.account.model.request.AccountSignUpRequest;
 import store.juin.api.account.model.request.AccountUpdateRequest;
 import store.juin.api.account.repository.jpa.AccountRepository;
+import store.juin.api.account.service.query.AccountSnapshotCacheService;
 import store.juin.api.address.model.entity.Address;
 import store.juin.api.address.model.request.AddressCreateRequest;
 import store.juin.api.address.service.command.AddressCommandService;
@@ -26,7 +28,7 @@ import store.juin.api.common.handler.CommandTransactional;
 import store.juin.api.delivery.service.DeliveryCommandService;
 import store.juin.api.order.model.response.OrderDeleteResponse;
 import store.juin.api.order.service.command.OrderCommandService;
-import store.juin.api.util.PasswordUtil;
+import store.juin.api.token.service.TokenCommandService;
 
 import javax.persistence.EntityExistsException;
 import java.lang.reflect.InvocationTargetException;
@@ -54,6 +56,9 @@ class AccountCommandServiceTest {
     @Mock
     private AccountRepository accountRepository;
 
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
     @Mock
     private AddressQueryService addressQueryService;
 
@@ -67,6 +72,10 @@ class AccountCommandServiceTest {
     private CartItemCommandService cartItemCommandService;
     @Mock
     private DeliveryCommandService deliveryCommandService;
+    @Mock
+    private AccountSnapshotCacheService accountSnapshotCacheService;
+    @Mock
+    private TokenCommandService tokenCommandService;
 
     @Nested
     @DisplayName("duplicateEmail 테스트")
@@ -120,8 +129,7 @@ class AccountCommandServiceTest {
         @DisplayName("정상 케이스")
         void addTest01() {
             // given
-            MockedStatic<PasswordUtil> mockPasswordUtil = mockStatic(PasswordUtil.class);
-            given(PasswordUtil.makePasswordHash(any())).willReturn("securityPasswordHash");
+            given(passwordEncoder.encode("passwordHash")).willReturn("securityPasswordHash");
 
             var accountRequest = makeSignUpRequest();
             var expected = makeAccount(AccountRole.USER);
@@ -132,8 +140,6 @@ class AccountCommandServiceTest {
             // then
             assertEquals(expected.getEmail(), actual.getEmail());
             assertEquals(expected.getPasswordHash(), actual.getPasswordHash());
-
-            mockPasswordUtil.close();
         }
     }
 
@@ -147,16 +153,44 @@ class AccountCommandServiceTest {
             var account = makeAccount(AccountRole.USER);
             var expected = makeUpdateRequest();
 
+            given(passwordEncoder.encode("updatePasswordHash")).willReturn("securityUpdatePasswordHash");
+
             // when
             final Account actual = sut.modify(account, expected);
 
             // then
             assertAll(
-                    () -> assertNotEquals(expected.getPasswordHash(), actual.getPasswordHash()),
+                    () -> assertEquals("securityUpdatePasswordHash", actual.getPasswordHash()),
                     () -> assertEquals(expected.getName(), actual.getName()),
                     () -> assertEquals(expected.getPhoneNumber(), actual.getPhoneNumber()),
                     () -> Assertions.assertEquals(expected.getAccountRole(), actual.getAccountRole())
             );
+            verify(accountSnapshotCacheService, times(1)).evict(account.getIdentification());
+        }
+    }
+
+    @Nested
+    @DisplayName("changePassword 테스트")
+    class ChangePasswordTest {
+        @Test
+        @DisplayName("비밀번호를 해시해서 바꾸고 refresh token을 폐기한다")
+        void changePasswordTest01() {
+            // given
+            var account = makeAccount(AccountRole.USER);
+            var request = new AccountChangePasswordRequest()
+                    .setEmail(EMAIL)
+                    .setPasswordHash("newPasswordHash");
+
+            given(passwordEncoder.encode("newPasswordHash")).willReturn("securityNewPasswordHash");
+            given(accountRepository.findByEmail(EMAIL)).willReturn(Optional.of(account));
+
+            // when
+            final Account actual = sut.changePassword(request);
+
+            // then
+            assertEquals("securityNewPasswordHash", actual.getPasswordHash());
+            verify(accountSnapshotCacheService, times(1)).evict(account.getIdentification());
+            verify(tokenCommandService, times(1)).revokeRefreshToken(account.getIdentification());
         }
     }
 
@@ -183,6 +217,7 @@ class AccountCommandServiceTest {
 
             // then
             verify(accountRepository, times(1)).delete(any());
+            verify(accountSnapshotCacheService, times(1)).evict(account.getIdentification());
         }
     }
 
@@ -230,7 +265,7 @@ class AccountCommandServiceTest {
                 .id(1L)
                 .identification("juin")
                 .email(EMAIL)
-                .passwordHash(PasswordUtil.makePasswordHash("passwordHash"))
+                .passwordHash("securityPasswordHash")
                 .name("지수")
                 .accountRole(accountRole)
                 .phoneNumber("01011112222")
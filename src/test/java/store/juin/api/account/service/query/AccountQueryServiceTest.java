@@ -14,7 +14,6 @@ import store.juin.api.account.model.entity.Account;
 import store.juin.api.account.repository.jpa.AccountRepository;
 import store.juin.api.common.exception.Msg;
 import store.juin.api.common.handler.QueryTransactional;
-import store.juin.api.util.PasswordUtil;
 
 import javax.persistence.EntityExistsException;
 import javax.persistence.EntityNotFoundException;
@@ -222,7 +221,7 @@ class AccountQueryServiceTest {
         return Account.builder()
                 .id(1L)
                 .email(EMAIL)
-                .passwordHash(PasswordUtil.makePasswordHash("passwordHash"))
+                .passwordHash("securityPasswordHash")
                 .name("지수")
                 .accountRole(accountRole)
                 .phoneNumber("01011112222")
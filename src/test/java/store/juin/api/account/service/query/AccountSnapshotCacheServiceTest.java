@@ -0,0 +1,102 @@
+package store.juin.api.account.service.query;
+
+import org.assertj.core.api.AbstractThrowableAssert;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import store.juin.api.account.model.response.AccountSnapshot;
+import store.juin.api.account.repository.jpa.AccountRepository;
+import store.juin.api.common.enumeration.CacheType;
+import store.juin.api.common.exception.Msg;
+import store.juin.api.common.handler.QueryTransactional;
+
+import javax.persistence.EntityNotFoundException;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+import static store.juin.api.common.EntityUtil.makeAccount;
+
+@ExtendWith(MockitoExtension.class)
+class AccountSnapshotCacheServiceTest {
+    @InjectMocks
+    private AccountSnapshotCacheService sut;
+
+    @Spy
+    private QueryTransactional queryTransactional;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @Mock
+    private Cache cache;
+
+    @Nested
+    @DisplayName("readByIdentification 테스트")
+    class ReadByIdentificationTest {
+        @Test
+        @DisplayName("계정을 스냅샷으로 읽는다")
+        void readByIdentificationTest01() {
+            // given
+            var account = makeAccount("passwordHash");
+            given(accountRepository.findByIdentification(account.getIdentification())).willReturn(Optional.of(account));
+
+            // when
+            final AccountSnapshot actual = sut.readByIdentification(account.getIdentification());
+
+            // then
+            assertAll(
+                    () -> assertEquals(account.getId(), actual.getId()),
+                    () -> assertEquals(account.getEmail(), actual.getEmail()),
+                    () -> assertEquals(account.getAccountRole(), actual.getAccountRole())
+            );
+        }
+
+        @Test
+        @DisplayName("없는 계정이면 예외")
+        void readByIdentificationTest02() {
+            // given
+            var identification = "nobody";
+            given(accountRepository.findByIdentification(identification)).willReturn(Optional.empty());
+
+            // when
+            final AbstractThrowableAssert<?, ? extends Throwable> actual =
+                    assertThatThrownBy(() -> sut.readByIdentification(identification));
+
+            // then
+            actual.isInstanceOf(EntityNotFoundException.class)
+                    .hasMessage(Msg.WRONG_ID_PASSWORD);
+        }
+    }
+
+    @Nested
+    @DisplayName("evict 테스트")
+    class EvictTest {
+        @Test
+        @DisplayName("identification으로 캐시에서 지운다")
+        void evictTest01() {
+            // given
+            var identification = "junsu0325";
+            given(cacheManager.getCache(CacheType.ACCOUNT_SNAPSHOT.getCacheName())).willReturn(cache);
+
+            // when
+            sut.evict(identification);
+
+            // then
+            verify(cache).evict(identification);
+        }
+    }
+}
@@ -16,7 +16,6 @@ import store.juin.api.address.model.request.AddressUpdateRequest;
 import store.juin.api.address.repository.jpa.AddressRepository;
 import store.juin.api.address.service.query.AddressQueryService;
 import store.juin.api.common.handler.CommandTransactional;
-import store.juin.api.util.PasswordUtil;
 
 import java.util.List;
 
@@ -272,7 +271,7 @@ class AddressCommandServiceTest {
         return Account.builder()
                 .id(1L)
                 .email(EMAIL)
-                .passwordHash(PasswordUtil.makePasswordHash("passwordHash"))
+                .passwordHash("securityPasswordHash")
                 .name("지수")
                 .accountRole(accountRole)
                 .phoneNumber("01011112222")
@@ -0,0 +1,58 @@
+package store.juin.api.cache.service.query;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.support.SimpleCacheManager;
+import store.juin.api.cache.model.response.CacheStatsResponse;
+import store.juin.api.common.enumeration.CacheType;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class CacheStatsQueryServiceTest {
+    private CacheStatsQueryService sut;
+
+    private CaffeineCache itemSnapshotCache;
+
+    @BeforeEach
+    void setUp() {
+        itemSnapshotCache = new CaffeineCache(CacheType.ITEM_SNAPSHOT.getCacheName(), Caffeine.newBuilder().recordStats().build());
+
+        var cacheManager = new SimpleCacheManager();
+        cacheManager.setCaches(List.of(itemSnapshotCache));
+        cacheManager.initializeCaches();
+
+        sut = new CacheStatsQueryService(cacheManager);
+    }
+
+    @Nested
+    @DisplayName("readAll 테스트")
+    class ReadAllTest {
+        @Test
+        @DisplayName("캐시별 hit/miss 수를 읽는다")
+        void readAllTest01() {
+            // given
+            itemSnapshotCache.put(1L, "item");
+            itemSnapshotCache.get(1L);  // hit
+            itemSnapshotCache.get(2L);  // miss
+
+            // when
+            final List<CacheStatsResponse> actual = sut.readAll();
+
+            // then
+            assertAll(
+                    () -> assertEquals(1, actual.size()),
+                    () -> assertEquals(CacheType.ITEM_SNAPSHOT.getCacheName(), actual.get(0).getCacheName()),
+                    () -> assertEquals(1, actual.get(0).getHitCount()),
+                    () -> assertEquals(1, actual.get(0).getMissCount()),
+                    () -> assertEquals(1, actual.get(0).getSize())
+            );
+        }
+    }
+}
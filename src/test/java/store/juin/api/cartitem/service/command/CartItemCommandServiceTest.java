@@ -69,7 +69,7 @@ class CartItemCommandServiceTest {
             var item = makeItem();
 
             given(cartQueryService.readByAccountId(anyLong())).willReturn(cart);
-            given(itemQueryService.readById(anyLong())).willReturn(item);
+            given(itemQueryService.readReferenceById(anyLong())).willReturn(item);
 
             // when
             final int actual = sut.add(account, request);
@@ -91,7 +91,7 @@ class CartItemCommandServiceTest {
             var cartItem = makeCartItem(cart, item, 2);
 
             given(cartQueryService.readByAccountId(anyLong())).willReturn(cart);
-            given(itemQueryService.readById(anyLong())).willReturn(item);
+            given(itemQueryService.readReferenceById(anyLong())).willReturn(item);
             given(cartItemQueryService.readByCartIdAndItemId(anyLong(), anyLong())).willReturn(cartItem);
 
             // when
@@ -1,5 +1,6 @@
 package store.juin.api.category.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -8,15 +9,18 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.restdocs.RestDocumentationContextProvider;
 import org.springframework.restdocs.RestDocumentationExtension;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import store.juin.api.category.model.response.CategoryTreeSnapshot;
 import store.juin.api.category.service.query.CategoryQueryService;
 
 import java.time.ZonedDateTime;
+import java.util.Collections;
 import java.util.List;
 
 import static org.mockito.BDDMockito.given;
@@ -26,6 +30,8 @@ import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuild
 import static org.springframework.restdocs.operation.preprocess.Preprocessors.prettyPrint;
 import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
 import static org.springframework.restdocs.payload.PayloadDocumentation.responseFields;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static store.juin.api.common.EndPoint.PORT;
 import static store.juin.api.common.ResponseUtil.makeCategoryRetrieveResponseList;
@@ -60,8 +66,8 @@ class CategoryApiControllerTest {
         @DisplayName("(성공) 모든 카테고리를 읽어온다.")
         void retrieveAllTest01() throws Exception {
             // given
-            var response = makeCategoryRetrieveResponseList();
-            given(categoryQueryService.readAll()).willReturn(response);
+            var snapshot = CategoryTreeSnapshot.of(1L, makeCategoryRetrieveResponseList(), Collections.emptyMap(), new ObjectMapper());
+            given(categoryQueryService.readTreeSnapshot()).willReturn(snapshot);
 
             // when
             final ResultActions actual = mockMvc.perform(get("/api/categories")
@@ -87,5 +93,24 @@ class CategoryApiControllerTest {
                             )
                     ));
         }
+
+        @Test
+        @DisplayName("(성공) ETag가 같으면 본문 없이 304를 준다.")
+        void retrieveAllTest02() throws Exception {
+            // given
+            var snapshot = CategoryTreeSnapshot.of(1L, makeCategoryRetrieveResponseList(), Collections.emptyMap(), new ObjectMapper());
+            given(categoryQueryService.readTreeSnapshot()).willReturn(snapshot);
+
+            // when
+            final ResultActions actual = mockMvc.perform(get("/api/categories")
+                    .header(HttpHeaders.IF_NONE_MATCH, snapshot.getETag())
+                    .accept(MediaType.APPLICATION_JSON).contentType(MediaType.APPLICATION_JSON));
+
+            // then
+            actual
+                    .andExpect(status().isNotModified())
+                    .andExpect(header().string(HttpHeaders.ETAG, snapshot.getETag()))
+                    .andExpect(content().string(""));
+        }
     }
 }
\ No newline at end of file
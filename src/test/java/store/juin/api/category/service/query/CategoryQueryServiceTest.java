@@ -1,5 +1,6 @@
 package store.juin.api.category.service.query;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.assertj.core.api.AbstractThrowableAssert;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
@@ -12,18 +13,29 @@ import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import store.juin.api.cart.model.response.CategoryRetrieveResponse;
 import store.juin.api.category.model.entity.Category;
+import store.juin.api.category.model.response.CategoryTreeSnapshot;
+import store.juin.api.category.model.response.CategoryTreeStamp;
 import store.juin.api.category.repository.jpa.CategoryRepository;
 import store.juin.api.common.exception.Msg;
 import store.juin.api.common.handler.QueryTransactional;
 
 import javax.persistence.EntityNotFoundException;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 class CategoryQueryServiceTest {
@@ -33,6 +45,9 @@ class CategoryQueryServiceTest {
     @Spy
     private QueryTransactional queryTransactional;
 
+    @Spy
+    private ObjectMapper objectMapper;
+
     @Mock
     private CategoryRepository categoryRepository;
 
@@ -90,25 +105,160 @@ class CategoryQueryServiceTest {
     class RetrieveAllTest {
         @Test
         @DisplayName("성공")
-        void readAllByParentIdIsNullTest01() {
+        void readAllTest01() {
             // given
-            var childCategory = makeChild(2L, "IT-BOOK", 2L, null);
-            var childList = List.of(childCategory);
-            var category = makeParent(1L, "BOOK", 0L, childList);
-            var categoryList = List.of(category);
+            var category = makeParent(1L, "BOOK", 0L, null);
+            var childCategory = makeChild(2L, "IT-BOOK", 2L, category);
+            var grandChildCategory = makeChild(3L, "JPA-BOOK", 3L, childCategory);
 
-            given(categoryRepository.findAllByParentIsNull()).willReturn(Optional.of(categoryList));
+            given(categoryRepository.findAll()).willReturn(List.of(grandChildCategory, category, childCategory));
 
             // when
             final List<CategoryRetrieveResponse> actual = sut.readAll();
 
             // then
             assertAll(
-                    () -> assertEquals(categoryList.size(), actual.size()),
+                    () -> assertEquals(1, actual.size()),
                     () -> assertEquals(category.getCategoryName(), actual.get(0).getCategoryName()),
                     () -> assertEquals(category.getId(), actual.get(0).getId()),
                     () -> assertEquals(category.getDepth(), actual.get(0).getDepth()),
-                    () -> assertEquals(category.getChildList().size(), actual.get(0).getChildList().size()));
+                    () -> assertEquals(childCategory.getId(), actual.get(0).getChildList().get(0).getId()),
+                    () -> assertEquals(grandChildCategory.getId(), actual.get(0).getChildList().get(0).getChildList().get(0).getId()));
+        }
+
+        @Test
+        @DisplayName("스냅샷이 있으면 DB를 다시 읽지 않는다")
+        void readAllTest02() {
+            // given
+            given(categoryRepository.findAll()).willReturn(List.of(makeParent(1L, "BOOK", 0L, null)));
+
+            // when
+            final CategoryTreeSnapshot first = sut.readTreeSnapshot();
+            final CategoryTreeSnapshot second = sut.readTreeSnapshot();
+
+            // then
+            assertSame(first, second);
+            verify(categoryRepository, times(1)).findAll();
+        }
+
+        @Test
+        @DisplayName("갱신하면 버전이 올라가고 트리가 같으면 ETag는 같다")
+        void refreshTreeSnapshotTest01() {
+            // given
+            given(categoryRepository.findAll()).willReturn(List.of(makeParent(1L, "BOOK", 0L, null)));
+            final CategoryTreeSnapshot before = sut.readTreeSnapshot();
+
+            // when
+            final CategoryTreeSnapshot actual = sut.refreshTreeSnapshot();
+
+            // then
+            assertEquals(before.getVersion() + 1, actual.getVersion());
+            assertEquals(before.getETag(), actual.getETag());
+        }
+
+        @Test
+        @DisplayName("카테고리가 추가되면 ETag가 바뀐다")
+        void refreshTreeSnapshotTest02() {
+            // given
+            var category = makeParent(1L, "BOOK", 0L, null);
+            given(categoryRepository.findAll())
+                    .willReturn(List.of(category))
+                    .willReturn(List.of(category, makeChild(2L, "IT-BOOK", 2L, category)));
+            final CategoryTreeSnapshot before = sut.readTreeSnapshot();
+
+            // when
+            final CategoryTreeSnapshot actual = sut.refreshTreeSnapshot();
+
+            // then
+            assertNotEquals(before.getETag(), actual.getETag());
+        }
+
+        @Test
+        @DisplayName("DB의 stamp가 그대로면 다시 만들지 않는다")
+        void refreshTreeSnapshotIfChangedTest01() {
+            // given
+            var stamp = new CategoryTreeStamp(1L, 1L, LocalDateTime.of(2026, 10, 1, 0, 0));
+            given(categoryRepository.findTreeStamp()).willReturn(stamp);
+            given(categoryRepository.findAll()).willReturn(List.of(makeParent(1L, "BOOK", 0L, null)));
+            final CategoryTreeSnapshot before = sut.readTreeSnapshot();
+
+            // when
+            final boolean actual = sut.refreshTreeSnapshotIfChanged();
+
+            // then
+            assertFalse(actual);
+            assertSame(before, sut.readTreeSnapshot());
+            verify(categoryRepository, times(1)).findAll();
+        }
+
+        @Test
+        @DisplayName("다른 서버에서 카테고리가 추가되면 다시 만든다")
+        void refreshTreeSnapshotIfChangedTest02() {
+            // given
+            var category = makeParent(1L, "BOOK", 0L, null);
+            var updatedAt = LocalDateTime.of(2026, 10, 1, 0, 0);
+            given(categoryRepository.findTreeStamp())
+                    .willReturn(new CategoryTreeStamp(1L, 1L, updatedAt))
+                    .willReturn(new CategoryTreeStamp(2L, 2L, updatedAt));
+            given(categoryRepository.findAll())
+                    .willReturn(List.of(category))
+                    .willReturn(List.of(category, makeChild(2L, "IT-BOOK", 2L, category)));
+            sut.readTreeSnapshot();
+
+            // when
+            final boolean actual = sut.refreshTreeSnapshotIfChanged();
+
+            // then
+            assertTrue(actual);
+            assertEquals(Set.of(1L, 2L), sut.readSubtreeIdSet(1L));
+        }
+
+        @Test
+        @DisplayName("아직 스냅샷이 없으면 DB를 보지 않는다")
+        void refreshTreeSnapshotIfChangedTest03() {
+            // when
+            final boolean actual = sut.refreshTreeSnapshotIfChanged();
+
+            // then
+            assertFalse(actual);
+            verify(categoryRepository, never()).findTreeStamp();
+        }
+    }
+
+    @Nested
+    @DisplayName("readSubtreeIdSet 테스트")
+    class RetrieveSubtreeIdSetTest {
+        @Test
+        @DisplayName("하위 카테고리 id를 모두 포함한다")
+        void readSubtreeIdSetTest01() {
+            // given
+            var book = makeParent(1L, "BOOK", 1L, null);
+            var itBook = makeChild(4L, "IT-BOOK", 2L, book);
+            var jpaBook = makeChild(7L, "JPA-BOOK", 3L, itBook);
+            var springBook = makeChild(8L, "SPRING-BOOK", 3L, itBook);
+            var clothes = makeParent(2L, "CLOTHES", 1L, null);
+
+            given(categoryRepository.findAll()).willReturn(List.of(book, itBook, jpaBook, springBook, clothes));
+
+            // when
+            final Set<Long> actual = sut.readSubtreeIdSet(book.getId());
+
+            // then
+            assertEquals(Set.of(1L, 4L, 7L, 8L), actual);
+            assertEquals(Set.of(7L), sut.readSubtreeIdSet(jpaBook.getId()));
+        }
+
+        @Test
+        @DisplayName("존재하지 않는 카테고리는 자기 자신만 돌려준다")
+        void readSubtreeIdSetTest02() {
+            // given
+            given(categoryRepository.findAll()).willReturn(List.of(makeParent(1L, "BOOK", 1L, null)));
+
+            // when
+            final Set<Long> actual = sut.readSubtreeIdSet(99L);
+
+            // then
+            assertEquals(Set.of(99L), actual);
         }
     }
 
@@ -0,0 +1,30 @@
+package store.juin.api.common;
+
+import com.p6spy.engine.common.StatementInformation;
+import com.p6spy.engine.event.SimpleJdbcEventListener;
+import org.springframework.boot.test.context.TestComponent;
+
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * p6spy가 감싼 DataSource에서 실행된 쿼리 수를 센다.
+ * JdbcEventListener 빈은 p6spy-spring-boot-starter가 자동으로 등록하므로 테스트에서 @Import만 하면 된다.
+ */
+@TestComponent
+public class QueryCountListener extends SimpleJdbcEventListener {
+    private final AtomicLong count = new AtomicLong();
+
+    @Override
+    public void onAfterAnyExecute(StatementInformation statementInformation, long timeElapsedNanos, SQLException e) {
+        count.incrementAndGet();
+    }
+
+    public long getCount() {
+        return count.get();
+    }
+
+    public void reset() {
+        count.set(0);
+    }
+}
@@ -12,6 +12,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.web.PageableHandlerMethodArgumentResolver;
+import org.springframework.data.web.SortHandlerMethodArgumentResolver;
 import org.springframework.http.MediaType;
 import org.springframework.restdocs.RestDocumentationContextProvider;
 import org.springframework.restdocs.RestDocumentationExtension;
@@ -23,6 +24,7 @@ import org.springframework.web.servlet.ViewResolver;
 import org.springframework.web.servlet.view.json.MappingJackson2JsonView;
 import store.juin.api.item.enumeration.ItemStatus;
 import store.juin.api.item.model.response.ItemRetrieveResponse;
+import store.juin.api.item.model.response.ItemSnapshot;
 import store.juin.api.item.service.query.ItemQueryService;
 
 import java.time.ZonedDateTime;
@@ -30,7 +32,11 @@ import java.util.List;
 import java.util.Locale;
 import java.util.stream.Collectors;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.documentationConfiguration;
 import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.get;
@@ -38,6 +44,7 @@ import static org.springframework.restdocs.operation.preprocess.Preprocessors.pr
 import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
 import static org.springframework.restdocs.payload.PayloadDocumentation.responseFields;
 import static org.springframework.restdocs.request.RequestDocumentation.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static store.juin.api.common.EndPoint.PORT;
 import static store.juin.api.common.EntityUtil.makeItem;
@@ -59,7 +66,7 @@ class ItemApiControllerTest {
     void setup(RestDocumentationContextProvider restDocumentationContextProvider) {
         mockMvc = MockMvcBuilders
                 .standaloneSetup(sut)
-                .setCustomArgumentResolvers(new PageableHandlerMethodArgumentResolver())
+                .setCustomArgumentResolvers(new PageableHandlerMethodArgumentResolver(), new SortHandlerMethodArgumentResolver())
                 .setViewResolvers(new ViewResolver() {
                     @Override
                     public View resolveViewName(String viewName, Locale locale) throws Exception {
@@ -84,8 +91,9 @@ class ItemApiControllerTest {
             // given
             var itemId = 1L;
             var item = makeItem(itemId, "이게 제품이다!!!");
+            var snapshot = ItemSnapshot.from(ItemRetrieveResponse.from(item));
 
-            given(itemQueryService.readById(itemId)).willReturn(item);
+            given(itemQueryService.readSnapshotById(itemId)).willReturn(snapshot);
 
             // when
             final ResultActions actual = mockMvc.perform(get("/api/items/{itemId}", itemId)
@@ -215,6 +223,26 @@ class ItemApiControllerTest {
                     ));
         }
     }
+
+    @Nested
+    @DisplayName("GET /api/items?cursor=")
+    class RetrieveAllByCursorTest {
+        @Test
+        @DisplayName("(실패) cursor와 sort를 같이 보내면 400")
+        void retrieveAllByCursorTest01() throws Exception {
+            // when
+            final ResultActions actual = mockMvc.perform(get("/api/items")
+                    .accept(MediaType.APPLICATION_JSON).contentType(MediaType.APPLICATION_JSON)
+                    .param("cursor", "")
+                    .param("sort", "price,desc"));
+
+            // then
+            actual
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.apiStatus").value(400));
+            verify(itemQueryService, never()).displayByCursor(any(), anyInt());
+        }
+    }
 //
 //    @Nested
 //    @DisplayName("상품 검색하기")
@@ -0,0 +1,179 @@
+package store.juin.api.item.repository.querydsl.impl;
+
+import org.assertj.core.api.AbstractThrowableAssert;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+import store.juin.api.category.model.entity.Category;
+import store.juin.api.category.repository.jpa.CategoryRepository;
+import store.juin.api.common.QueryCountListener;
+import store.juin.api.common.exception.Msg;
+import store.juin.api.item.enumeration.ItemStatus;
+import store.juin.api.item.model.entity.Item;
+import store.juin.api.item.model.response.ItemRetrieveResponse;
+import store.juin.api.item.repository.jpa.ItemRepository;
+import store.juin.api.itemimage.model.entity.ItemImage;
+import store.juin.api.itemimage.repository.jpa.ItemImageRepository;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.security.InvalidParameterException;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * p6spy로 실제 실행되는 쿼리 수를 검증하기 때문에 로컬 MySQL이 필요하다. (ApiApplicationTests와 동일)
+ */
+@Transactional
+@SpringBootTest
+@ActiveProfiles("local")
+@Import(QueryCountListener.class)
+class QuerydslItemRepositoryImplTest {
+    // 상품 목록 + 상품 이미지 목록 (count는 ItemCountCacheService에서 따로 구한다)
+    private static final long EXPECTED_QUERY_COUNT = 2L;
+
+    private static final int ITEM_COUNT = 100;
+    private static final int ITEM_IMAGE_COUNT_PER_ITEM = 2;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private ItemImageRepository itemImageRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private QueryCountListener queryCountListener;
+
+    @PersistenceContext
+    private EntityManager em;
+
+    private Category category;
+
+    @BeforeEach
+    void setup() {
+        category = categoryRepository.save(Category.builder().categoryName("query-count").depth(1L).build());
+
+        for (int i = 0; i < ITEM_COUNT; i++) {
+            final Item item = itemRepository.save(makeItem(category, "query-count-item-" + i));
+
+            for (int j = 0; j < ITEM_IMAGE_COUNT_PER_ITEM; j++) {
+                itemImageRepository.save(makeItemImage(item, j == 0));
+            }
+        }
+
+        // 영속성 컨텍스트에 남은 이미지 목록으로 쿼리가 가려지지 않도록 비운다.
+        em.flush();
+        em.clear();
+        queryCountListener.reset();
+    }
+
+    @Nested
+    @DisplayName("findAllJoinItemImage 쿼리 수 테스트")
+    class FindAllJoinItemImageTest {
+        @Test
+        @DisplayName("100개 상품 페이지도 고정된 쿼리 수로 조회한다.")
+        void findAllJoinItemImageTest01() {
+            // given
+            var pageable = PageRequest.of(0, ITEM_COUNT);
+
+            // when
+            final List<ItemRetrieveResponse> actual =
+                    itemRepository.findAllJoinItemImage(pageable, null, Set.of(category.getId()), null);
+
+            // then
+            assertEquals(ITEM_COUNT, actual.size());
+            actual.forEach(response -> assertEquals(ITEM_IMAGE_COUNT_PER_ITEM, response.getItemImageList().size()));
+            assertEquals(EXPECTED_QUERY_COUNT, queryCountListener.getCount());
+        }
+
+        @Test
+        @DisplayName("페이지 크기가 달라져도 쿼리 수는 같다.")
+        void findAllJoinItemImageTest02() {
+            // given
+            var smallPageable = PageRequest.of(0, 10);
+            var largePageable = PageRequest.of(0, ITEM_COUNT);
+
+            // when
+            itemRepository.findAllJoinItemImage(smallPageable, null, Set.of(category.getId()), null);
+            final long smallPageQueryCount = queryCountListener.getCount();
+
+            em.clear();
+            queryCountListener.reset();
+
+            itemRepository.findAllJoinItemImage(largePageable, null, Set.of(category.getId()), null);
+            final long largePageQueryCount = queryCountListener.getCount();
+
+            // then
+            assertEquals(smallPageQueryCount, largePageQueryCount);
+        }
+    }
+
+    @Nested
+    @DisplayName("findAllJoinItemImage 정렬 테스트")
+    class SortTest {
+        @Test
+        @DisplayName("허용한 property로는 정렬한다.")
+        void sortTest01() {
+            // given
+            var pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "soldCount", "id"));
+
+            // when
+            final List<ItemRetrieveResponse> actual =
+                    itemRepository.findAllJoinItemImage(pageable, null, Set.of(category.getId()), null);
+
+            // then
+            assertEquals(10, actual.size());
+        }
+
+        @Test
+        @DisplayName("허용하지 않은 property는 거절한다.")
+        void sortTest02() {
+            // given
+            var pageable = PageRequest.of(0, 10, Sort.by("category.categoryName"));
+
+            // when
+            final AbstractThrowableAssert<?, ? extends Throwable> actual =
+                    assertThatThrownBy(() -> itemRepository.findAllJoinItemImage(pageable, null, Set.of(category.getId()), null));
+
+            // then
+            actual.isInstanceOf(InvalidParameterException.class).hasMessage(Msg.INVALID_SORT_PROPERTY);
+        }
+    }
+
+    private Item makeItem(Category category, String name) {
+        return Item.builder()
+                .name(name)
+                .price(10000)
+                .quantity(10)
+                .soldCount(0)
+                .description("description")
+                .itemStatus(ItemStatus.READY)
+                .category(category)
+                .build();
+    }
+
+    private ItemImage makeItemImage(Item item, boolean representative) {
+        return ItemImage.builder()
+                .item(item)
+                .name("cat.jpg")
+                .originName("cat.jpg")
+                .imageUrl("/cat.jpg")
+                .thumbnail(true)
+                .representative(representative)
+                .build();
+    }
+}
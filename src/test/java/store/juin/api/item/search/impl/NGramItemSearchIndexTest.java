@@ -0,0 +1,148 @@
+package store.juin.api.item.search.impl;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import store.juin.api.item.search.ItemSearchDocument;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class NGramItemSearchIndexTest {
+    private NGramItemSearchIndex sut;
+
+    @BeforeEach
+    void setUp() {
+        sut = new NGramItemSearchIndex();
+        sut.rebuild(List.of(
+                makeDocument(1L, "봄 웜톤 립스틱", 10L),
+                makeDocument(2L, "여름 쿨톤 립스틱", 10L),
+                makeDocument(3L, "봄 웜톤 블러셔", 20L),
+                makeDocument(4L, "Lip Tint", 10L)
+        ));
+    }
+
+    @Nested
+    @DisplayName("search 테스트")
+    class SearchTest {
+        @Test
+        @DisplayName("검색어가 포함된 상품 id를 오름차순으로 찾는다")
+        void searchTest01() {
+            // given
+            var keyword = "립스틱";
+
+            // when
+            final List<Long> actual = sut.search(keyword, null);
+
+            // then
+            assertEquals(List.of(1L, 2L), actual);
+        }
+
+        @Test
+        @DisplayName("검색어 전체가 포함된 상품만 찾는다")
+        void searchTest02() {
+            // given
+            var keyword = "웜톤 립";
+
+            // when
+            final List<Long> actual = sut.search(keyword, null);
+
+            // then
+            assertEquals(List.of(1L), actual);
+        }
+
+        @Test
+        @DisplayName("카테고리로 거른다")
+        void searchTest03() {
+            // given
+            var keyword = "봄 웜톤";
+            var categoryIdSet = Set.of(20L);
+
+            // when
+            final List<Long> actual = sut.search(keyword, categoryIdSet);
+
+            // then
+            assertEquals(List.of(3L), actual);
+        }
+
+        @Test
+        @DisplayName("대소문자를 구분하지 않는다")
+        void searchTest04() {
+            // given
+            var keyword = "lip";
+
+            // when
+            final List<Long> actual = sut.search(keyword, null);
+
+            // then
+            assertEquals(List.of(4L), actual);
+        }
+
+        @Test
+        @DisplayName("한 글자 검색어")
+        void searchTest05() {
+            // given
+            var keyword = "봄";
+
+            // when
+            final List<Long> actual = sut.search(keyword, null);
+
+            // then
+            assertEquals(List.of(1L, 3L), actual);
+        }
+
+        @Test
+        @DisplayName("검색 결과가 없을 때")
+        void searchTest06() {
+            // given
+            var keyword = "파운데이션";
+
+            // when
+            final List<Long> actual = sut.search(keyword, null);
+
+            // then
+            assertEquals(Collections.emptyList(), actual);
+        }
+    }
+
+    @Nested
+    @DisplayName("add / remove 테스트")
+    class AddRemoveTest {
+        @Test
+        @DisplayName("추가한 상품이 바로 검색된다")
+        void addTest01() {
+            // given
+            sut.add(makeDocument(5L, "가을 웜톤 립스틱", 10L));
+
+            // when
+            final List<Long> actual = sut.search("립스틱", null);
+
+            // then
+            assertEquals(List.of(1L, 2L, 5L), actual);
+        }
+
+        @Test
+        @DisplayName("삭제한 상품은 검색되지 않는다")
+        void removeTest01() {
+            // given
+            sut.remove(1L);
+
+            // when
+            final List<Long> actual = sut.search("립스틱", null);
+
+            // then
+            assertEquals(List.of(2L), actual);
+        }
+    }
+
+    private ItemSearchDocument makeDocument(Long id, String name, Long categoryId) {
+        return new ItemSearchDocument()
+                .setId(id)
+                .setName(name)
+                .setCategoryId(categoryId);
+    }
+}
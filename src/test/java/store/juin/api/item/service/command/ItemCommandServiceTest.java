@@ -17,20 +17,33 @@ import store.juin.api.category.service.query.CategoryQueryService;
 import store.juin.api.common.exception.Msg;
 import store.juin.api.common.handler.CommandTransactional;
 import store.juin.api.item.enumeration.ItemStatus;
+import store.juin.api.item.enumeration.NotEnoughStockException;
 import store.juin.api.item.model.entity.Item;
 import store.juin.api.item.model.request.ItemCreateRequest;
 import store.juin.api.item.repository.jpa.ItemRepository;
+import store.juin.api.item.search.ItemSearchIndex;
+import store.juin.api.item.service.query.ItemCountCacheService;
 import store.juin.api.item.service.query.ItemQueryService;
+import store.juin.api.item.service.query.ItemSnapshotCacheService;
+import store.juin.api.item.stock.HotStockLedger;
 import store.juin.api.itemcategory.service.command.ItemCategoryCommandService;
 import store.juin.api.itemimage.service.ItemImageCommandService;
+import store.juin.api.itemimage.thumbnail.ThumbnailWorker;
+import store.juin.api.itemimage.upload.ItemImageUploader;
 
 import javax.persistence.EntityNotFoundException;
+import java.security.InvalidParameterException;
 import java.util.ArrayList;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 class ItemCommandServiceTest {
@@ -44,9 +57,24 @@ class ItemCommandServiceTest {
     @Mock
     private ItemRepository itemRepository;
 
+    @Mock
+    private ItemSearchIndex itemSearchIndex;
+
+    @Mock
+    private HotStockLedger hotStockLedger;
+
+    @Mock
+    private ThumbnailWorker thumbnailWorker;
+    @Mock
+    private ItemImageUploader itemImageUploader;
+
     @Mock
     private ItemQueryService itemQueryService;
     @Mock
+    private ItemCountCacheService itemCountCacheService;
+    @Mock
+    private ItemSnapshotCacheService itemSnapshotCacheService;
+    @Mock
     private CategoryQueryService categoryQueryService;
 
     @Mock
@@ -120,6 +148,9 @@ class ItemCommandServiceTest {
 
             // then
             Assertions.assertEquals(ItemStatus.SOLD_OUT, item.getItemStatus());
+            verify(itemSearchIndex, never()).remove(itemId);
+            verify(itemCountCacheService).evictAll();
+            verify(itemSnapshotCacheService).evict(List.of(itemId));
         }
 
         @Test
@@ -135,6 +166,72 @@ class ItemCommandServiceTest {
 
             // then
             actual.isInstanceOf(EntityNotFoundException.class).hasMessage(Msg.ITEM_NOT_FOUND);
+            verify(itemSearchIndex, never()).remove(itemId);
+        }
+    }
+
+    @Nested
+    @DisplayName("removeQuantity 테스트")
+    class RemoveQuantityTest {
+        @Test
+        @DisplayName("모든 상품의 재고가 차감되면 성공")
+        void removeQuantityTest01() {
+            // given
+            var itemIdList = List.of(1L, 2L, 2L);
+            given(itemRepository.decreaseQuantity(itemIdList, 3)).willReturn(2);
+
+            // when
+            sut.removeQuantity(itemIdList, 3);
+
+            // then
+            verify(itemRepository).decreaseQuantity(itemIdList, 3);
+        }
+
+        @Test
+        @DisplayName("재고가 모자란 상품이 있으면 실패")
+        void removeQuantityTest02() {
+            // given
+            var itemIdList = List.of(1L, 2L);
+            given(itemRepository.decreaseQuantity(itemIdList, 1)).willReturn(1);
+
+            // when
+            final AbstractThrowableAssert<?, ? extends Throwable> actual =
+                    assertThatThrownBy(() -> sut.removeQuantity(itemIdList, 1));
+
+            // then
+            actual.isInstanceOf(NotEnoughStockException.class).hasMessage(Msg.ITEM_NOT_ENOUGH_STOCK);
+        }
+
+        @Test
+        @DisplayName("주문 수량이 0 이하면 실패")
+        void removeQuantityTest03() {
+            // given
+            var itemIdList = List.of(1L);
+
+            // when
+            final AbstractThrowableAssert<?, ? extends Throwable> actual =
+                    assertThatThrownBy(() -> sut.removeQuantity(itemIdList, 0));
+
+            // then
+            actual.isInstanceOf(InvalidParameterException.class).hasMessage(Msg.ORDER_INVALID_COUNT);
+            verify(itemRepository, never()).decreaseQuantity(anyList(), anyInt());
+        }
+
+        @Test
+        @DisplayName("핫 재고 상품은 원장에서, 나머지는 DB에서 차감한다")
+        void removeQuantityTest04() {
+            // given
+            var hotItemId = 1L;
+            var coldItemId = 2L;
+            given(hotStockLedger.isHot(hotItemId)).willReturn(true);
+            given(itemRepository.decreaseQuantity(List.of(coldItemId), 1)).willReturn(1);
+
+            // when
+            sut.removeQuantity(List.of(hotItemId, coldItemId), 1);
+
+            // then
+            verify(hotStockLedger).reserve(hotItemId, 1);
+            verify(itemRepository).decreaseQuantity(List.of(coldItemId), 1);
         }
     }
 
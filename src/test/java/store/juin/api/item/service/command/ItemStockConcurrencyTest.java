@@ -0,0 +1,173 @@
+package store.juin.api.item.service.command;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import store.juin.api.category.model.entity.Category;
+import store.juin.api.category.repository.jpa.CategoryRepository;
+import store.juin.api.item.enumeration.ItemStatus;
+import store.juin.api.item.enumeration.NotEnoughStockException;
+import store.juin.api.item.model.entity.Item;
+import store.juin.api.item.repository.jpa.ItemRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 여러 스레드가 같은 상품을 동시에 주문해도 초과 판매되지 않는지 실제 MySQL에서 확인한다. (ApiApplicationTests와 동일하게 로컬 DB 필요)
+ * 스레드마다 커밋이 따로 일어나야 해서 테스트 트랜잭션을 쓰지 않고 만든 데이터는 직접 지운다.
+ */
+@SpringBootTest
+@ActiveProfiles("local")
+class ItemStockConcurrencyTest {
+    private static final Logger log = LoggerFactory.getLogger(ItemStockConcurrencyTest.class);
+
+    private static final int THREAD_COUNT = 16;
+    private static final int ORDER_COUNT = 400;
+
+    @Autowired
+    private ItemCommandService itemCommandService;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    private final List<Long> itemIdList = new ArrayList<>();
+
+    private Category category;
+
+    @AfterEach
+    void tearDown() {
+        itemIdList.forEach(itemRepository::deleteById);
+        itemIdList.clear();
+        if (category != null) categoryRepository.delete(category);
+    }
+
+    @Nested
+    @DisplayName("removeQuantity 동시성 테스트")
+    class RemoveQuantityTest {
+        @Test
+        @DisplayName("재고보다 많은 주문이 동시에 들어와도 재고만큼만 성공한다.")
+        void removeQuantityTest01() throws InterruptedException {
+            // given
+            var stock = 100;
+            var itemId = saveItem(stock);
+
+            // when
+            final Result actual = run(() -> itemCommandService.removeQuantity(List.of(itemId), 1));
+
+            // then
+            final Item item = itemRepository.findById(itemId).orElseThrow();
+            assertAll(
+                    () -> assertEquals(stock, actual.successCount),
+                    () -> assertEquals(ORDER_COUNT - stock, actual.failCount),
+                    () -> assertEquals(0, item.getQuantity()),
+                    () -> assertEquals(stock, item.getSoldCount())
+            );
+        }
+
+        @Test
+        @DisplayName("여러 상품을 한 번에 주문할 때 하나라도 모자라면 다른 상품 재고도 차감되지 않는다.")
+        void removeQuantityTest02() throws InterruptedException {
+            // given
+            var smallStock = 50;
+            var largeStock = 300;
+            var smallItemId = saveItem(smallStock);
+            var largeItemId = saveItem(largeStock);
+
+            // when
+            final Result actual = run(() -> itemCommandService.removeQuantity(List.of(smallItemId, largeItemId), 1));
+
+            // then
+            final Item smallItem = itemRepository.findById(smallItemId).orElseThrow();
+            final Item largeItem = itemRepository.findById(largeItemId).orElseThrow();
+            assertAll(
+                    () -> assertEquals(smallStock, actual.successCount),
+                    () -> assertEquals(0, smallItem.getQuantity()),
+                    () -> assertEquals(largeStock - smallStock, largeItem.getQuantity())
+            );
+        }
+    }
+
+    private Result run(Runnable order) throws InterruptedException {
+        final ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        final CountDownLatch ready = new CountDownLatch(1);
+        final CountDownLatch done = new CountDownLatch(ORDER_COUNT);
+        final AtomicInteger successCount = new AtomicInteger();
+        final AtomicInteger failCount = new AtomicInteger();
+
+        for (int i = 0; i < ORDER_COUNT; i++) {
+            executorService.submit(() -> {
+                try {
+                    ready.await();
+                    order.run();
+                    successCount.incrementAndGet();
+                } catch (NotEnoughStockException e) {
+                    failCount.incrementAndGet();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        final long start = System.nanoTime();
+        ready.countDown();
+        assertTrue(done.await(1, TimeUnit.MINUTES));
+        final long elapsedNanos = System.nanoTime() - start;
+        executorService.shutdown();
+
+        log.info("[P9][TEST][ITEM][STCK]: threads=({}), orders=({}), success=({}), fail=({}), elapsed=({}ms), throughput=({} orders/s)",
+                THREAD_COUNT, ORDER_COUNT, successCount.get(), failCount.get(),
+                TimeUnit.NANOSECONDS.toMillis(elapsedNanos), ORDER_COUNT * 1_000_000_000L / Math.max(elapsedNanos, 1));
+
+        return new Result(successCount.get(), failCount.get());
+    }
+
+    private Long saveItem(int quantity) {
+        if (category == null) {
+            category = categoryRepository.save(Category.builder().categoryName("stock-concurrency").depth(1L).build());
+        }
+
+        final Item item = itemRepository.save(Item.builder()
+                .name("stock-concurrency-item")
+                .price(10000)
+                .quantity(quantity)
+                .soldCount(0)
+                .description("description")
+                .itemStatus(ItemStatus.READY)
+                .category(category)
+                .build());
+        itemIdList.add(item.getId());
+
+        return item.getId();
+    }
+
+    private static class Result {
+        private final int successCount;
+        private final int failCount;
+
+        private Result(int successCount, int failCount) {
+            this.successCount = successCount;
+            this.failCount = failCount;
+        }
+    }
+}
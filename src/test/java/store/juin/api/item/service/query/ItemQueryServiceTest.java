@@ -12,28 +12,39 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import store.juin.api.account.enumeration.PersonalColor;
 import store.juin.api.category.model.entity.Category;
+import store.juin.api.category.service.query.CategoryQueryService;
 import store.juin.api.common.exception.Msg;
 import store.juin.api.common.handler.QueryTransactional;
+import store.juin.api.common.model.response.CountPage;
+import store.juin.api.common.model.response.CursorPage;
 import store.juin.api.item.enumeration.ItemStatus;
 import store.juin.api.item.model.entity.Item;
+import store.juin.api.item.model.request.ItemCountCondition;
 import store.juin.api.item.model.response.ItemRetrieveResponse;
 import store.juin.api.item.repository.jpa.ItemRepository;
+import store.juin.api.item.search.ItemSearchIndex;
 import store.juin.api.itemimage.model.entity.ItemImage;
+import store.juin.api.util.CursorUtil;
 
 import javax.persistence.EntityNotFoundException;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertIterableEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 class ItemQueryServiceTest {
@@ -46,6 +57,15 @@ class ItemQueryServiceTest {
     @Mock
     private ItemRepository itemRepository;
 
+    @Mock
+    private ItemSearchIndex itemSearchIndex;
+
+    @Mock
+    private ItemCountCacheService itemCountCacheService;
+
+    @Mock
+    private CategoryQueryService categoryQueryService;
+
     @Nested
     @DisplayName("readById 테스트")
     class RetrieveByIdTest {
@@ -227,12 +247,12 @@ class ItemQueryServiceTest {
             var item = makeItem(1L, itemImageList);
             var itemList = List.of(item);
 
-            given(itemRepository.findAllByPersonalColor(pageable, personColor))
-                    .willReturn(new PageImpl<>(itemList, pageable, itemList.size()));
-
             var itemReadResponseList = makeItemReadResponseList(itemList, itemImageList);
             var expected = new PageImpl<>(itemReadResponseList, pageable, 1);
 
+            given(itemRepository.findAllJoinItemImage(pageable, null, null, personColor))
+                    .willReturn(itemReadResponseList);
+
             // when
             final Page<ItemRetrieveResponse> actual = sut.search(pageable, null, null, personColor);
 
@@ -253,12 +273,12 @@ class ItemQueryServiceTest {
             var item = makeItem(1L, itemImageList);
             var itemList = List.of(item);
 
-            given(itemRepository.findByNameContainingAndCategoryId(pageable, searchTitle, null))
-                    .willReturn(Optional.of(new PageImpl<>(itemList, pageable, itemList.size())));
-
             var itemReadResponseList = makeItemReadResponseList(itemList, itemImageList);
             var expected = new PageImpl<>(itemReadResponseList, pageable, 1);
 
+            given(itemSearchIndex.search(searchTitle, null)).willReturn(List.of(1L));
+            given(itemRepository.findAllJoinItemImageByIdIn(List.of(1L))).willReturn(itemReadResponseList);
+
             // when
             final Page<ItemRetrieveResponse> actual = sut.search(pageable, searchTitle, null, null);
 
@@ -289,11 +309,12 @@ class ItemQueryServiceTest {
                     .build();
             var itemList = List.of(item);
 
-            given(itemRepository.findByNameContainingAndCategoryId(pageable, null, categoryId))
-                    .willReturn(Optional.of(new PageImpl<>(itemList, pageable, itemList.size())));
-
             var expected = makeItemReadResponseList(itemList, itemImageList);
 
+            given(categoryQueryService.readSubtreeIdSet(categoryId)).willReturn(Set.of(categoryId, 11L));
+            given(itemRepository.findAllJoinItemImage(pageable, null, Set.of(categoryId, 11L), null))
+                    .willReturn(expected);
+
             // when
             final Page<ItemRetrieveResponse> actual = sut.search(pageable, null, categoryId, null);
 
@@ -326,17 +347,99 @@ class ItemQueryServiceTest {
                     .build();
             var itemList = List.of(item);
 
-            given(itemRepository.findByNameContainingAndCategoryId(pageable, searchTitle, categoryId))
-                    .willReturn(Optional.of(new PageImpl<>(itemList, pageable, itemList.size())));
-
             var expected = makeItemReadResponseList(itemList, itemImageList);
 
+            given(categoryQueryService.readSubtreeIdSet(categoryId)).willReturn(Set.of(categoryId));
+            given(itemSearchIndex.search(searchTitle, Set.of(categoryId))).willReturn(List.of(1L));
+            given(itemRepository.findAllJoinItemImageByIdIn(List.of(1L))).willReturn(expected);
+
             // when
             final Page<ItemRetrieveResponse> actual = sut.search(pageable, searchTitle, categoryId, null);
 
             // then
             assertIterableEquals(expected, actual);
         }
+
+        @Test
+        @DisplayName("검색 결과가 여러 페이지일 때 현재 페이지 상품만 읽는다")
+        void searchTest05() {
+            // given
+            var page = 1;
+            var size = 2;
+            var pageable = PageRequest.of(page, size);
+            var searchTitle = "name";
+
+            var itemImageList = makeItemImageList(20L);
+            var itemList = List.of(makeItem(3L, itemImageList), makeItem(4L, itemImageList));
+
+            var expected = makeItemReadResponseList(itemList, itemImageList);
+
+            given(itemSearchIndex.search(searchTitle, null)).willReturn(List.of(1L, 2L, 3L, 4L, 5L));
+            given(itemRepository.findAllJoinItemImageByIdIn(List.of(3L, 4L))).willReturn(expected);
+
+            // when
+            final Page<ItemRetrieveResponse> actual = sut.search(pageable, searchTitle, null, null);
+
+            // then
+            assertIterableEquals(expected, actual);
+            assertEquals(5L, actual.getTotalElements());
+        }
+
+        @Test
+        @DisplayName("검색 결과가 없을 때")
+        void searchTest06() {
+            // given
+            var pageable = PageRequest.of(0, 10);
+            var searchTitle = "없는 상품";
+
+            given(itemSearchIndex.search(searchTitle, null)).willReturn(Collections.emptyList());
+
+            // when
+            final Page<ItemRetrieveResponse> actual = sut.search(pageable, searchTitle, null, null);
+
+            // then
+            assertEquals(0L, actual.getTotalElements());
+            verify(itemRepository, never()).findAllJoinItemImageByIdIn(anyList());
+        }
+
+        @Test
+        @DisplayName("검색어와 정렬이 있으면 DB에서 정렬해 읽는다")
+        void searchTest07() {
+            // given
+            var pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "price"));
+            var searchTitle = "name";
+
+            var itemImageList = makeItemImageList(20L);
+            var expected = makeItemReadResponseList(List.of(makeItem(2L, itemImageList), makeItem(1L, itemImageList)), itemImageList);
+
+            given(itemRepository.findAllJoinItemImage(pageable, searchTitle, null, null)).willReturn(expected);
+
+            // when
+            final Page<ItemRetrieveResponse> actual = sut.search(pageable, searchTitle, null, null);
+
+            // then
+            assertIterableEquals(expected, actual);
+            verify(itemSearchIndex, never()).search(searchTitle, null);
+        }
+
+        @Test
+        @DisplayName("목록과 count에 같은 정규화된 검색어를 넘긴다")
+        void searchTest08() {
+            // given
+            var pageable = PageRequest.of(0, 1, Sort.by(Sort.Direction.DESC, "price"));
+
+            var itemImageList = makeItemImageList(20L);
+            var expected = makeItemReadResponseList(List.of(makeItem(1L, itemImageList)), itemImageList);
+
+            given(itemRepository.findAllJoinItemImage(pageable, "shirt", null, null)).willReturn(expected);
+            given(itemCountCacheService.count(ItemCountCondition.of("shirt", null, null))).willReturn(30L);
+
+            // when
+            final Page<ItemRetrieveResponse> actual = sut.search(pageable, "  Shirt ", null, null);
+
+            // then
+            assertEquals(30L, actual.getTotalElements());
+        }
     }
 
     @Nested
@@ -354,11 +457,10 @@ class ItemQueryServiceTest {
             var itemList = List.of(makeItem(itemId, makeItemImageList(24L)));
             var itemImageList = makeItemImageList(20L);
 
-            var itemPage = new PageImpl<>(itemList, pageRequest, itemList.size());
             var expected = makeItemReadResponseList(itemList, itemImageList);
 
-
-            given(itemRepository.findAll(pageRequest)).willReturn(itemPage);
+            given(itemRepository.findAllJoinItemImage(pageRequest, null, null, null))
+                    .willReturn(expected);
 
             // when
             final Page<ItemRetrieveResponse> actual = sut.display(pageRequest);
@@ -367,6 +469,62 @@ class ItemQueryServiceTest {
             assertIterableEquals(expected, actual);
         }
 
+        @Test
+        @DisplayName("페이지가 꽉 차면 count는 캐시 서비스에서 읽는다")
+        void displayCountTest01() {
+            // given
+            var pageRequest = PageRequest.of(0, 1);
+            var itemImageList = makeItemImageList(20L);
+            var expected = makeItemReadResponseList(List.of(makeItem(1L, itemImageList)), itemImageList);
+
+            given(itemRepository.findAllJoinItemImage(pageRequest, null, null, null)).willReturn(expected);
+            given(itemCountCacheService.count(ItemCountCondition.of(null, null, null))).willReturn(30L);
+
+            // when
+            final Page<ItemRetrieveResponse> actual = sut.display(pageRequest);
+
+            // then
+            assertEquals(30L, actual.getTotalElements());
+        }
+
+        @Test
+        @DisplayName("approximate-cap을 넘으면 cap까지만 내려준다")
+        void displayCountTest02() {
+            // given
+            var pageRequest = PageRequest.of(0, 1);
+            var itemImageList = makeItemImageList(20L);
+            var expected = makeItemReadResponseList(List.of(makeItem(1L, itemImageList)), itemImageList);
+
+            given(itemRepository.findAllJoinItemImage(pageRequest, null, null, null)).willReturn(expected);
+            given(itemCountCacheService.count(ItemCountCondition.of(null, null, null))).willReturn(10001L);
+            given(itemCountCacheService.getApproximateCap()).willReturn(10000L);
+
+            // when
+            final Page<ItemRetrieveResponse> actual = sut.display(pageRequest);
+
+            // then
+            assertEquals(10000L, actual.getTotalElements());
+            assertTrue(((CountPage<ItemRetrieveResponse>) actual).isApproximate());
+        }
+
+        @Test
+        @DisplayName("cursor로 item 조회")
+        void displayByCursorTest01() {
+            // given
+            var size = 1;
+            var itemImageList = makeItemImageList(20L);
+            var itemList = List.of(makeItem(9L, itemImageList), makeItem(8L, itemImageList));
+            var fetchedList = makeItemReadResponseList(itemList, itemImageList);
+
+            given(itemRepository.findAllJoinItemImageByCursor(10L, size + 1)).willReturn(fetchedList);
+
+            // when
+            final CursorPage<ItemRetrieveResponse> actual = sut.displayByCursor(CursorUtil.encode(10L), size);
+
+            // then
+            assertEquals(fetchedList.subList(0, size), actual.getContent());
+            assertEquals(CursorUtil.encode(9L), actual.getNextCursor());
+        }
     }
 
     private List<ItemImage> makeItemImageList(Long itemImageId) {
@@ -0,0 +1,126 @@
+package store.juin.api.item.service.query;
+
+import org.assertj.core.api.AbstractThrowableAssert;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import store.juin.api.common.enumeration.CacheType;
+import store.juin.api.common.exception.Msg;
+import store.juin.api.common.handler.QueryTransactional;
+import store.juin.api.item.model.response.ItemRetrieveResponse;
+import store.juin.api.item.model.response.ItemSnapshot;
+import store.juin.api.item.repository.jpa.ItemRepository;
+
+import javax.persistence.EntityNotFoundException;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+import static store.juin.api.common.EntityUtil.makeItem;
+
+@ExtendWith(MockitoExtension.class)
+class ItemSnapshotCacheServiceTest {
+    @InjectMocks
+    private ItemSnapshotCacheService sut;
+
+    @Spy
+    private QueryTransactional queryTransactional;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private ItemRepository itemRepository;
+
+    @Mock
+    private Cache cache;
+
+    @Nested
+    @DisplayName("readById 테스트")
+    class ReadByIdTest {
+        @Test
+        @DisplayName("상품과 이미지를 스냅샷으로 읽는다")
+        void readByIdTest01() {
+            // given
+            var itemId = 1L;
+            var response = ItemRetrieveResponse.from(makeItem(itemId, "상품"));
+            given(itemRepository.findAllJoinItemImageByIdIn(List.of(itemId))).willReturn(List.of(response));
+
+            // when
+            final ItemSnapshot actual = sut.readById(itemId);
+
+            // then
+            assertAll(
+                    () -> assertEquals(itemId, actual.getId()),
+                    () -> assertEquals("상품", actual.getName()),
+                    () -> assertEquals(1, actual.getItemImageList().size())
+            );
+        }
+
+        @Test
+        @DisplayName("꺼낸 응답을 고쳐도 스냅샷은 바뀌지 않는다")
+        void readByIdTest02() {
+            // given
+            var itemId = 1L;
+            var response = ItemRetrieveResponse.from(makeItem(itemId, "상품"));
+            given(itemRepository.findAllJoinItemImageByIdIn(List.of(itemId))).willReturn(List.of(response));
+
+            final ItemSnapshot snapshot = sut.readById(itemId);
+
+            // when
+            final ItemRetrieveResponse actual = snapshot.toItemRetrieveResponse();
+            actual.setName("바뀐 상품");
+            actual.getItemImageList().get(0).setImageUrl("http://changed.com");
+
+            // then
+            assertAll(
+                    () -> assertEquals("상품", snapshot.getName()),
+                    () -> assertEquals("http://imageUrl.com", snapshot.getItemImageList().get(0).getImageUrl())
+            );
+        }
+
+        @Test
+        @DisplayName("존재하지 않는 상품")
+        void readByIdTest03() {
+            // given
+            var itemId = 1L;
+            given(itemRepository.findAllJoinItemImageByIdIn(List.of(itemId))).willReturn(Collections.emptyList());
+
+            // when
+            final AbstractThrowableAssert<?, ? extends Throwable> actual =
+                    assertThatThrownBy(() -> sut.readById(itemId));
+
+            // then
+            actual.isInstanceOf(EntityNotFoundException.class).hasMessage(Msg.ITEM_NOT_FOUND);
+        }
+    }
+
+    @Nested
+    @DisplayName("evict 테스트")
+    class EvictTest {
+        @Test
+        @DisplayName("받은 상품 id를 모두 비운다")
+        void evictTest01() {
+            // given
+            given(cacheManager.getCache(CacheType.ITEM_SNAPSHOT.getCacheName())).willReturn(cache);
+
+            // when
+            sut.evict(List.of(1L, 2L));
+
+            // then
+            verify(cache).evict(1L);
+            verify(cache).evict(2L);
+        }
+    }
+}
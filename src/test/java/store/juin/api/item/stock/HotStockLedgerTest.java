@@ -0,0 +1,212 @@
+package store.juin.api.item.stock;
+
+import org.assertj.core.api.AbstractThrowableAssert;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import store.juin.api.common.exception.Msg;
+import store.juin.api.common.handler.CommandTransactional;
+import store.juin.api.item.enumeration.NotEnoughStockException;
+import store.juin.api.item.model.entity.HotStockCheckpoint;
+import store.juin.api.item.model.entity.Item;
+import store.juin.api.item.repository.jpa.HotStockCheckpointRepository;
+import store.juin.api.item.repository.jpa.ItemRepository;
+import store.juin.api.item.service.query.ItemSnapshotCacheService;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class HotStockLedgerTest {
+    private static final Long HOT_ITEM_ID = 1L;
+
+    private HotStockLedger sut;
+
+    @Spy
+    private CommandTransactional commandTransactional;
+
+    @Mock
+    private ItemRepository itemRepository;
+
+    @Mock
+    private HotStockCheckpointRepository hotStockCheckpointRepository;
+
+    @Mock
+    private ItemSnapshotCacheService itemSnapshotCacheService;
+
+    @TempDir
+    Path journalPath;
+
+    @BeforeEach
+    void setUp() {
+        sut = this.makeLedger();
+    }
+
+    @Nested
+    @DisplayName("reserve 테스트")
+    class ReserveTest {
+        @Test
+        @DisplayName("재고만큼만 팔린다")
+        void reserveTest01() {
+            // given
+            this.initialize(2);
+
+            // when
+            sut.reserve(HOT_ITEM_ID, 2);
+            final AbstractThrowableAssert<?, ? extends Throwable> actual =
+                    assertThatThrownBy(() -> sut.reserve(HOT_ITEM_ID, 1));
+
+            // then
+            actual.isInstanceOf(NotEnoughStockException.class).hasMessage(Msg.ITEM_NOT_ENOUGH_STOCK);
+        }
+
+        @Test
+        @DisplayName("등록하지 않은 상품은 핫 재고가 아니다")
+        void reserveTest02() {
+            // given
+            this.initialize(2);
+
+            // when
+            final boolean actual = sut.isHot(2L);
+
+            // then
+            assertFalse(actual);
+            assertTrue(sut.isHot(HOT_ITEM_ID));
+        }
+
+        private void initialize(int quantity) {
+            given(itemRepository.findAllById(List.of(HOT_ITEM_ID))).willReturn(List.of(makeItem(quantity)));
+            sut.initialize();
+        }
+    }
+
+    @Nested
+    @DisplayName("flush 테스트")
+    class FlushTest {
+        @Test
+        @DisplayName("판매량과 취소량을 합쳐 상품당 한 번 반영한다")
+        void flushTest01() {
+            // given
+            given(itemRepository.findAllById(List.of(HOT_ITEM_ID))).willReturn(List.of(makeItem(10)));
+            sut.initialize();
+            sut.reserve(HOT_ITEM_ID, 3);
+            sut.reserve(HOT_ITEM_ID, 2);
+            sut.restore(HOT_ITEM_ID, 1);
+
+            // when
+            sut.flush();
+
+            // then
+            verify(itemRepository).applySoldDelta(HOT_ITEM_ID, 4);
+            verify(itemSnapshotCacheService).evict(Set.of(HOT_ITEM_ID));
+        }
+
+        @Test
+        @DisplayName("반영하지 못하고 꺼진 변경은 다음 기동 때 반영한다")
+        void flushTest02() {
+            // given
+            given(itemRepository.findAllById(List.of(HOT_ITEM_ID))).willReturn(List.of(makeItem(10)));
+            sut.initialize();
+            sut.reserve(HOT_ITEM_ID, 3);
+
+            // flush 없이 새로 뜬 서버
+            var restarted = makeLedger();
+
+            // when
+            restarted.initialize();
+
+            // then
+            verify(itemRepository).applySoldDelta(HOT_ITEM_ID, 3);
+        }
+
+        @Test
+        @DisplayName("반영할 변경이 없으면 UPDATE 하지 않는다")
+        void flushTest03() {
+            // given
+            given(itemRepository.findAllById(List.of(HOT_ITEM_ID))).willReturn(List.of(makeItem(10)));
+            sut.initialize();
+
+            // when
+            sut.flush();
+
+            // then
+            verify(itemRepository, never()).applySoldDelta(anyLong(), anyInt());
+        }
+
+        @Test
+        @DisplayName("반영한 뒤 세그먼트를 지우기 전에 꺼져도 다음 기동 때 다시 반영하지 않는다")
+        void flushTest04() throws IOException {
+            // given
+            given(itemRepository.findAllById(List.of(HOT_ITEM_ID))).willReturn(List.of(makeItem(10)));
+            sut.initialize();
+            sut.reserve(HOT_ITEM_ID, 3);
+
+            final Map<Path, byte[]> segmentMap = readSegmentMap();
+            sut.flush();
+            // DB 반영은 커밋됐지만 세그먼트를 지우기 전에 꺼진 상황
+            for (Map.Entry<Path, byte[]> entry : segmentMap.entrySet()) {
+                Files.write(entry.getKey(), entry.getValue());
+            }
+
+            final ArgumentCaptor<HotStockCheckpoint> checkpointCaptor = ArgumentCaptor.forClass(HotStockCheckpoint.class);
+            verify(hotStockCheckpointRepository).save(checkpointCaptor.capture());
+            given(hotStockCheckpointRepository.findById(HotStockCheckpoint.SINGLE_ID)).willReturn(Optional.of(checkpointCaptor.getValue()));
+
+            var restarted = makeLedger();
+
+            // when
+            restarted.initialize();
+
+            // then
+            verify(itemRepository, times(1)).applySoldDelta(HOT_ITEM_ID, 3);
+        }
+    }
+
+    private Map<Path, byte[]> readSegmentMap() throws IOException {
+        try (Stream<Path> pathStream = Files.list(journalPath)) {
+            final Map<Path, byte[]> segmentMap = new HashMap<>();
+            for (Path path : pathStream.collect(Collectors.toList())) {
+                segmentMap.put(path, Files.readAllBytes(path));
+            }
+            return segmentMap;
+        }
+    }
+
+    private HotStockLedger makeLedger() {
+        return new HotStockLedger(commandTransactional, itemRepository, hotStockCheckpointRepository, itemSnapshotCacheService,
+                true, List.of(HOT_ITEM_ID), 4, 60_000L, journalPath.toString());
+    }
+
+    private Item makeItem(int quantity) {
+        return Item.builder()
+                .id(HOT_ITEM_ID)
+                .quantity(quantity)
+                .soldCount(0)
+                .build();
+    }
+}
@@ -0,0 +1,98 @@
+package store.juin.api.item.stock;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HotStockTest {
+    @Nested
+    @DisplayName("tryTake 테스트")
+    class TryTakeTest {
+        @Test
+        @DisplayName("여러 칸에 흩어진 재고도 모아서 가져간다")
+        void tryTakeTest01() {
+            // given
+            var sut = new HotStock(10, 4);
+
+            // when
+            final boolean actual = sut.tryTake(10);
+
+            // then
+            assertAll(
+                    () -> assertTrue(actual),
+                    () -> assertEquals(0, sut.available())
+            );
+        }
+
+        @Test
+        @DisplayName("재고가 모자라면 가져가지 않는다")
+        void tryTakeTest02() {
+            // given
+            var sut = new HotStock(10, 4);
+
+            // when
+            final boolean actual = sut.tryTake(11);
+
+            // then
+            assertAll(
+                    () -> assertFalse(actual),
+                    () -> assertEquals(10, sut.available())
+            );
+        }
+
+        @Test
+        @DisplayName("동시에 가져가도 재고보다 많이 팔리지 않는다")
+        void tryTakeTest03() throws InterruptedException {
+            // given
+            var stock = 1000;
+            var orderCount = 5000;
+            var sut = new HotStock(stock, 16);
+            var successCount = new AtomicInteger();
+
+            final ExecutorService executorService = Executors.newFixedThreadPool(16);
+            final CountDownLatch done = new CountDownLatch(orderCount);
+
+            // when
+            for (int i = 0; i < orderCount; i++) {
+                executorService.submit(() -> {
+                    if (sut.tryTake(1)) successCount.incrementAndGet();
+                    done.countDown();
+                });
+            }
+            done.await(10, TimeUnit.SECONDS);
+            executorService.shutdown();
+
+            // then
+            assertAll(
+                    () -> assertEquals(stock, successCount.get()),
+                    () -> assertEquals(0, sut.available())
+            );
+        }
+    }
+
+    @Nested
+    @DisplayName("put 테스트")
+    class PutTest {
+        @Test
+        @DisplayName("돌려받은 재고는 다시 팔 수 있다")
+        void putTest01() {
+            // given
+            var sut = new HotStock(1, 4);
+            sut.tryTake(1);
+
+            // when
+            sut.put(1);
+
+            // then
+            assertTrue(sut.tryTake(1));
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package store.juin.api.item.stock;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StockJournalTest {
+    @TempDir
+    Path directory;
+
+    @Nested
+    @DisplayName("recover 테스트")
+    class RecoverTest {
+        @Test
+        @DisplayName("롤백되지 않은 변경만 상품별로 합친다")
+        void recoverTest01() {
+            // given
+            var sut = new StockJournal(directory, 0);
+            sut.appendBegin(new StockJournalRecord(1L, 10L, 2));
+            sut.appendBegin(new StockJournalRecord(2L, 10L, 3));
+            sut.appendBegin(new StockJournalRecord(3L, 20L, 1));
+            sut.appendAbort(2L);
+            sut.appendBegin(new StockJournalRecord(4L, 20L, -1));
+            sut.close();
+
+            // when
+            final Map<Long, Long> actual = StockJournal.recover(new StockJournal(directory, 0).readPreviousSegmentList(), 0);
+
+            // then
+            assertEquals(Map.of(10L, 2L, 20L, 0L), actual);
+        }
+
+        @Test
+        @DisplayName("세그먼트를 넘기며 옮겨 적은 변경은 한 번만 센다")
+        void recoverTest02() {
+            // given
+            var sut = new StockJournal(directory, 0);
+            var inFlight = new StockJournalRecord(1L, 10L, 2);
+            sut.appendBegin(inFlight);
+            sut.rotate(List.of(inFlight));
+            sut.close();
+
+            // when
+            final Map<Long, Long> actual = StockJournal.recover(new StockJournal(directory, 0).readPreviousSegmentList(), 0);
+
+            // then
+            assertEquals(Map.of(10L, 2L), actual);
+        }
+
+        @Test
+        @DisplayName("checkpoint 이하 세그먼트는 이미 반영했으므로 건너뛴다")
+        void recoverTest03() {
+            // given
+            var sut = new StockJournal(directory, 0);
+            sut.appendBegin(new StockJournalRecord(1L, 10L, 2));
+            final Path applied = sut.rotate(Collections.emptyList());
+            sut.appendBegin(new StockJournalRecord(2L, 10L, 3));
+            sut.close();
+
+            // when
+            final Map<Long, Long> actual = StockJournal.recover(new StockJournal(directory, 0).readPreviousSegmentList(),
+                    StockJournal.lastSegmentNo(List.of(applied)));
+
+            // then
+            assertEquals(Map.of(10L, 3L), actual);
+        }
+    }
+
+    @Nested
+    @DisplayName("rotate 테스트")
+    class RotateTest {
+        @Test
+        @DisplayName("이전 세그먼트를 지우면 반영할 변경이 남지 않는다")
+        void rotateTest01() {
+            // given
+            var sut = new StockJournal(directory, 0);
+            sut.appendBegin(new StockJournalRecord(1L, 10L, 2));
+
+            // when
+            final Path previous = sut.rotate(Collections.emptyList());
+            sut.delete(List.of(previous));
+
+            // then
+            assertTrue(StockJournal.recover(sut.readPreviousSegmentList(), 0).isEmpty());
+        }
+
+        @Test
+        @DisplayName("넘기기 전에 쓴 기록은 넘길 때 이미 디스크에 남았으므로 sync가 닫힌 세그먼트를 건드리지 않는다")
+        void rotateTest02() {
+            // given
+            var sut = new StockJournal(directory, 0);
+            final long sequence = sut.appendBegin(new StockJournalRecord(1L, 10L, 2));
+            sut.rotate(Collections.emptyList());
+
+            // when
+            sut.sync(sequence);
+            final long next = sut.appendBegin(new StockJournalRecord(2L, 10L, 1));
+            sut.sync(next);
+            sut.close();
+
+            // then
+            assertTrue(next > sequence);
+            assertEquals(Map.of(10L, 3L), StockJournal.recover(new StockJournal(directory, 0).readPreviousSegmentList(), 0));
+        }
+    }
+}
@@ -0,0 +1,212 @@
+package store.juin.api.itemimage.thumbnail;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import store.juin.api.common.handler.CommandTransactional;
+import store.juin.api.item.model.entity.Item;
+import store.juin.api.item.service.query.ItemSnapshotCacheService;
+import store.juin.api.itemimage.enumeration.ItemImageStatus;
+import store.juin.api.itemimage.enumeration.ThumbnailJobStatus;
+import store.juin.api.itemimage.model.entity.ItemImage;
+import store.juin.api.itemimage.model.entity.ThumbnailJob;
+import store.juin.api.itemimage.repository.jpa.ItemImageRepository;
+import store.juin.api.itemimage.repository.jpa.ThumbnailJobRepository;
+import store.juin.api.upload.model.response.UploadedImage;
+import store.juin.api.upload.service.FileUploadService;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ThumbnailWorkerTest {
+    private static final int MAX_ATTEMPTS = 2;
+
+    private ThumbnailWorker sut;
+
+    @Spy
+    private CommandTransactional commandTransactional;
+
+    @Mock
+    private ThumbnailJobRepository thumbnailJobRepository;
+    @Mock
+    private ItemImageRepository itemImageRepository;
+    @Mock
+    private FileUploadService fileUploadService;
+    @Mock
+    private ItemSnapshotCacheService itemSnapshotCacheService;
+
+    @BeforeEach
+    void setUp() {
+        sut = new ThumbnailWorker(commandTransactional, thumbnailJobRepository, itemImageRepository,
+                fileUploadService, itemSnapshotCacheService, 1, 10, MAX_ATTEMPTS, 60_000, 1_000, new int[]{160, 400, 800}, 400, 50_000_000L);
+        sut.initialize();
+    }
+
+    @AfterEach
+    void tearDown() {
+        sut.shutdown();
+    }
+
+    @Nested
+    @DisplayName("poll 테스트")
+    class PollTest {
+        @Test
+        @DisplayName("너비별 썸네일을 만들면 이미지를 READY로 바꾸고 상품 캐시를 비운다")
+        void pollTest01() throws Exception {
+            // given
+            var job = makeJob(0, "cat");
+            var itemImage = makeItemImage();
+            givenPending(job);
+            given(itemImageRepository.findFirstByContentHashAndThumbnailTrueAndStatus("cat", ItemImageStatus.READY)).willReturn(Optional.empty());
+            given(fileUploadService.openOriginalImage("/original/cat.jpg")).willReturn(makeImageStream(1000, 500));
+            for (int width : new int[]{160, 400, 800}) {
+                given(fileUploadService.addThumbnailImage(eq("cat_" + width + ".jpg"), eq(width), any()))
+                        .willReturn(new UploadedImage().setName("cat_" + width + ".jpg").setImageUrl("/thumbnail/cat_" + width + ".jpg").setWidth(width));
+            }
+            given(itemImageRepository.findById(3L)).willReturn(Optional.of(itemImage));
+
+            // when
+            sut.poll();
+
+            // then
+            verify(itemSnapshotCacheService, timeout(1000)).evict(List.of(1L));
+            assertEquals(ThumbnailJobStatus.DONE, job.getStatus());
+            assertEquals(ItemImageStatus.READY, itemImage.getStatus());
+            assertEquals("/thumbnail/cat_400.jpg", itemImage.getImageUrl());
+            assertEquals("/thumbnail/cat_160.jpg 160w, /thumbnail/cat_400.jpg 400w, /thumbnail/cat_800.jpg 800w", itemImage.getSrcset());
+        }
+
+        @Test
+        @DisplayName("같은 내용의 썸네일이 이미 있으면 만들지 않고 같이 쓴다")
+        void pollTest02() throws Exception {
+            // given
+            var job = makeJob(0, "cat");
+            var itemImage = makeItemImage();
+            var readyThumbnail = ItemImage.builder()
+                    .name("cat_400.jpg")
+                    .originName("other.jpg")
+                    .imageUrl("/thumbnail/cat_400.jpg")
+                    .srcset("/thumbnail/cat_400.jpg 400w")
+                    .status(ItemImageStatus.READY)
+                    .build();
+            givenPending(job);
+            given(itemImageRepository.findFirstByContentHashAndThumbnailTrueAndStatus("cat", ItemImageStatus.READY)).willReturn(Optional.of(readyThumbnail));
+            given(itemImageRepository.findById(3L)).willReturn(Optional.of(itemImage));
+
+            // when
+            sut.poll();
+
+            // then
+            verify(itemSnapshotCacheService, timeout(1000)).evict(List.of(1L));
+            verify(fileUploadService, never()).openOriginalImage(anyString());
+            assertEquals(ItemImageStatus.READY, itemImage.getStatus());
+            assertEquals("/thumbnail/cat_400.jpg 400w", itemImage.getSrcset());
+        }
+
+        @Test
+        @DisplayName("실패하면 나중에 다시 꺼내도록 PENDING으로 돌린다")
+        void pollTest03() throws Exception {
+            // given
+            var job = makeJob(0, null);
+            givenPending(job);
+            given(fileUploadService.openOriginalImage(anyString())).willThrow(new IOException("not found"));
+
+            // when
+            sut.poll();
+
+            // then
+            awaitFinished(job);
+            assertEquals(ThumbnailJobStatus.PENDING, job.getStatus());
+            assertEquals("not found", job.getLastError());
+            assertTrue(job.getAvailableAt().isAfter(LocalDateTime.now()));
+        }
+
+        @Test
+        @DisplayName("시도 횟수를 다 쓰면 FAILED로 남긴다")
+        void pollTest04() throws Exception {
+            // given
+            var job = makeJob(MAX_ATTEMPTS - 1, null);
+            var itemImage = makeItemImage();
+            givenPending(job);
+            given(fileUploadService.openOriginalImage(anyString())).willThrow(new IOException("not found"));
+            given(itemImageRepository.findById(3L)).willReturn(Optional.of(itemImage));
+
+            // when
+            sut.poll();
+
+            // then
+            awaitFinished(job);
+            assertEquals(ThumbnailJobStatus.FAILED, job.getStatus());
+            assertEquals(ItemImageStatus.FAILED, itemImage.getStatus());
+        }
+    }
+
+    private void givenPending(ThumbnailJob job) {
+        given(thumbnailJobRepository.findAllByStatusAndAvailableAtLessThanEqualOrderByIdAsc(eq(ThumbnailJobStatus.PENDING), any(), any()))
+                .willReturn(List.of(job));
+        given(thumbnailJobRepository.findById(job.getId())).willReturn(Optional.of(job));
+    }
+
+    // 워커 스레드가 PROCESSING에서 다른 상태로 바꿀 때까지 기다린다.
+    private void awaitFinished(ThumbnailJob job) throws InterruptedException {
+        final long deadline = System.currentTimeMillis() + 1000;
+        while (job.getStatus() == ThumbnailJobStatus.PROCESSING && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private ByteArrayInputStream makeImageStream(int width, int height) throws IOException {
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "jpg", outputStream);
+        return new ByteArrayInputStream(outputStream.toByteArray());
+    }
+
+    private ThumbnailJob makeJob(int attemptCount, String contentHash) {
+        return ThumbnailJob.builder()
+                .id(7L)
+                .itemImageId(3L)
+                .sourceImageUrl("/original/cat.jpg")
+                .originName("cat.jpg")
+                .contentHash(contentHash)
+                .status(ThumbnailJobStatus.PENDING)
+                .attemptCount(attemptCount)
+                .availableAt(LocalDateTime.now())
+                .build();
+    }
+
+    private ItemImage makeItemImage() {
+        return ItemImage.builder()
+                .id(3L)
+                .name("cat.jpg")
+                .originName("cat.jpg")
+                .imageUrl("/original/cat.jpg")
+                .thumbnail(true)
+                .representative(true)
+                .status(ItemImageStatus.PENDING)
+                .item(Item.builder().id(1L).build())
+                .build();
+    }
+}
@@ -0,0 +1,109 @@
+package store.juin.api.itemimage.upload;
+
+import org.assertj.core.api.AbstractThrowableAssert;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+import store.juin.api.common.exception.JUINIOException;
+import store.juin.api.common.exception.Msg;
+import store.juin.api.item.model.entity.Item;
+import store.juin.api.itemcategory.model.request.ItemImageCreateRequest;
+import store.juin.api.itemimage.model.entity.ItemImage;
+import store.juin.api.upload.service.FileUploadService;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class ItemImageUploaderTest {
+    private ItemImageUploader sut;
+
+    @Mock
+    private FileUploadService fileUploadService;
+
+    private final Item item = Item.builder().id(1L).build();
+
+    @BeforeEach
+    void setUp() {
+        sut = new ItemImageUploader(fileUploadService, 3, 10, 1_000);
+        sut.initialize();
+    }
+
+    @AfterEach
+    void tearDown() {
+        sut.shutdown();
+    }
+
+    @Nested
+    @DisplayName("upload 테스트")
+    class UploadTest {
+        @Test
+        @DisplayName("동시에 올리고 요청한 순서대로 돌려준다")
+        void uploadTest01() throws Exception {
+            // given
+            var uploadList = List.of(makeUpload("a.jpg", true), makeUpload("b.jpg", false), makeUpload("c.jpg", false));
+            // 세 업로드가 모두 시작해야 하나라도 끝난다. 차례로 올리면 시간 초과로 실패한다.
+            var started = new CountDownLatch(3);
+            for (ItemImageUpload upload : uploadList) {
+                given(fileUploadService.addOriginalImage(eq(upload.getRequest()), any(), eq(item))).willAnswer(invocation -> {
+                    started.countDown();
+                    assertTrue(started.await(1, TimeUnit.SECONDS));
+                    return makeItemImage(upload.getRequest().getOriginImageName());
+                });
+            }
+
+            // when
+            final List<ItemImage> actual = sut.upload(uploadList, item);
+
+            // then
+            assertEquals(List.of("/original/a.jpg", "/original/b.jpg", "/original/c.jpg"),
+                    actual.stream().map(ItemImage::getImageUrl).collect(Collectors.toList()));
+        }
+
+        @Test
+        @DisplayName("하나라도 실패하면 예외, 이미 올린 파일은 다른 등록이 같이 쓸 수 있어 지우지 않는다")
+        void uploadTest02() {
+            // given
+            var success = makeUpload("a.jpg", true);
+            var failure = makeUpload("b.jpg", false);
+            given(fileUploadService.addOriginalImage(eq(success.getRequest()), any(), eq(item))).willReturn(makeItemImage("a.jpg"));
+            given(fileUploadService.addOriginalImage(eq(failure.getRequest()), any(), eq(item))).willThrow(new JUINIOException("s3 down"));
+
+            // when
+            final AbstractThrowableAssert<?, ? extends Throwable> actual =
+                    assertThatThrownBy(() -> sut.upload(List.of(success, failure), item));
+
+            // then
+            actual.isInstanceOf(JUINIOException.class).hasMessage(Msg.ITEM_IMAGE_UPLOAD_FAILED);
+            verify(fileUploadService, times(2)).addOriginalImage(any(), any(), eq(item));
+            verifyNoMoreInteractions(fileUploadService);
+        }
+    }
+
+    private ItemImageUpload makeUpload(String originName, boolean representative) {
+        return new ItemImageUpload(new ItemImageCreateRequest(originName, representative),
+                new MockMultipartFile("image", originName, "image/jpeg", new byte[0]));
+    }
+
+    private ItemImage makeItemImage(String originName) {
+        return new ItemImageCreateRequest(originName, false).toItemImage(item, originName, "/original/" + originName, "hash-" + originName, false);
+    }
+}
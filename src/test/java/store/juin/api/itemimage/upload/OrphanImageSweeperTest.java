@@ -0,0 +1,91 @@
+package store.juin.api.itemimage.upload;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import store.juin.api.common.handler.QueryTransactional;
+import store.juin.api.itemimage.repository.jpa.ItemImageRepository;
+import store.juin.api.upload.model.response.StoredImage;
+import store.juin.api.upload.service.FileUploadService;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class OrphanImageSweeperTest {
+    private static final long GRACE_PERIOD = 60_000L;
+
+    private OrphanImageSweeper sut;
+
+    @Spy
+    private QueryTransactional queryTransactional;
+
+    @Mock
+    private ItemImageRepository itemImageRepository;
+
+    @Mock
+    private FileUploadService fileUploadService;
+
+    @BeforeEach
+    void setUp() {
+        sut = new OrphanImageSweeper(queryTransactional, itemImageRepository, fileUploadService, 0, GRACE_PERIOD);
+    }
+
+    @Nested
+    @DisplayName("sweep 테스트")
+    class SweepTest {
+        @Test
+        @DisplayName("item_image가 가리키지 않는 파일만 지운다")
+        void sweepTest01() {
+            // given
+            var referenced = makeStoredImage("referenced");
+            var orphan = makeStoredImage("orphan");
+            given(fileUploadService.readAllContentImageBefore(any())).willReturn(List.of(referenced, orphan));
+            given(itemImageRepository.findAllReferencedContentHash(Set.of("referenced", "orphan"))).willReturn(Set.of("referenced"));
+            given(fileUploadService.removeContentImageIfNotModifiedSince(eq(orphan), any())).willReturn(true);
+
+            // when
+            final int actual = sut.sweep();
+
+            // then
+            assertEquals(1, actual);
+            verify(fileUploadService, never()).removeContentImageIfNotModifiedSince(eq(referenced), any());
+        }
+
+        @Test
+        @DisplayName("그 사이 다시 쓰인 파일은 지우지 못한 것으로 센다")
+        void sweepTest02() {
+            // given
+            var reused = makeStoredImage("reused");
+            given(fileUploadService.readAllContentImageBefore(any())).willReturn(List.of(reused));
+            given(itemImageRepository.findAllReferencedContentHash(Set.of("reused"))).willReturn(Set.of());
+            given(fileUploadService.removeContentImageIfNotModifiedSince(eq(reused), any())).willReturn(false);
+
+            // when
+            final int actual = sut.sweep();
+
+            // then
+            assertEquals(0, actual);
+        }
+    }
+
+    private StoredImage makeStoredImage(String contentHash) {
+        return new StoredImage()
+                .setLocation("/original/" + contentHash + ".jpg")
+                .setContentHash(contentHash)
+                .setLastModified(Instant.now().minusMillis(GRACE_PERIOD * 2));
+    }
+}
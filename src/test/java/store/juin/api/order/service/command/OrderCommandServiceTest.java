@@ -21,13 +21,17 @@ import store.juin.api.delivery.model.request.DeliveryReceiverRequest;
 import store.juin.api.delivery.service.DeliveryCommandService;
 import store.juin.api.item.enumeration.NotEnoughStockException;
 import store.juin.api.item.model.entity.Item;
+import store.juin.api.item.service.command.ItemCommandService;
 import store.juin.api.item.service.query.ItemQueryService;
+import store.juin.api.item.service.query.ItemSnapshotCacheService;
 import store.juin.api.order.enumeration.OrderStatus;
 import store.juin.api.order.model.entity.Order;
 import store.juin.api.order.model.request.OrderCreateRequest;
 import store.juin.api.order.model.response.OrderDeleteResponse;
 import store.juin.api.order.repository.jpa.OrderRepository;
+import store.juin.api.order.service.query.OrderCountCacheService;
 import store.juin.api.order.service.query.OrderQueryService;
+import store.juin.api.orderitem.model.entity.OrderItem;
 import store.juin.api.orderitem.service.command.OrderItemCommandService;
 
 import javax.persistence.EntityNotFoundException;
@@ -42,6 +46,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.willDoNothing;
+import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.*;
 import static store.juin.api.common.EntityUtil.makeAccount;
 
@@ -59,10 +64,16 @@ class OrderCommandServiceTest {
     @Mock
     private ItemQueryService itemQueryService;
     @Mock
+    private ItemSnapshotCacheService itemSnapshotCacheService;
+    @Mock
     private OrderQueryService orderQueryService;
     @Mock
+    private OrderCountCacheService orderCountCacheService;
+    @Mock
     private AddressQueryService addressQueryService;
 
+    @Mock
+    private ItemCommandService itemCommandService;
     @Mock
     private AddressCommandService addressCommandService;
     @Mock
@@ -106,7 +117,7 @@ class OrderCommandServiceTest {
             given(addressQueryService.readByAccountIdAndDefaultAddress(account.getId())).willReturn(address);
             willDoNothing().given(deliveryCommandService).add(any());
             given(itemQueryService.readAllByIdList(anyList())).willReturn(itemList);
-            willDoNothing().given(orderItemCommandService).add(any());
+            willDoNothing().given(orderItemCommandService).addAll(anyList());
             given(orderRepository.save(any())).willReturn(order);
 
             // when
@@ -117,6 +128,7 @@ class OrderCommandServiceTest {
             verify(deliveryCommandService, times(1)).add(any());
             verify(itemQueryService, times(1)).readAllByIdList(anyList());
             verify(orderRepository, times(1)).save(any());
+            verify(itemSnapshotCacheService, times(1)).evict(itemIdList);
         }
 
         @Test
@@ -150,7 +162,7 @@ class OrderCommandServiceTest {
             given(addressCommandService.addIfNull(account, request.getDeliveryAddress())).willReturn(address);
             willDoNothing().given(deliveryCommandService).add(any());
             given(itemQueryService.readAllByIdList(anyList())).willReturn(itemList);
-            willDoNothing().given(orderItemCommandService).add(any());
+            willDoNothing().given(orderItemCommandService).addAll(anyList());
             given(orderRepository.save(any())).willReturn(order);
 
             // when
@@ -215,17 +227,6 @@ class OrderCommandServiceTest {
             var itemIdList = new ArrayList<Long>();
             itemIdList.add(1L);
 
-            var itemList = new ArrayList<Item>();
-            var item = Item.builder()
-                    .id(1L)
-                    .name("name")
-                    .price(10000)
-                    .quantity(0)
-                    .soldCount(1)
-                    .build();
-            itemList.add(item);
-
-
             var request = new OrderCreateRequest()
                     .setCount(1)
                     .setDeliveryAddress(new AddressCreateRequest().setDefaultAddress(true))
@@ -234,17 +235,18 @@ class OrderCommandServiceTest {
                     .setItemIdList(itemIdList);
 
             var address = makeAddress();
-            var restQuantity = item.getQuantity() - request.getCount();
 
             given(addressQueryService.readByAccountIdAndDefaultAddress(account.getId())).willReturn(address);
-            willDoNothing().given(deliveryCommandService).add(any());
-            given(itemQueryService.readAllByIdList(anyList())).willReturn(itemList);
+            willThrow(new NotEnoughStockException(Msg.ITEM_NOT_ENOUGH_STOCK))
+                    .given(itemCommandService).removeQuantity(itemIdList, request.getCount());
 
             // when
             AbstractThrowableAssert<?, ? extends Throwable> actual = assertThatThrownBy(() -> sut.add(account, request));
 
             // then
-            actual.isInstanceOf(NotEnoughStockException.class).hasMessage("Need More Stock. Current Stock: " + restQuantity);
+            actual.isInstanceOf(NotEnoughStockException.class).hasMessage(Msg.ITEM_NOT_ENOUGH_STOCK);
+            verify(orderRepository, never()).save(any());
+            verify(itemSnapshotCacheService, never()).evict(anyList());
         }
     }
 
@@ -287,6 +289,30 @@ class OrderCommandServiceTest {
             // then
             actual.isInstanceOf(EntityNotFoundException.class).hasMessage(Msg.ORDER_NOT_FOUND);
         }
+
+        @Test
+        @DisplayName("주문 상품 재고를 되돌리고 상품 캐시를 비운다")
+        void cancelTest03() {
+            // given
+            var orderId = 1L;
+            var accountId = 1L;
+            Order order = Order.builder()
+                    .id(orderId)
+                    .delivery(Delivery.builder().build())
+                    .orderStatus(OrderStatus.ORDER).build();
+            var item = Item.builder().id(7L).build();
+            order.addOrderItem(OrderItem.createOrderItem(item, 2, 20000));
+
+            given(orderQueryService.readByIdAndAccountId(orderId, accountId)).willReturn(order);
+
+            // when
+            sut.cancel(orderId, accountId);
+
+            // then
+            assertEquals(OrderStatus.CANCEL, order.getOrderStatus());
+            verify(itemCommandService, times(1)).restoreQuantity(7L, 2);
+            verify(itemSnapshotCacheService, times(1)).evict(List.of(7L));
+        }
     }
 
     @Nested
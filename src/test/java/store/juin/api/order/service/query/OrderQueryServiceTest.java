@@ -1,5 +1,6 @@
 package store.juin.api.order.service.query;
 
+import org.assertj.core.api.AbstractThrowableAssert;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -9,19 +10,25 @@ import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import store.juin.api.common.exception.Msg;
 import store.juin.api.common.handler.QueryTransactional;
+import store.juin.api.common.model.response.CursorPage;
 import store.juin.api.order.model.entity.Order;
+import store.juin.api.order.model.request.OrderCountCondition;
 import store.juin.api.order.model.request.OrderRetrieveRequest;
 import store.juin.api.order.model.response.OrderJoinResponse;
 import store.juin.api.order.repository.jpa.OrderRepository;
+import store.juin.api.util.CursorUtil;
 
+import java.security.InvalidParameterException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.BDDMockito.given;
 import static store.juin.api.common.EntityUtil.makeAccount;
 
@@ -36,6 +43,9 @@ class OrderQueryServiceTest {
     @Mock
     private OrderRepository mockOrderRepository;
 
+    @Mock
+    private OrderCountCacheService mockOrderCountCacheService;
+
     @Nested
     @DisplayName("주문 상세 조회")
     class RetrieveTest {
@@ -51,10 +61,9 @@ class OrderQueryServiceTest {
 
             var orderJoinResponseList = new ArrayList<OrderJoinResponse>();
             orderJoinResponseList.add(new OrderJoinResponse());
-            var responsePage = new PageImpl<>(orderJoinResponseList);
 
             given(mockOrderRepository.findOrderJoinOrderItemJoinItemJoinItemImageByAccountId(account.getId(), request, pageRequest))
-                    .willReturn(Optional.of(responsePage));
+                    .willReturn(orderJoinResponseList);
 
             // when
             Page<OrderJoinResponse> actual = sut.readAll(account, request, pageRequest);
@@ -62,6 +71,27 @@ class OrderQueryServiceTest {
             // then
             assertEquals(orderJoinResponseList, actual.getContent());
         }
+
+        @Test
+        @DisplayName("다음 페이지가 있으면 count는 캐시 서비스에서 읽는다")
+        void readTest02() {
+            // given
+            var account = makeAccount("asdq13@#13$");
+            var request = new OrderRetrieveRequest();
+            var pageRequest = PageRequest.of(0, 1);
+
+            var orderJoinResponseList = List.of(new OrderJoinResponse());
+
+            given(mockOrderRepository.findOrderJoinOrderItemJoinItemJoinItemImageByAccountId(account.getId(), request, pageRequest))
+                    .willReturn(orderJoinResponseList);
+            given(mockOrderCountCacheService.count(OrderCountCondition.of(account.getId(), request))).willReturn(5L);
+
+            // when
+            Page<OrderJoinResponse> actual = sut.readAll(account, request, pageRequest);
+
+            // then
+            assertEquals(5L, actual.getTotalElements());
+        }
     }
 
     @Nested
@@ -83,6 +113,76 @@ class OrderQueryServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("주문 내역 커서 조회")
+    class RetrieveByCursorTest {
+        @Test
+        @DisplayName("다음 페이지가 있으면 마지막 row로 cursor를 만든다")
+        void readAllByCursorTest01() {
+            // given
+            var size = 2;
+            var account = makeAccount("asdq13@#13$");
+            var request = new OrderRetrieveRequest();
+
+            var fetchedList = List.of(
+                    makeOrderJoinResponse(3L, 30L),
+                    makeOrderJoinResponse(3L, 20L),
+                    makeOrderJoinResponse(2L, 10L)
+            );
+            given(mockOrderRepository.findOrderJoinOrderItemJoinItemJoinItemImageByAccountIdAndCursor(account.getId(), request, null, null, size + 1))
+                    .willReturn(fetchedList);
+
+            // when
+            CursorPage<OrderJoinResponse> actual = sut.readAllByCursor(account, request, "", size);
+
+            // then
+            assertEquals(fetchedList.subList(0, size), actual.getContent());
+            assertEquals(CursorUtil.encode(3L, 20L), actual.getNextCursor());
+        }
+
+        @Test
+        @DisplayName("cursor 다음부터 읽고 마지막 페이지면 nextCursor가 없다")
+        void readAllByCursorTest02() {
+            // given
+            var size = 2;
+            var account = makeAccount("asdq13@#13$");
+            var request = new OrderRetrieveRequest();
+            var cursor = CursorUtil.encode(3L, 20L);
+
+            var fetchedList = List.of(makeOrderJoinResponse(2L, 10L));
+            given(mockOrderRepository.findOrderJoinOrderItemJoinItemJoinItemImageByAccountIdAndCursor(account.getId(), request, 3L, 20L, size + 1))
+                    .willReturn(fetchedList);
+
+            // when
+            CursorPage<OrderJoinResponse> actual = sut.readAllByCursor(account, request, cursor, size);
+
+            // then
+            assertEquals(fetchedList, actual.getContent());
+            assertNull(actual.getNextCursor());
+        }
+
+        @Test
+        @DisplayName("올바르지 않은 cursor")
+        void readAllByCursorTest03() {
+            // given
+            var account = makeAccount("asdq13@#13$");
+            var request = new OrderRetrieveRequest();
+
+            // when
+            final AbstractThrowableAssert<?, ? extends Throwable> actual =
+                    assertThatThrownBy(() -> sut.readAllByCursor(account, request, "not-a-cursor", 10));
+
+            // then
+            actual.isInstanceOf(InvalidParameterException.class).hasMessage(Msg.INVALID_CURSOR);
+        }
+    }
+
+    private OrderJoinResponse makeOrderJoinResponse(Long ordersId, Long itemId) {
+        return new OrderJoinResponse()
+                .setOrdersId(ordersId)
+                .setItemId(itemId);
+    }
+
     private Order makeOrder() {
         return Order.builder()
                 .id(22L)
@@ -0,0 +1,185 @@
+package store.juin.api.orderitem.repository.jdbc;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+import store.juin.api.account.enumeration.AccountRole;
+import store.juin.api.account.model.entity.Account;
+import store.juin.api.account.repository.jpa.AccountRepository;
+import store.juin.api.address.model.entity.Address;
+import store.juin.api.address.repository.jpa.AddressRepository;
+import store.juin.api.category.model.entity.Category;
+import store.juin.api.category.repository.jpa.CategoryRepository;
+import store.juin.api.common.QueryCountListener;
+import store.juin.api.delivery.model.entity.Delivery;
+import store.juin.api.delivery.model.entity.DeliveryReceiver;
+import store.juin.api.delivery.repository.jpa.DeliveryRepository;
+import store.juin.api.item.enumeration.ItemStatus;
+import store.juin.api.item.model.entity.Item;
+import store.juin.api.item.repository.jpa.ItemRepository;
+import store.juin.api.order.model.entity.Order;
+import store.juin.api.order.repository.jpa.OrderRepository;
+import store.juin.api.orderitem.model.entity.OrderItem;
+import store.juin.api.orderitem.repository.jpa.OrderItemRepository;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 주문 상품 N개를 건건이 save 할 때(기존)와 JDBC 배치로 넣을 때의 쿼리 수, 시간을 비교한다.
+ * 로컬 MySQL이 필요하다. (ApiApplicationTests와 동일)
+ */
+@Transactional
+@SpringBootTest
+@ActiveProfiles("local")
+@Import(QueryCountListener.class)
+class OrderItemBatchInsertBenchmarkTest {
+    private static final Logger log = LoggerFactory.getLogger(OrderItemBatchInsertBenchmarkTest.class);
+
+    private static final int MAX_LINE_COUNT = 50;
+    private static final int REPEAT = 20;
+
+    @Autowired
+    private OrderItemRepository orderItemRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private AddressRepository addressRepository;
+
+    @Autowired
+    private DeliveryRepository deliveryRepository;
+
+    @Autowired
+    private QueryCountListener queryCountListener;
+
+    @PersistenceContext
+    private EntityManager em;
+
+    private Account account;
+
+    private Address address;
+
+    private final List<Item> itemList = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        final String suffix = UUID.randomUUID().toString().substring(0, 8);
+        account = accountRepository.save(Account.builder()
+                .identification("bench" + suffix)
+                .email("bench" + suffix + "@juin.store")
+                .passwordHash("passwordHash")
+                .name("벤치")
+                .phoneNumber("010-0000-0000")
+                .accountRole(AccountRole.USER)
+                .lastLogin(LocalDateTime.now())
+                .build());
+
+        address = addressRepository.save(Address.builder()
+                .account(account)
+                .zipCode(12345)
+                .city("서울시")
+                .street("벤치마크")
+                .defaultAddress(true)
+                .build());
+
+        final Category category = categoryRepository.save(Category.builder().categoryName("order-item-bench").depth(1L).build());
+        for (int i = 0; i < MAX_LINE_COUNT; i++) {
+            itemList.add(itemRepository.save(Item.builder()
+                    .name("order-item-bench-" + i)
+                    .price(1000)
+                    .quantity(1000)
+                    .soldCount(0)
+                    .description("description")
+                    .itemStatus(ItemStatus.READY)
+                    .category(category)
+                    .build()));
+        }
+
+        em.flush();
+        em.clear();
+    }
+
+    @ParameterizedTest(name = "주문 상품 {0}개")
+    @ValueSource(ints = {1, 10, 50})
+    @DisplayName("건건이 save 할 때와 배치 INSERT 할 때 비교")
+    void benchmark(int lineCount) {
+        // 기존: 주문 상품마다 INSERT
+        final Result before = this.measure(lineCount, orderItemList -> orderItemList.forEach(orderItemRepository::save));
+
+        // 변경: 주문 상품 수와 상관없이 배치 INSERT 한 번
+        final Result after = this.measure(lineCount, orderItemRepository::insertAll);
+
+        log.info("[P9][TEST][ORIT][BNCH]: lines=({}), before=({} queries, {}us/order), after=({} queries, {}us/order)",
+                lineCount, before.queryCount, before.micros, after.queryCount, after.micros);
+
+        assertEquals(lineCount, before.queryCount);
+        assertEquals(1, after.queryCount);
+    }
+
+    private Result measure(int lineCount, Consumer<List<OrderItem>> saver) {
+        long totalNanos = 0;
+        long queryCount = 0;
+
+        for (int i = 0; i < REPEAT; i++) {
+            final Delivery delivery = deliveryRepository.save(Delivery.createDelivery(
+                    DeliveryReceiver.builder().receiverName("벤치").receiverPhoneNumber("010-0000-0000").receiverEmail("bench@juin.store").build(),
+                    address));
+            final Order order = orderRepository.save(Order.createOrder(account, delivery));
+
+            final List<OrderItem> orderItemList = new ArrayList<>();
+            for (Item item : itemList.subList(0, lineCount)) {
+                final OrderItem orderItem = OrderItem.createOrderItem(item, 1, item.getPrice());
+                order.addOrderItem(orderItem);
+                orderItemList.add(orderItem);
+            }
+
+            queryCountListener.reset();
+            final long start = System.nanoTime();
+            saver.accept(orderItemList);
+            em.flush();
+            totalNanos += System.nanoTime() - start;
+            queryCount = queryCountListener.getCount();
+
+            em.clear();
+        }
+
+        return new Result(queryCount, TimeUnit.NANOSECONDS.toMicros(totalNanos / REPEAT));
+    }
+
+    private static class Result {
+        private final long queryCount;
+        private final long micros;
+
+        private Result(long queryCount, long micros) {
+            this.queryCount = queryCount;
+            this.micros = micros;
+        }
+    }
+}
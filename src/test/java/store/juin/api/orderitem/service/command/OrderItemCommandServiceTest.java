@@ -13,6 +13,7 @@ import store.juin.api.orderitem.model.entity.OrderItem;
 import store.juin.api.orderitem.repository.jpa.OrderItemRepository;
 
 import java.util.ArrayList;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.BDDMockito.given;
@@ -70,6 +71,23 @@ class OrderItemCommandServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("addAll 테스트")
+    class AddAllTest {
+        @Test
+        @DisplayName("주문 상품을 한 번에 저장한다")
+        void addAllTest01() {
+            // given
+            var orderItemList = List.of(makeOrderItem(), makeOrderItem());
+
+            // when
+            sut.addAll(orderItemList);
+
+            // then
+            verify(orderItemRepository, times(1)).insertAll(orderItemList);
+        }
+    }
+
     private OrderItem makeOrderItem() {
         return OrderItem.builder()
                 .id(1L)
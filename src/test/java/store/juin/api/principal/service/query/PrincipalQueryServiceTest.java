@@ -0,0 +1,88 @@
+package store.juin.api.principal.service.query;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import store.juin.api.account.model.entity.Account;
+import store.juin.api.account.model.response.AccountSnapshot;
+import store.juin.api.account.service.query.AccountQueryService;
+import store.juin.api.account.service.query.AccountSnapshotCacheService;
+import store.juin.api.common.handler.QueryTransactional;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static store.juin.api.common.EntityUtil.makeAccount;
+
+@ExtendWith(MockitoExtension.class)
+class PrincipalQueryServiceTest {
+    @InjectMocks
+    private PrincipalQueryService sut;
+
+    @Spy
+    private QueryTransactional queryTransactional;
+
+    @Mock
+    private AccountQueryService accountQueryService;
+
+    @Mock
+    private AccountSnapshotCacheService accountSnapshotCacheService;
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Nested
+    @DisplayName("readByPrincipal 테스트")
+    class ReadByPrincipalTest {
+        @Test
+        @DisplayName("스냅샷의 id로 계정 프록시를 준다")
+        void readByPrincipalTest01() {
+            // given
+            var account = makeAccount("passwordHash");
+            var principal = new UsernamePasswordAuthenticationToken(account.getIdentification(), "");
+            given(accountSnapshotCacheService.readByIdentification(account.getIdentification()))
+                    .willReturn(AccountSnapshot.from(account));
+            given(accountQueryService.readReferenceById(account.getId())).willReturn(account);
+
+            // when
+            final Account actual = sut.readByPrincipal(principal);
+
+            // then
+            assertSame(account, actual);
+        }
+
+        @Test
+        @DisplayName("같은 요청에서는 한 번만 찾는다")
+        void readByPrincipalTest02() {
+            // given
+            RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+
+            var account = makeAccount("passwordHash");
+            var principal = new UsernamePasswordAuthenticationToken(account.getIdentification(), "");
+            given(accountSnapshotCacheService.readByIdentification(account.getIdentification()))
+                    .willReturn(AccountSnapshot.from(account));
+            given(accountQueryService.readReferenceById(account.getId())).willReturn(account);
+
+            // when
+            sut.readByPrincipal(principal);
+            final Account actual = sut.readByPrincipal(principal);
+
+            // then
+            assertSame(account, actual);
+            verify(accountSnapshotCacheService, times(1)).readByIdentification(account.getIdentification());
+        }
+    }
+}
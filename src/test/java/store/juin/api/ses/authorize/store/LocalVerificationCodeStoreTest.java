@@ -0,0 +1,75 @@
+package store.juin.api.ses.authorize.store;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class LocalVerificationCodeStoreTest {
+    private static final String EMAIL = "junsu0325@naver.com";
+
+    private final LocalVerificationCodeStore sut = new LocalVerificationCodeStore(300_000, 3, 100);
+
+    @Nested
+    @DisplayName("verify 테스트")
+    class VerifyTest {
+        @Test
+        @DisplayName("맞으면 통과하고 같은 번호는 다시 못 쓴다")
+        void verifyTest01() {
+            // given
+            sut.save(EMAIL, "a1B2c3D4e5");
+
+            // when
+            final VerificationResult actual = sut.verify(EMAIL, "a1B2c3D4e5");
+
+            // then
+            assertEquals(VerificationResult.MATCHED, actual);
+            assertEquals(VerificationResult.NOT_REQUESTED, sut.verify(EMAIL, "a1B2c3D4e5"));
+        }
+
+        @Test
+        @DisplayName("발급하지 않은 이메일")
+        void verifyTest02() {
+            // when
+            final VerificationResult actual = sut.verify(EMAIL, "a1B2c3D4e5");
+
+            // then
+            assertEquals(VerificationResult.NOT_REQUESTED, actual);
+        }
+
+        @Test
+        @DisplayName("시도 횟수를 넘기면 맞는 번호여도 거절하고 번호를 지운다")
+        void verifyTest03() {
+            // given
+            sut.save(EMAIL, "a1B2c3D4e5");
+            for (int i = 0; i < 3; i++) {
+                assertEquals(VerificationResult.MISMATCHED, sut.verify(EMAIL, "wrong"));
+            }
+
+            // when
+            final VerificationResult actual = sut.verify(EMAIL, "a1B2c3D4e5");
+
+            // then
+            assertEquals(VerificationResult.TOO_MANY_ATTEMPTS, actual);
+            assertEquals(VerificationResult.NOT_REQUESTED, sut.verify(EMAIL, "a1B2c3D4e5"));
+        }
+
+        @Test
+        @DisplayName("다시 발급하면 시도 횟수도 처음부터 센다")
+        void verifyTest04() {
+            // given
+            sut.save(EMAIL, "a1B2c3D4e5");
+            sut.verify(EMAIL, "wrong");
+            sut.verify(EMAIL, "wrong");
+            sut.verify(EMAIL, "wrong");
+            sut.save(EMAIL, "f6G7h8I9j0");
+
+            // when
+            final VerificationResult actual = sut.verify(EMAIL, "f6G7h8I9j0");
+
+            // then
+            assertEquals(VerificationResult.MATCHED, actual);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package store.juin.api.ses.email.dispatch;
+
+import com.amazonaws.AmazonServiceException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import store.juin.api.ses.email.exception.EmailQueueFullException;
+import store.juin.api.ses.email.model.request.EmailRequest;
+import store.juin.api.ses.email.service.EmailService;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class EmailDispatcherTest {
+    private EmailDispatcher sut;
+
+    @Mock
+    private EmailService emailService;
+
+    @AfterEach
+    void tearDown() {
+        if (sut != null) sut.shutdown();
+    }
+
+    @Nested
+    @DisplayName("send 테스트")
+    class SendTest {
+        @Test
+        @DisplayName("큐에 넣고 바로 job id를 돌려준다")
+        void sendTest01() {
+            // given
+            sut = new EmailDispatcher(emailService, 10, 1, 3, 1, 10);
+            sut.initialize();
+            var request = makeRequest();
+
+            // when
+            final String actual = sut.send(request);
+
+            // then
+            assertNotNull(actual);
+            verify(emailService, timeout(1000)).send(request);
+        }
+
+        @Test
+        @DisplayName("큐가 가득 차면 기다리지 않고 거절한다")
+        void sendTest02() {
+            // given
+            sut = new EmailDispatcher(emailService, 1, 1, 3, 1, 10);
+            sut.send(makeRequest());
+
+            // when, then
+            assertThrows(EmailQueueFullException.class, () -> sut.send(makeRequest()));
+            assertEquals(1, sut.readStats().getRejectedCount());
+        }
+
+        @Test
+        @DisplayName("실패하면 backoff 후 다시 보낸다")
+        void sendTest03() {
+            // given
+            sut = new EmailDispatcher(emailService, 10, 1, 3, 1, 10);
+            var request = makeRequest();
+            given(emailService.send(request))
+                    .willThrow(new IllegalStateException("timeout"))
+                    .willReturn("messageId");
+            sut.initialize();
+
+            // when
+            sut.send(request);
+
+            // then
+            verify(emailService, timeout(1000).times(2)).send(request);
+        }
+
+        @Test
+        @DisplayName("재시도할 수 없는 오류면 한 번만 보낸다")
+        void sendTest04() throws Exception {
+            // given
+            sut = new EmailDispatcher(emailService, 10, 1, 3, 1, 10);
+            final AmazonServiceException rejected = new AmazonServiceException("MessageRejected");
+            rejected.setStatusCode(400);
+            given(emailService.send(any())).willThrow(rejected);
+            sut.initialize();
+
+            // when
+            sut.send(makeRequest());
+
+            // then
+            verify(emailService, timeout(1000)).send(any());
+            Thread.sleep(50);
+            verify(emailService, times(1)).send(any());
+            assertEquals(1, sut.readStats().getFailedCount());
+        }
+
+        @Test
+        @DisplayName("SES가 400 Throttling으로 거절하면 다시 보낸다")
+        void sendTest05() {
+            // given
+            sut = new EmailDispatcher(emailService, 10, 1, 3, 1, 10);
+            final AmazonServiceException throttled = new AmazonServiceException("Maximum sending rate exceeded.");
+            throttled.setStatusCode(400);
+            throttled.setErrorCode("Throttling");
+            var request = makeRequest();
+            given(emailService.send(request))
+                    .willThrow(throttled)
+                    .willReturn("messageId");
+            sut.initialize();
+
+            // when
+            sut.send(request);
+
+            // then
+            verify(emailService, timeout(1000).times(2)).send(request);
+        }
+    }
+
+    private EmailRequest makeRequest() {
+        return new EmailRequest()
+                .setToEmail("junsu0325@naver.com")
+                .setTitle("[JUIN.STORE] 비밀번호 변경 메일")
+                .setContent("123456");
+    }
+}
@@ -0,0 +1,190 @@
+package store.juin.api.token.jwt;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import store.juin.api.account.enumeration.AccountRole;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static store.juin.api.util.TimeUtil.ONE_HOUR;
+
+class JwtKeyringTest {
+    private static final String SECRET = "SlotZUNvbW1lcmNlSlotZUNvbW1lcmNlSlotZUNvbW1lcmNlSlotZUNvbW1lcmNlSlotZUNvbW1lcmNlSlotZUNvbW1lcmNlSlotZUNvbW1lcmNlSlotZUNvbW1lcmNl";
+    private static final String NEXT_SECRET = "a2tra2tra2tra2tra2tra2tra2tra2tra2tra2tra2tra2tra2tra2tra2tra2tra2tra2tra2tra2tra2traw==";
+
+    @TempDir
+    Path tempDir;
+
+    @Nested
+    @DisplayName("reload 테스트")
+    class ReloadTest {
+        @Test
+        @DisplayName("파일이 없으면 jwt.secret만 default로 쓴다")
+        void reloadTest01() {
+            // given
+            var sut = new JwtKeyring(SECRET, "", 0, true);
+
+            // when, then
+            assertEquals(JwtKeyring.DEFAULT_KID, sut.getActiveKey().getKid());
+            assertNotNull(sut.findKey(null));
+            assertNull(sut.findKey("2026-10"));
+        }
+
+        @Test
+        @DisplayName("파일이 바뀌면 재시작 없이 active kid가 바뀐다")
+        void reloadTest02() throws Exception {
+            // given
+            final Path path = tempDir.resolve("jwt-keyring.properties");
+            write(path, "active=default\n", 1_000L);
+            var sut = new JwtKeyring(SECRET, path.toString(), 0, true);
+
+            write(path, "active=2026-10\nkey.2026-10=" + NEXT_SECRET + "\n", 2_000L);
+
+            // when
+            sut.reload();
+
+            // then
+            assertEquals("2026-10", sut.getActiveKey().getKid());
+            assertEquals(sut.findKey("2026-10"), sut.getActiveKey().getKey());
+            assertNotNull(sut.findKey(JwtKeyring.DEFAULT_KID));
+        }
+
+        @Test
+        @DisplayName("active kid에 키가 없으면 이전 키 표를 유지한다")
+        void reloadTest03() throws Exception {
+            // given
+            final Path path = tempDir.resolve("jwt-keyring.properties");
+            write(path, "active=2026-10\nkey.2026-10=" + NEXT_SECRET + "\n", 1_000L);
+            var sut = new JwtKeyring(SECRET, path.toString(), 0, true);
+
+            write(path, "active=2027-04\n", 2_000L);
+
+            // when
+            sut.reload();
+
+            // then
+            assertEquals("2026-10", sut.getActiveKey().getKid());
+        }
+
+        @Test
+        @DisplayName("키 파일에서 legacy 키를 끄면 다시 읽을 때 default 키를 뺀다")
+        void reloadTest04() throws Exception {
+            // given
+            final Path path = tempDir.resolve("jwt-keyring.properties");
+            write(path, "active=2026-10\nkey.2026-10=" + NEXT_SECRET + "\n", 1_000L);
+            var sut = new JwtKeyring(SECRET, path.toString(), 0, true);
+
+            write(path, "active=2026-10\nkey.2026-10=" + NEXT_SECRET + "\nlegacy-key-enabled=false\n", 2_000L);
+
+            // when
+            sut.reload();
+
+            // then
+            assertNull(sut.findKey(JwtKeyring.DEFAULT_KID));
+            assertNull(sut.findKey(null));
+            assertNotNull(sut.findKey("2026-10"));
+        }
+
+        @Test
+        @DisplayName("legacy 키를 껐는데 키 파일이 없으면 시작하지 않는다")
+        void reloadTest05() {
+            // when, then
+            assertThrows(IllegalStateException.class, () -> new JwtKeyring(SECRET, "", 0, false));
+        }
+    }
+
+    @Nested
+    @DisplayName("TokenProvider 키 교체 테스트")
+    class RotationTest {
+        @Test
+        @DisplayName("새 키로 바꿔도 이전 키로 발급된 토큰은 계속 검증된다")
+        void rotationTest01() throws Exception {
+            // given
+            final Path path = tempDir.resolve("jwt-keyring.properties");
+            write(path, "active=default\n", 1_000L);
+            var keyring = new JwtKeyring(SECRET, path.toString(), 0, true);
+            var tokenProvider = new TokenProvider(keyring);
+            var oldToken = tokenProvider.createToken("junsu0325", 9L, AccountRole.USER, ONE_HOUR);
+
+            write(path, "active=2026-10\nkey.2026-10=" + NEXT_SECRET + "\n", 2_000L);
+            keyring.reload();
+
+            // when
+            var newToken = tokenProvider.createToken("junsu0325", 9L, AccountRole.USER, ONE_HOUR);
+
+            // then
+            assertEquals("junsu0325", tokenProvider.getClaimsFromToken(oldToken).getSubject());
+            assertEquals("junsu0325", tokenProvider.getClaimsFromToken(newToken).getSubject());
+        }
+
+        @Test
+        @DisplayName("키 표에서 뺀 키로 서명된 토큰은 캐시에 있어도 거절한다")
+        void rotationTest02() throws Exception {
+            // given
+            final Path path = tempDir.resolve("jwt-keyring.properties");
+            write(path, "active=2026-10\nkey.2026-10=" + NEXT_SECRET + "\n", 1_000L);
+            var keyring = new JwtKeyring(SECRET, path.toString(), 0, true);
+            var tokenProvider = new TokenProvider(keyring);
+            var token = tokenProvider.createToken("junsu0325", 9L, AccountRole.USER, ONE_HOUR);
+            tokenProvider.getClaimsFromToken(token);
+
+            write(path, "active=default\n", 2_000L);
+            keyring.reload();
+
+            // when, then
+            assertThrows(SignatureException.class, () -> tokenProvider.getClaimsFromToken(token));
+        }
+
+        @Test
+        @DisplayName("kid가 없는 예전 토큰은 default 키로 검증한다")
+        void rotationTest03() {
+            // given
+            var tokenProvider = new TokenProvider(new JwtKeyring(SECRET, "", 0, true));
+            var legacyToken = Jwts.builder()
+                    .setSubject("junsu0325")
+                    .setExpiration(new Date(System.currentTimeMillis() + ONE_HOUR))
+                    .signWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET)), SignatureAlgorithm.HS512)
+                    .compact();
+
+            // when, then
+            assertEquals("junsu0325", tokenProvider.getClaimsFromToken(legacyToken).getSubject());
+        }
+
+        @Test
+        @DisplayName("legacy 키를 끄면 kid가 없는 예전 토큰은 거절한다")
+        void rotationTest04() throws Exception {
+            // given
+            final Path path = tempDir.resolve("jwt-keyring.properties");
+            write(path, "active=2026-10\nkey.2026-10=" + NEXT_SECRET + "\n", 1_000L);
+            var tokenProvider = new TokenProvider(new JwtKeyring(SECRET, path.toString(), 0, false));
+            var legacyToken = Jwts.builder()
+                    .setSubject("junsu0325")
+                    .setExpiration(new Date(System.currentTimeMillis() + ONE_HOUR))
+                    .signWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET)), SignatureAlgorithm.HS512)
+                    .compact();
+
+            // when, then
+            assertThrows(SignatureException.class, () -> tokenProvider.getClaimsFromToken(legacyToken));
+        }
+    }
+
+    // 수정 시각으로 변경을 알아채므로 시각을 직접 정한다.
+    private void write(Path path, String content, long lastModified) throws Exception {
+        Files.writeString(path, content);
+        Files.setLastModifiedTime(path, FileTime.fromMillis(lastModified));
+    }
+}
@@ -0,0 +1,57 @@
+package store.juin.api.token.jwt;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PublicRouteTableTest {
+    private final PublicRouteTable sut = new PublicRouteTable(List.of(
+            "/api/items/**",
+            "/api/categories",
+            "/api/reviews/*/summary"
+    ));
+
+    @Nested
+    @DisplayName("isPublic 테스트")
+    class IsPublicTest {
+        @Test
+        @DisplayName("** 패턴은 하위 경로와 자기 자신을 모두 연다")
+        void isPublicTest01() {
+            assertTrue(sut.isPublic("GET", "/api/items"));
+            assertTrue(sut.isPublic("GET", "/api/items/3"));
+            assertTrue(sut.isPublic("GET", "/api/items/search/count"));
+        }
+
+        @Test
+        @DisplayName("리터럴과 * 패턴은 세그먼트 수까지 맞아야 한다")
+        void isPublicTest02() {
+            assertTrue(sut.isPublic("GET", "/api/categories"));
+            assertTrue(sut.isPublic("HEAD", "/api/reviews/12/summary"));
+            assertFalse(sut.isPublic("GET", "/api/categories/1"));
+            assertFalse(sut.isPublic("GET", "/api/reviews/12"));
+            assertFalse(sut.isPublic("GET", "/api/reviews/12/summary/all"));
+        }
+
+        @Test
+        @DisplayName("조회가 아닌 요청이나 등록되지 않은 경로는 막는다")
+        void isPublicTest03() {
+            assertFalse(sut.isPublic("POST", "/api/items/3"));
+            assertFalse(sut.isPublic("DELETE", "/api/categories"));
+            assertFalse(sut.isPublic("GET", "/api/carts"));
+            assertFalse(sut.isPublic("GET", "/api/admin/items"));
+        }
+
+        @Test
+        @DisplayName("캐시된 판정은 같은 템플릿의 다른 id에도 그대로 쓴다")
+        void isPublicTest04() {
+            assertTrue(sut.isPublic("GET", "/api/reviews/1/summary"));
+            assertTrue(sut.isPublic("GET", "/api/reviews/2/summary"));
+            assertFalse(sut.isPublic("POST", "/api/reviews/2/summary"));
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package store.juin.api.token.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import store.juin.api.account.enumeration.AccountRole;
+
+import java.security.Key;
+import java.util.concurrent.TimeUnit;
+
+import static store.juin.api.util.TimeUtil.ONE_HOUR;
+
+/**
+ * 같은 엑세스 토큰을 요청마다 검증할 때(기존)와 검증 결과를 캐시할 때를 비교한다.
+ * JUnit 테스트가 아니라서 빌드 시 돌지 않는다. main으로 직접 실행.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TokenProviderBenchmark {
+    private static final String SECRET = "SlotZUNvbW1lcmNlSlotZUNvbW1lcmNlSlotZUNvbW1lcmNlSlotZUNvbW1lcmNlSlotZUNvbW1lcmNlSlotZUNvbW1lcmNlSlotZUNvbW1lcmNlSlotZUNvbW1lcmNl";
+
+    private Key secretKey;
+    private TokenProvider tokenProvider;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        secretKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET));
+        tokenProvider = new TokenProvider(new JwtKeyring(SECRET, "", 0, true));
+        accessToken = tokenProvider.createToken("junsu0325", 9L, AccountRole.USER, ONE_HOUR);
+    }
+
+    // 기존: 요청마다 parser를 만들고 HMAC-SHA512 서명을 검증
+    @Benchmark
+    public Claims verifyPerRequest() {
+        return Jwts.parserBuilder().setSigningKey(secretKey).build()
+                .parseClaimsJws(accessToken)
+                .getBody();
+    }
+
+    // 변경: 검증된 토큰은 digest로 캐시에서 꺼낸다.
+    @Benchmark
+    public Claims cached() {
+        return tokenProvider.getClaimsFromToken(accessToken);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(TokenProviderBenchmark.class.getSimpleName())
+                .build()
+        ).run();
+    }
+}
@@ -0,0 +1,128 @@
+package store.juin.api.token.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.security.SignatureException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import store.juin.api.account.enumeration.AccountRole;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static store.juin.api.util.TimeUtil.ONE_HOUR;
+
+class TokenProviderTest {
+    private static final String SECRET = "SlotZUNvbW1lcmNlSlotZUNvbW1lcmNlSlotZUNvbW1lcmNlSlotZUNvbW1lcmNlSlotZUNvbW1lcmNlSlotZUNvbW1lcmNlSlotZUNvbW1lcmNlSlotZUNvbW1lcmNl";
+
+    private final TokenProvider sut = new TokenProvider(new JwtKeyring(SECRET, "", 0, true));
+
+    @Nested
+    @DisplayName("getClaimsFromToken 테스트")
+    class GetClaimsFromTokenTest {
+        @Test
+        @DisplayName("claim을 읽는다")
+        void getClaimsFromTokenTest01() {
+            // given
+            var token = sut.createToken("junsu0325", 9L, AccountRole.USER, ONE_HOUR);
+
+            // when
+            final Claims actual = sut.getClaimsFromToken(token);
+
+            // then
+            assertEquals("junsu0325", actual.getSubject());
+            assertEquals(9L, actual.get(TokenMessage.ACCOUNT_ID_CLAIM, Long.class));
+            assertEquals(AccountRole.USER.name(), actual.get(TokenMessage.ROLE_CLAIM, String.class));
+        }
+
+        @Test
+        @DisplayName("같은 토큰은 다시 검증하지 않고 캐시된 claim을 준다")
+        void getClaimsFromTokenTest02() {
+            // given
+            var token = sut.createToken("junsu0325", 9L, AccountRole.USER, ONE_HOUR);
+            var expected = sut.getClaimsFromToken(token);
+
+            // when
+            final Claims actual = sut.getClaimsFromToken(token);
+
+            // then
+            assertSame(expected, actual);
+        }
+
+        @Test
+        @DisplayName("검증된 토큰을 변조하면 예외")
+        void getClaimsFromTokenTest03() {
+            // given
+            var token = sut.createToken("junsu0325", 9L, AccountRole.USER, ONE_HOUR);
+            sut.getClaimsFromToken(token);
+
+            final String signature = token.substring(token.lastIndexOf('.') + 1);
+            final char last = signature.charAt(0) == 'A' ? 'B' : 'A';
+            var tampered = token.substring(0, token.lastIndexOf('.') + 1) + last + signature.substring(1);
+
+            // when, then
+            assertThrows(SignatureException.class, () -> sut.getClaimsFromToken(tampered));
+        }
+
+        @Test
+        @DisplayName("만료된 토큰이면 예외")
+        void getClaimsFromTokenTest04() {
+            // given
+            var token = sut.createToken("junsu0325", 9L, AccountRole.USER, -ONE_HOUR);
+
+            // when, then
+            assertThrows(ExpiredJwtException.class, () -> sut.getClaimsFromToken(token));
+        }
+    }
+
+    @Nested
+    @DisplayName("isValidToken 테스트")
+    class IsValidTokenTest {
+        @Test
+        @DisplayName("유효한 토큰")
+        void isValidTokenTest01() {
+            // given
+            var token = sut.createToken("junsu0325", ONE_HOUR);
+
+            // when
+            final boolean actual = sut.isValidToken(token);
+
+            // then
+            assertTrue(actual);
+        }
+
+        @Test
+        @DisplayName("만료된 토큰")
+        void isValidTokenTest02() {
+            // given
+            var token = sut.createToken("junsu0325", -ONE_HOUR);
+
+            // when
+            final boolean actual = sut.isValidToken(token);
+
+            // then
+            assertFalse(actual);
+        }
+    }
+
+    @Nested
+    @DisplayName("createToken(리프레시) 테스트")
+    class CreateRefreshTokenTest {
+        @Test
+        @DisplayName("같은 초에 발급해도 토큰이 다르다")
+        void createRefreshTokenTest01() {
+            // given
+            var before = sut.createToken("junsu0325", ONE_HOUR);
+
+            // when
+            final String actual = sut.createToken("junsu0325", ONE_HOUR);
+
+            // then
+            assertNotEquals(before, actual);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package store.juin.api.token.jwt;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.util.AntPathMatcher;
+import store.juin.api.account.enumeration.AccountRole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static store.juin.api.util.TimeUtil.ONE_HOUR;
+
+/**
+ * 로그인한 사용자가 공개 조회 경로(/api/items/{id})를 부를 때 필터 한 번의 비용을 비교한다.
+ * - 기존: 토큰 파싱 + 인증 객체 생성, 공개 경로 판정은 ant 패턴을 앞에서부터 하나씩
+ * - 변경: 트라이 판정(캐시) 후 바로 다음 필터로
+ * JUnit 테스트가 아니라서 빌드 시 돌지 않는다. main으로 직접 실행.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TokenRequestFilterBenchmark {
+    private static final String SECRET = "SlotZUNvbW1lcmNlSlotZUNvbW1lcmNlSlotZUNvbW1lcmNlSlotZUNvbW1lcmNlSlotZUNvbW1lcmNlSlotZUNvbW1lcmNlSlotZUNvbW1lcmNlSlotZUNvbW1lcmNl";
+    private static final String PATH = "/api/items/3";
+
+    // SecurityConfig whitelist와 같은 순서
+    private static final List<String> WHITELIST = List.of(
+            "/api/accounts/refresh",
+            "/api/accounts/sign-in",
+            "/api/accounts/sign-up",
+            "/api/accounts/mail",
+            "/api/accounts/password",
+            "/api/accounts/duplication/**",
+            "/api/items",
+            "/api/items/*/**",
+            "/api/items/count",
+            "/api/items/search/**",
+            "/api/items/search/count",
+            "/api/categories",
+            "/api/tokens/re-issue",
+            "/api/authorizes/**"
+    );
+
+    private final AntPathMatcher antPathMatcher = new AntPathMatcher();
+
+    private TokenRequestFilter filterWithoutBypass;
+    private TokenRequestFilter filterWithBypass;
+    private PublicRouteTable publicRouteTable;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        final TokenProvider tokenProvider = new TokenProvider(new JwtKeyring(SECRET, "", 0, true));
+        publicRouteTable = new PublicRouteTable(List.of("/api/items/**", "/api/categories"));
+
+        filterWithoutBypass = new TokenRequestFilter(tokenProvider, this::notUsed, new PublicRouteTable(List.of()));
+        filterWithBypass = new TokenRequestFilter(tokenProvider, this::notUsed, publicRouteTable);
+        accessToken = tokenProvider.createToken("junsu0325", 9L, AccountRole.USER, ONE_HOUR);
+    }
+
+    @Benchmark
+    public boolean linearAntMatchers() {
+        for (String pattern : WHITELIST) {
+            if (antPathMatcher.match(pattern, PATH)) return true;
+        }
+        return false;
+    }
+
+    @Benchmark
+    public boolean routeTable() {
+        return publicRouteTable.isPublic("GET", PATH);
+    }
+
+    @Benchmark
+    public MockHttpServletRequest filterWithoutBypass() throws Exception {
+        return doFilter(filterWithoutBypass);
+    }
+
+    @Benchmark
+    public MockHttpServletRequest filterWithBypass() throws Exception {
+        return doFilter(filterWithBypass);
+    }
+
+    private MockHttpServletRequest doFilter(TokenRequestFilter filter) throws Exception {
+        final MockHttpServletRequest request = new MockHttpServletRequest("GET", PATH);
+        request.setServletPath(PATH);
+        request.addHeader(TokenMessage.ACCESS_TOKEN, TokenMessage.BEARER + accessToken);
+
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        SecurityContextHolder.clearContext();
+        return request;
+    }
+
+    private UserDetails notUsed(String username) {
+        throw new UsernameNotFoundException(username);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(TokenRequestFilterBenchmark.class.getSimpleName())
+                .build()
+        ).run();
+    }
+}
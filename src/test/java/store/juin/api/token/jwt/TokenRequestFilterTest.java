@@ -0,0 +1,160 @@
+package store.juin.api.token.jwt;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.util.ReflectionTestUtils;
+import store.juin.api.account.enumeration.AccountRole;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static store.juin.api.util.TimeUtil.ONE_HOUR;
+
+@ExtendWith(MockitoExtension.class)
+class TokenRequestFilterTest {
+    private static final String SECRET = "SlotZUNvbW1lcmNlSlotZUNvbW1lcmNlSlotZUNvbW1lcmNlSlotZUNvbW1lcmNlSlotZUNvbW1lcmNlSlotZUNvbW1lcmNlSlotZUNvbW1lcmNlSlotZUNvbW1lcmNl";
+
+    private TokenRequestFilter sut;
+
+    private final TokenProvider tokenProvider = new TokenProvider(new JwtKeyring(SECRET, "", 0, true));
+
+    @Mock
+    private UserDetailsService userDetailsService;
+
+    @BeforeEach
+    void setUp() {
+        sut = new TokenRequestFilter(tokenProvider, userDetailsService, new PublicRouteTable(List.of("/api/items/**", "/api/categories")));
+        ReflectionTestUtils.setField(sut, "dbLookupPathList", List.of("/api/admin/**"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Nested
+    @DisplayName("doFilterInternal 테스트")
+    class DoFilterInternalTest {
+        @Test
+        @DisplayName("claim만으로 인증한다")
+        void doFilterInternalTest01() throws Exception {
+            // given
+            var accessToken = tokenProvider.createToken("junsu0325", 9L, AccountRole.USER, ONE_HOUR);
+            var request = makeRequest("/api/carts", accessToken);
+
+            // when
+            sut.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+            // then
+            final Authentication actual = SecurityContextHolder.getContext().getAuthentication();
+            assertEquals("junsu0325", actual.getName());
+            assertEquals(9L, ((TokenUser) actual.getPrincipal()).getAccountId());
+            assertEquals(List.of("ROLE_USER"), toAuthorityList(actual));
+            verify(userDetailsService, never()).loadUserByUsername(anyString());
+        }
+
+        @Test
+        @DisplayName("DB 조회 경로면 계정을 다시 읽는다")
+        void doFilterInternalTest02() throws Exception {
+            // given
+            var accessToken = tokenProvider.createToken("junsu0325", 9L, AccountRole.ADMIN, ONE_HOUR);
+            var request = makeRequest("/api/admin/caches", accessToken);
+            given(userDetailsService.loadUserByUsername("junsu0325")).willReturn(makeUser("USER"));
+
+            // when
+            sut.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+            // then
+            final Authentication actual = SecurityContextHolder.getContext().getAuthentication();
+            assertEquals(List.of("ROLE_USER"), toAuthorityList(actual));
+        }
+
+        @Test
+        @DisplayName("claim이 없는 예전 토큰이면 계정을 다시 읽는다")
+        void doFilterInternalTest03() throws Exception {
+            // given
+            var accessToken = tokenProvider.createToken("junsu0325", ONE_HOUR);
+            var request = makeRequest("/api/carts", accessToken);
+            given(userDetailsService.loadUserByUsername("junsu0325")).willReturn(makeUser("ADMIN"));
+
+            // when
+            sut.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+            // then
+            final Authentication actual = SecurityContextHolder.getContext().getAuthentication();
+            assertEquals(List.of("ROLE_ADMIN"), toAuthorityList(actual));
+        }
+
+        @Test
+        @DisplayName("서명이 잘못된 토큰")
+        void doFilterInternalTest04() throws Exception {
+            // given
+            var accessToken = tokenProvider.createToken("junsu0325", 9L, AccountRole.USER, ONE_HOUR) + "x";
+            var request = makeRequest("/api/carts", accessToken);
+
+            // when
+            sut.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+            // then
+            assertNull(SecurityContextHolder.getContext().getAuthentication());
+            assertTrue(request.getAttribute(TokenMessage.EXCEPTION) instanceof Exception);
+        }
+
+        @Test
+        @DisplayName("공개 조회 경로면 토큰을 파싱하지 않는다")
+        void doFilterInternalTest05() throws Exception {
+            // given
+            var accessToken = tokenProvider.createToken("junsu0325", 9L, AccountRole.USER, ONE_HOUR) + "x";
+            var request = makeRequest("/api/items/3", accessToken);
+
+            // when
+            sut.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+            // then
+            assertNull(SecurityContextHolder.getContext().getAuthentication());
+            assertNull(request.getAttribute(TokenMessage.EXCEPTION));
+        }
+    }
+
+    private MockHttpServletRequest makeRequest(String path, String accessToken) {
+        var request = new MockHttpServletRequest("GET", path);
+        request.setServletPath(path);
+        request.addHeader(TokenMessage.ACCESS_TOKEN, TokenMessage.BEARER + accessToken);
+        return request;
+    }
+
+    private User makeUser(String role) {
+        return (User) User.builder()
+                .username("junsu0325")
+                .password("passwordHash")
+                .roles(role)
+                .build();
+    }
+
+    private List<String> toAuthorityList(Authentication authentication) {
+        return authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .collect(Collectors.toList());
+    }
+}
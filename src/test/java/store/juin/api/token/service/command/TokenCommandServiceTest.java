@@ -9,22 +9,35 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
-import store.juin.api.account.model.entity.Account;
+import store.juin.api.account.enumeration.AccountRole;
+import store.juin.api.account.service.query.AccountQueryService;
 import store.juin.api.common.exception.Msg;
 import store.juin.api.common.handler.CommandTransactional;
 import store.juin.api.token.exception.InvalidRefreshTokenException;
+import store.juin.api.token.jwt.RefreshTokenRevocationSet;
 import store.juin.api.token.jwt.TokenMessage;
 import store.juin.api.token.jwt.TokenProvider;
 import store.juin.api.token.model.entity.Token;
+import store.juin.api.token.model.response.RefreshTokenOwner;
 import store.juin.api.token.repository.jpa.TokenRepository;
 import store.juin.api.token.service.TokenCommandService;
 import store.juin.api.token.service.TokenQueryService;
+import store.juin.api.util.HashUtil;
+
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static store.juin.api.common.EntityUtil.makeAccount;
 
 @ExtendWith(SpringExtension.class)
 class TokenCommandServiceTest {
@@ -43,6 +56,12 @@ class TokenCommandServiceTest {
     @Mock
     private TokenProvider tokenProvider;
 
+    @Mock
+    private AccountQueryService accountQueryService;
+
+    @Spy
+    private RefreshTokenRevocationSet refreshTokenRevocationSet;
+
     @Nested
     @DisplayName("addAccessToken 테스트")
     class AddAccessTokenTest {
@@ -50,12 +69,15 @@ class TokenCommandServiceTest {
         @DisplayName("엑세스 토큰 발급 성공")
         void addAccessTokenTest01() {
             // given
-            var email = "ogu@gmail.com";
+            var account = makeAccount("passwordHash");
+            var identification = account.getIdentification();
             var token = "token";
-            given(tokenProvider.createToken(email, TokenMessage.ACCESS_TOKEN_VALIDATION_TIME)).willReturn(token);
+            given(accountQueryService.readByIdentification(identification)).willReturn(account);
+            given(tokenProvider.createToken(identification, account.getId(), account.getAccountRole(), TokenMessage.ACCESS_TOKEN_VALIDATION_TIME))
+                    .willReturn(token);
 
             // when
-            final String actual = sut.addAccessToken(email);
+            final String actual = sut.addAccessToken(identification);
 
             // then
             assertEquals(token, actual);
@@ -69,12 +91,15 @@ class TokenCommandServiceTest {
         @DisplayName("리프레쉬 토큰 발급 성공")
         void addAccessTokenTest01() {
             // given
-            var email = "ogu@gmail.com";
+            var account = makeAccount("passwordHash");
+            var identification = account.getIdentification();
             var token = "token";
-            given(tokenProvider.createToken(email, TokenMessage.ACCESS_TOKEN_VALIDATION_TIME)).willReturn(token);
+            given(accountQueryService.readByIdentification(identification)).willReturn(account);
+            given(tokenProvider.createToken(identification, account.getId(), account.getAccountRole(), TokenMessage.ACCESS_TOKEN_VALIDATION_TIME))
+                    .willReturn(token);
 
             // when
-            final String actual = sut.addAccessToken(email);
+            final String actual = sut.addAccessToken(identification);
 
             // then
             assertEquals(token, actual);
@@ -90,23 +115,20 @@ class TokenCommandServiceTest {
             // given
             var email = "ogu@gmail.com";
             var refreshToken = "refreshToken";
-            var token = Token.builder()
-                    .refreshToken(refreshToken)
-                    .build();
             given(tokenProvider.createToken(email, TokenMessage.REFRESH_TOKEN_VALIDATION_TIME))
                     .willReturn(refreshToken);
-            given(tokenRepository.findByIdentification(email)).willReturn(null);
-            given(tokenRepository.save(any())).willReturn(token);
+            given(tokenQueryService.readByIdentification(email)).willReturn(null);
 
             // when
             final String actual = sut.upsertRefreshToken(email);
 
             // then
             assertEquals(refreshToken, actual);
+            verify(tokenRepository, times(1)).save(any());
         }
 
         @Test
-        @DisplayName("리프레시 토큰 DB에 update")
+        @DisplayName("리프레시 토큰 DB에 update, 이전 토큰은 폐기")
         void upsertRefreshTokenTest02() {
             // given
             var email = "ogu@gmail.com";
@@ -114,7 +136,7 @@ class TokenCommandServiceTest {
             var afterRefreshToken = "afterRefreshToken";
 
             var token = Token.builder()
-                    .refreshToken(beforeRefreshToken)
+                    .refreshTokenHash(HashUtil.sha256Hex(beforeRefreshToken))
                     .build();
             given(tokenProvider.createToken(email, TokenMessage.REFRESH_TOKEN_VALIDATION_TIME))
                     .willReturn(afterRefreshToken);
@@ -124,7 +146,36 @@ class TokenCommandServiceTest {
             String actual = sut.upsertRefreshToken(email);
 
             // then
-            assertEquals(afterRefreshToken, actual);
+            assertAll(
+                    () -> assertEquals(afterRefreshToken, actual),
+                    () -> assertEquals(HashUtil.sha256Hex(afterRefreshToken), token.getRefreshTokenHash()),
+                    () -> assertTrue(refreshTokenRevocationSet.isRevoked(HashUtil.sha256Hex(beforeRefreshToken)))
+            );
+        }
+
+        @Test
+        @DisplayName("이전 토큰과 hash가 같으면 폐기하지 않는다")
+        void upsertRefreshTokenTest03() {
+            // given
+            var email = "ogu@gmail.com";
+            var refreshToken = "refreshToken";
+
+            var token = Token.builder()
+                    .refreshTokenHash(HashUtil.sha256Hex(refreshToken))
+                    .build();
+            given(tokenProvider.createToken(email, TokenMessage.REFRESH_TOKEN_VALIDATION_TIME))
+                    .willReturn(refreshToken);
+            given(tokenQueryService.readByIdentification(email)).willReturn(token);
+
+            // when
+            String actual = sut.upsertRefreshToken(email);
+
+            // then
+            assertAll(
+                    () -> assertEquals(refreshToken, actual),
+                    () -> assertEquals(HashUtil.sha256Hex(refreshToken), token.getRefreshTokenHash()),
+                    () -> assertFalse(refreshTokenRevocationSet.isRevoked(HashUtil.sha256Hex(refreshToken)))
+            );
         }
     }
 
@@ -137,20 +188,15 @@ class TokenCommandServiceTest {
             // given
             var expected = TokenMessage.ACCESS_TOKEN;
             var refreshToken = TokenMessage.REFRESH_TOKEN;
+            var refreshTokenHash = HashUtil.sha256Hex(refreshToken);
             var identification = "identification";
 
-            var account = Account.builder()
-                    .identification(identification)
-                    .build();
-
-            var token = Token.builder()
-                    .refreshToken(refreshToken)
-                    .build();
+            var owner = new RefreshTokenOwner(1L, identification, AccountRole.USER, refreshTokenHash);
 
             given(tokenProvider.isValidToken(refreshToken)).willReturn(true);
-            given(tokenQueryService.readByRefreshToken(refreshToken)).willReturn(account);
-            given(tokenQueryService.readByIdentification(anyString())).willReturn(token);
-            given(tokenProvider.createToken(identification, TokenMessage.ACCESS_TOKEN_VALIDATION_TIME)).willReturn(expected);
+            given(tokenQueryService.readOwnerByRefreshTokenHash(refreshTokenHash)).willReturn(Optional.of(owner));
+            given(tokenProvider.createToken(identification, 1L, AccountRole.USER, TokenMessage.ACCESS_TOKEN_VALIDATION_TIME))
+                    .willReturn(expected);
 
             // when
             final String actual = sut.reIssue(refreshToken);
@@ -180,31 +226,64 @@ class TokenCommandServiceTest {
         @DisplayName("존재하지 않는 토큰")
         void reIssueTest03() {
             // given
-            var refreshToken1 = "refreshToken1";
-            var refreshToken2 = "refreshToken2";
+            var refreshToken = "refreshToken";
 
-            var identification = "identification";
+            given(tokenProvider.isValidToken(refreshToken)).willReturn(true);
+            given(tokenQueryService.readOwnerByRefreshTokenHash(anyString())).willReturn(Optional.empty());
 
-            var account = Account.builder()
-                    .identification(identification)
-                    .build();
+            // when
+            final AbstractThrowableAssert<?, ? extends Throwable> actual =
+                    assertThatThrownBy(() -> sut.reIssue(refreshToken));
 
-            var token = Token.builder()
-                    .refreshToken(refreshToken2)
-                    .build();
+            // then
+            actual
+                    .isInstanceOf(InvalidRefreshTokenException.class)
+                    .hasMessage(Msg.INVALID_REFRESH_TOKEN);
+        }
 
-            given(tokenProvider.isValidToken(refreshToken1)).willReturn(true);
-            given(tokenQueryService.readByRefreshToken(refreshToken1)).willReturn(account);
-            given(tokenQueryService.readByIdentification(anyString())).willReturn(token);
+        @Test
+        @DisplayName("폐기된 토큰은 DB를 읽지 않고 거절")
+        void reIssueTest04() {
+            // given
+            var refreshToken = "refreshToken";
+            refreshTokenRevocationSet.revoke(HashUtil.sha256Hex(refreshToken));
+            given(tokenProvider.isValidToken(refreshToken)).willReturn(true);
 
             // when
             final AbstractThrowableAssert<?, ? extends Throwable> actual =
-                    assertThatThrownBy(() -> sut.reIssue(refreshToken1));
+                    assertThatThrownBy(() -> sut.reIssue(refreshToken));
 
             // then
             actual
                     .isInstanceOf(InvalidRefreshTokenException.class)
                     .hasMessage(Msg.INVALID_REFRESH_TOKEN);
+            verify(tokenQueryService, never()).readOwnerByRefreshTokenHash(anyString());
+        }
+    }
+
+    @Nested
+    @DisplayName("revokeRefreshToken 테스트")
+    class RevokeRefreshTokenTest {
+        @Test
+        @DisplayName("DB hash를 지우고 폐기 목록에 넣는다")
+        void revokeRefreshTokenTest01() {
+            // given
+            var identification = "identification";
+            var refreshTokenHash = HashUtil.sha256Hex("refreshToken");
+            var token = Token.builder()
+                    .identification(identification)
+                    .refreshTokenHash(refreshTokenHash)
+                    .build();
+            given(tokenQueryService.readByIdentification(identification)).willReturn(token);
+
+            // when
+            sut.revokeRefreshToken(identification);
+
+            // then
+            assertAll(
+                    () -> assertEquals("", token.getRefreshTokenHash()),
+                    () -> assertTrue(refreshTokenRevocationSet.isRevoked(refreshTokenHash))
+            );
         }
     }
-}
\ No newline at end of file
+}
@@ -1,6 +1,5 @@
 package store.juin.api.token.service.query;
 
-import org.assertj.core.api.AbstractThrowableAssert;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -8,20 +7,17 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.userdetails.User;
-import org.springframework.security.core.userdetails.UserDetailsService;
-import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
+import store.juin.api.account.enumeration.AccountRole;
 import store.juin.api.common.handler.QueryTransactional;
-import store.juin.api.principal.service.query.PrincipalQueryService;
-import store.juin.api.token.jwt.TokenProvider;
+import store.juin.api.token.model.response.RefreshTokenOwner;
 import store.juin.api.token.repository.jpa.TokenRepository;
 import store.juin.api.token.service.TokenQueryService;
 
-import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import java.util.Optional;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.BDDMockito.given;
 
 @ExtendWith(SpringExtension.class)
@@ -34,64 +30,38 @@ class TokenQueryServiceTest {
     @Mock
     private TokenRepository tokenRepository;
 
-    @Mock
-    private TokenProvider tokenProvider;
-    @Mock
-    private UserDetailsService userDetailsService;
-    @Mock
-    private PrincipalQueryService principalQueryService;
-
     @Nested
-    @DisplayName("리프레시 토큰으로 인증 정보 만들기 테스트")
-    class MakeAuthenticationByRefreshTokenTest {
+    @DisplayName("리프레시 토큰 hash로 소유자 읽기 테스트")
+    class ReadOwnerByRefreshTokenHashTest {
         @Test
-        @DisplayName("발급 성공")
+        @DisplayName("hash가 있으면 계정 정보를 돌려준다")
         void test01() {
             // given
-            var email = "email";
-            var refreshToken = "refreshToken";
-            var userDetails = User.builder()
-                    .username("username")
-                    .password("password")
-                    .authorities("authorities")
-                    .build();
-            var usernamePasswordAuthenticationToken
-                    = new UsernamePasswordAuthenticationToken(userDetails, "", userDetails.getAuthorities());
+            var refreshTokenHash = "refreshTokenHash";
+            var owner = new RefreshTokenOwner(1L, "juin", AccountRole.USER, refreshTokenHash);
 
-            given(tokenProvider.getEmailFromToken(refreshToken)).willReturn(email);
-            given(userDetailsService.loadUserByUsername(email)).willReturn(userDetails);
+            given(tokenRepository.findOwnerByRefreshTokenHash(refreshTokenHash)).willReturn(Optional.of(owner));
 
             // when
-            Authentication actual = sut.makeAuthenticationByRefreshToken(refreshToken);
+            final Optional<RefreshTokenOwner> actual = sut.readOwnerByRefreshTokenHash(refreshTokenHash);
 
             // then
-            assertEquals(usernamePasswordAuthenticationToken, actual);
+            assertEquals(owner, actual.orElseThrow());
         }
 
         @Test
-        @DisplayName("존재하지 않는 계정")
+        @DisplayName("hash가 없으면 빈 값")
         void test02() {
             // given
-            var email = "email";
-            var refreshToken = "refreshToken";
-            var userDetails = User.builder()
-                    .username("username")
-                    .password("password")
-                    .authorities("authorities")
-                    .build();
-            UsernamePasswordAuthenticationToken usernamePasswordAuthenticationToken
-                    = new UsernamePasswordAuthenticationToken(userDetails, "", userDetails.getAuthorities());
+            var refreshTokenHash = "unknownHash";
 
-            given(tokenProvider.getEmailFromToken(refreshToken)).willReturn(email);
-            given(userDetailsService.loadUserByUsername(email)).willThrow(new UsernameNotFoundException(""));
+            given(tokenRepository.findOwnerByRefreshTokenHash(refreshTokenHash)).willReturn(Optional.empty());
 
             // when
-            AbstractThrowableAssert<?, ? extends Throwable> actual =
-                    assertThatThrownBy(() -> sut.makeAuthenticationByRefreshToken(refreshToken));
+            final Optional<RefreshTokenOwner> actual = sut.readOwnerByRefreshTokenHash(refreshTokenHash);
 
             // then
-            actual.isInstanceOf(UsernameNotFoundException.class);
+            assertTrue(actual.isEmpty());
         }
     }
-
-}
\ No newline at end of file
+}
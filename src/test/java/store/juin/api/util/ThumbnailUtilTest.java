@@ -0,0 +1,137 @@
+package store.juin.api.util;
+
+import org.assertj.core.api.AbstractThrowableAssert;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import store.juin.api.common.exception.JUINIOException;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ThumbnailUtilTest {
+    private static final long MAX_PIXELS = 50_000_000L;
+
+    @Nested
+    @DisplayName("resizeToWidths 테스트")
+    class ResizeToWidthsTest {
+        @Test
+        @DisplayName("큰 이미지를 한 번 읽어 너비별로 비율을 유지하며 줄인다")
+        void resizeToWidthsTest01() throws Exception {
+            // given
+            var multipartFile = makeImageFile(4000, 3000, BufferedImage.TYPE_3BYTE_BGR, "jpg");
+
+            // when
+            final Map<Integer, BufferedImage> actual = ThumbnailUtil.resizeToWidths(multipartFile.getInputStream(), List.of(400, 160, 800), MAX_PIXELS);
+
+            // then
+            assertEquals(List.of(160, 400, 800), new ArrayList<>(actual.keySet()));
+            assertEquals(120, actual.get(160).getHeight());
+            assertEquals(300, actual.get(400).getHeight());
+            assertEquals(600, actual.get(800).getHeight());
+            assertFalse(actual.get(400).getColorModel().hasAlpha());
+        }
+
+        @Test
+        @DisplayName("원본보다 큰 너비는 늘리지 않는다")
+        void resizeToWidthsTest02() throws Exception {
+            // given
+            var multipartFile = makeImageFile(500, 250, BufferedImage.TYPE_3BYTE_BGR, "jpg");
+
+            // when
+            final Map<Integer, BufferedImage> actual = ThumbnailUtil.resizeToWidths(multipartFile.getInputStream(), List.of(160, 400, 800), MAX_PIXELS);
+
+            // then
+            assertEquals(List.of(160, 400), new ArrayList<>(actual.keySet()));
+        }
+
+        @Test
+        @DisplayName("모든 너비가 원본보다 크면 원본 너비로 하나만 만든다")
+        void resizeToWidthsTest03() throws Exception {
+            // given
+            var multipartFile = makeImageFile(100, 50, BufferedImage.TYPE_3BYTE_BGR, "jpg");
+
+            // when
+            final Map<Integer, BufferedImage> actual = ThumbnailUtil.resizeToWidths(multipartFile.getInputStream(), List.of(160, 400), MAX_PIXELS);
+
+            // then
+            assertEquals(List.of(100), new ArrayList<>(actual.keySet()));
+            assertEquals(50, actual.get(100).getHeight());
+        }
+
+        @Test
+        @DisplayName("투명도가 있는 이미지는 투명도를 유지한다")
+        void resizeToWidthsTest04() throws Exception {
+            // given
+            var multipartFile = makeImageFile(800, 800, BufferedImage.TYPE_INT_ARGB, "png");
+
+            // when
+            final Map<Integer, BufferedImage> actual = ThumbnailUtil.resizeToWidths(multipartFile.getInputStream(), List.of(400), MAX_PIXELS);
+
+            // then
+            assertTrue(actual.get(400).getColorModel().hasAlpha());
+        }
+
+        @Test
+        @DisplayName("세로로 긴 이미지는 높이까지 보고 건너뛰며 읽는다")
+        void resizeToWidthsTest05() throws Exception {
+            // given
+            var multipartFile = makeImageFile(200, 3200, BufferedImage.TYPE_3BYTE_BGR, "jpg");
+
+            // when
+            final Map<Integer, BufferedImage> actual = ThumbnailUtil.resizeToWidths(multipartFile.getInputStream(), List.of(160), MAX_PIXELS);
+
+            // then
+            assertEquals(List.of(100), new ArrayList<>(actual.keySet()));
+            assertEquals(1600, actual.get(100).getHeight());
+        }
+
+        @Test
+        @DisplayName("픽셀 수가 상한을 넘으면 디코딩하지 않고 예외")
+        void resizeToWidthsTest06() throws Exception {
+            // given
+            var multipartFile = makeImageFile(400, 300, BufferedImage.TYPE_3BYTE_BGR, "jpg");
+
+            // when
+            final AbstractThrowableAssert<?, ? extends Throwable> actual =
+                    assertThatThrownBy(() -> ThumbnailUtil.resizeToWidths(multipartFile.getInputStream(), List.of(160), 400 * 300 - 1));
+
+            // then
+            actual.isInstanceOf(JUINIOException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("encode 테스트")
+    class EncodeTest {
+        @Test
+        @DisplayName("임시 파일 없이 다시 읽을 수 있는 바이트로 만든다")
+        void encodeTest01() throws Exception {
+            // given
+            var image = new BufferedImage(400, 400, BufferedImage.TYPE_INT_RGB);
+
+            // when
+            final byte[] actual = ThumbnailUtil.encode(image, "jpg");
+
+            // then
+            assertEquals(400, ImageIO.read(new ByteArrayInputStream(actual)).getWidth());
+        }
+    }
+
+    private MockMultipartFile makeImageFile(int width, int height, int type, String extension) throws Exception {
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, type), extension, outputStream);
+        return new MockMultipartFile("image", "item." + extension, "image/" + extension, outputStream.toByteArray());
+    }
+}